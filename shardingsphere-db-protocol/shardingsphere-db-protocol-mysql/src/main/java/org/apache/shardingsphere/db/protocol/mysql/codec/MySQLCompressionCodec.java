@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed packet codec for MySQL, which wraps plain MySQL packets into zlib compressed packets after client negotiated {@code CLIENT_COMPRESS}.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet Header</a>
+ */
+public final class MySQLCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private final int threshold;
+    
+    private final Deflater deflater;
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final byte[] deflateBuffer = new byte[8192];
+    
+    private int sequenceId;
+    
+    public MySQLCompressionCodec(final int threshold, final int level) {
+        this.threshold = threshold;
+        deflater = new Deflater(level);
+    }
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        while (in.readableBytes() >= HEADER_LENGTH) {
+            int readerIndex = in.readerIndex();
+            int compressedLength = in.getUnsignedMediumLE(readerIndex);
+            if (in.readableBytes() < HEADER_LENGTH + compressedLength) {
+                return;
+            }
+            sequenceId = in.getUnsignedByte(readerIndex + 3) + 1;
+            int uncompressedLength = in.getUnsignedMediumLE(readerIndex + 4);
+            in.skipBytes(HEADER_LENGTH);
+            out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(context, in, compressedLength, uncompressedLength));
+        }
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf in, final int compressedLength, final int uncompressedLength) throws DataFormatException {
+        inflater.reset();
+        inflater.setInput(ByteBufUtil.getBytes(in, in.readerIndex(), compressedLength, false));
+        in.skipBytes(compressedLength);
+        ByteBuf result = context.alloc().heapBuffer(uncompressedLength);
+        try {
+            int inflatedLength = inflater.inflate(result.array(), result.arrayOffset() + result.writerIndex(), uncompressedLength);
+            if (inflatedLength != uncompressedLength || !inflater.finished()) {
+                throw new DataFormatException(String.format("Expected %d bytes after inflating compressed packet, but got %d", uncompressedLength, inflatedLength));
+            }
+            result.writerIndex(result.writerIndex() + inflatedLength);
+            return result;
+        } catch (final DataFormatException ex) {
+            result.release();
+            throw ex;
+        }
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final ByteBuf message, final ByteBuf out) {
+        while (message.isReadable()) {
+            int length = Math.min(message.readableBytes(), MAX_PAYLOAD_LENGTH);
+            if (length < threshold || !writeCompressed(message, length, out)) {
+                writeUncompressed(message, length, out);
+            }
+        }
+    }
+    
+    private boolean writeCompressed(final ByteBuf message, final int length, final ByteBuf out) {
+        final int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        deflater.reset();
+        deflater.setInput(ByteBufUtil.getBytes(message, message.readerIndex(), length, false));
+        deflater.finish();
+        while (!deflater.finished()) {
+            out.writeBytes(deflateBuffer, 0, deflater.deflate(deflateBuffer));
+        }
+        int compressedLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (compressedLength >= length) {
+            out.writerIndex(headerIndex);
+            return false;
+        }
+        out.setMediumLE(headerIndex, compressedLength);
+        out.setByte(headerIndex + 3, nextSequenceId());
+        out.setMediumLE(headerIndex + 4, length);
+        message.skipBytes(length);
+        return true;
+    }
+    
+    private void writeUncompressed(final ByteBuf message, final int length, final ByteBuf out) {
+        out.writeMediumLE(length);
+        out.writeByte(nextSequenceId());
+        out.writeMediumLE(0);
+        out.writeBytes(message, length);
+    }
+    
+    private int nextSequenceId() {
+        int result = sequenceId;
+        sequenceId = (sequenceId + 1) & 0xff;
+        return result;
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        try {
+            super.handlerRemoved(context);
+        } finally {
+            deflater.end();
+            inflater.end();
+        }
+    }
+}
@@ -18,10 +18,16 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.error.CommonErrorCode;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
@@ -38,6 +44,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     private static final int SEQUENCE_LENGTH = 1;
     
+    private static final AttributeKey<CompositeByteBuf> PENDING_PACKET_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLPacketCodecEngine.class.getName() + ".PENDING_PACKET");
+    
+    private static final AttributeKey<Integer> SEQUENCE_OFFSET_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLPacketCodecEngine.class.getName() + ".SEQUENCE_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes >= PAYLOAD_LENGTH + SEQUENCE_LENGTH;
@@ -45,17 +55,76 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
-        int payloadLength = in.markReaderIndex().readMediumLE();
+        int payloadLength = in.markReaderIndex().readUnsignedMediumLE();
+        Attribute<CompositeByteBuf> pendingPacketAttribute = context.channel().attr(PENDING_PACKET_ATTRIBUTE_KEY);
+        CompositeByteBuf pendingPacket = pendingPacketAttribute.get();
+        if (isPacketTooLarge(context, null == pendingPacket ? payloadLength : (long) pendingPacket.readableBytes() - SEQUENCE_LENGTH + payloadLength)) {
+            rejectPacket(context, in, pendingPacketAttribute);
+            return;
+        }
         int remainPayloadLength = SEQUENCE_LENGTH + payloadLength;
         if (in.readableBytes() < remainPayloadLength) {
             in.resetReaderIndex();
             return;
         }
-        out.add(in.readRetainedSlice(SEQUENCE_LENGTH + payloadLength));
+        if (null == pendingPacket && MySQLPacketSplitter.MAX_PAYLOAD_LENGTH != payloadLength) {
+            resetSequenceOffset(context);
+            out.add(in.readRetainedSlice(remainPayloadLength));
+            return;
+        }
+        if (null == pendingPacket) {
+            pendingPacket = createPendingPacket(context, pendingPacketAttribute);
+        }
+        short sequenceId = in.readUnsignedByte();
+        pendingPacket.addComponent(true, in.readRetainedSlice(payloadLength));
+        if (MySQLPacketSplitter.MAX_PAYLOAD_LENGTH != payloadLength) {
+            pendingPacketAttribute.set(null);
+            resetSequenceOffset(context);
+            out.add(pendingPacket.setByte(0, sequenceId));
+        }
+    }
+    
+    private boolean isPacketTooLarge(final ChannelHandlerContext context, final long packetLength) {
+        if (!context.channel().hasAttr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY)) {
+            return false;
+        }
+        Integer maxAllowedPacket = context.channel().attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY).get();
+        return null != maxAllowedPacket && maxAllowedPacket > 0 && packetLength > maxAllowedPacket;
+    }
+    
+    private void rejectPacket(final ChannelHandlerContext context, final ByteBuf in, final Attribute<CompositeByteBuf> pendingPacketAttribute) {
+        CompositeByteBuf pendingPacket = pendingPacketAttribute.getAndSet(null);
+        if (null != pendingPacket) {
+            pendingPacket.release();
+        }
+        short sequenceId = in.readUnsignedByte();
+        in.skipBytes(in.readableBytes());
+        context.channel().config().setAutoRead(false);
+        context.channel().writeAndFlush(new MySQLErrPacket(sequenceId + 1, MySQLServerErrorCode.ER_NET_PACKET_TOO_LARGE)).addListener(ChannelFutureListener.CLOSE);
+    }
+    
+    private CompositeByteBuf createPendingPacket(final ChannelHandlerContext context, final Attribute<CompositeByteBuf> pendingPacketAttribute) {
+        CompositeByteBuf result = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        result.addComponent(true, context.alloc().buffer(SEQUENCE_LENGTH).writeZero(SEQUENCE_LENGTH));
+        pendingPacketAttribute.set(result);
+        context.channel().closeFuture().addListener(future -> {
+            CompositeByteBuf pendingPacket = pendingPacketAttribute.getAndSet(null);
+            if (null != pendingPacket) {
+                pendingPacket.release();
+            }
+        });
+        return result;
+    }
+    
+    private void resetSequenceOffset(final ChannelHandlerContext context) {
+        if (context.channel().hasAttr(SEQUENCE_OFFSET_ATTRIBUTE_KEY)) {
+            context.channel().attr(SEQUENCE_OFFSET_ATTRIBUTE_KEY).set(null);
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -65,7 +134,7 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             out.resetWriterIndex();
             new MySQLErrPacket(1, CommonErrorCode.UNKNOWN_EXCEPTION, ex.getMessage()).write(payload);
         } finally {
-            updateMessageHeader(out, message.getSequenceId());
+            updateMessageHeader(context, out, headerIndex, message.getSequenceId());
         }
     }
     
@@ -73,9 +142,13 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
         return out.writeInt(0);
     }
     
-    private void updateMessageHeader(final ByteBuf byteBuf, final int sequenceId) {
-        byteBuf.setMediumLE(0, byteBuf.readableBytes() - PAYLOAD_LENGTH - SEQUENCE_LENGTH);
-        byteBuf.setByte(3, sequenceId);
+    private void updateMessageHeader(final ChannelHandlerContext context, final ByteBuf byteBuf, final int headerIndex, final int sequenceId) {
+        Integer sequenceOffset = context.channel().hasAttr(SEQUENCE_OFFSET_ATTRIBUTE_KEY) ? context.channel().attr(SEQUENCE_OFFSET_ATTRIBUTE_KEY).get() : null;
+        int actualSequenceId = null == sequenceOffset ? sequenceId : sequenceId + sequenceOffset;
+        int packetsCount = MySQLPacketSplitter.split(byteBuf, headerIndex, actualSequenceId);
+        if (packetsCount > 1) {
+            context.channel().attr(SEQUENCE_OFFSET_ATTRIBUTE_KEY).set((null == sequenceOffset ? 0 : sequenceOffset) + packetsCount - 1);
+        }
     }
     
     @Override
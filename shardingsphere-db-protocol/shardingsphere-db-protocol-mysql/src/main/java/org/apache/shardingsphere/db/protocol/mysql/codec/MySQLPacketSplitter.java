@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Packet splitter for MySQL, which splits payload of 0xFFFFFF bytes or more into several packets in place.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">Sending More Than 16Mb</a>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLPacketSplitter {
+    
+    public static final int HEADER_LENGTH = 4;
+    
+    public static final int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
+    private static final int MOVE_BUFFER_SIZE = 8192;
+    
+    /**
+     * Write packet headers for payload which is written after reserved header.
+     *
+     * @param byteBuf byte buffer with reserved header at header index and payload till writer index
+     * @param headerIndex index of reserved header
+     * @param sequenceId sequence ID of first packet
+     * @return count of packets written
+     */
+    public static int split(final ByteBuf byteBuf, final int headerIndex, final int sequenceId) {
+        int payloadLength = byteBuf.writerIndex() - headerIndex - HEADER_LENGTH;
+        int extraPacketsCount = payloadLength / MAX_PAYLOAD_LENGTH;
+        if (0 == extraPacketsCount) {
+            writeHeader(byteBuf, headerIndex, payloadLength, sequenceId);
+            return 1;
+        }
+        byteBuf.writeZero(extraPacketsCount * HEADER_LENGTH);
+        byte[] moveBuffer = new byte[MOVE_BUFFER_SIZE];
+        for (int i = extraPacketsCount; i > 0; i--) {
+            int sourceIndex = headerIndex + HEADER_LENGTH + i * MAX_PAYLOAD_LENGTH;
+            int length = i == extraPacketsCount ? payloadLength - i * MAX_PAYLOAD_LENGTH : MAX_PAYLOAD_LENGTH;
+            int targetIndex = sourceIndex + i * HEADER_LENGTH;
+            moveBackward(byteBuf, sourceIndex, targetIndex, length, moveBuffer);
+            writeHeader(byteBuf, targetIndex - HEADER_LENGTH, length, sequenceId + i);
+        }
+        writeHeader(byteBuf, headerIndex, MAX_PAYLOAD_LENGTH, sequenceId);
+        return extraPacketsCount + 1;
+    }
+    
+    private static void moveBackward(final ByteBuf byteBuf, final int sourceIndex, final int targetIndex, final int length, final byte[] moveBuffer) {
+        int remaining = length;
+        while (remaining > 0) {
+            int chunkLength = Math.min(remaining, moveBuffer.length);
+            remaining -= chunkLength;
+            byteBuf.getBytes(sourceIndex + remaining, moveBuffer, 0, chunkLength);
+            byteBuf.setBytes(targetIndex + remaining, moveBuffer, 0, chunkLength);
+        }
+    }
+    
+    private static void writeHeader(final ByteBuf byteBuf, final int headerIndex, final int payloadLength, final int sequenceId) {
+        byteBuf.setMediumLE(headerIndex, payloadLength);
+        byteBuf.setByte(headerIndex + 3, sequenceId);
+    }
+}
@@ -28,4 +28,6 @@ import lombok.NoArgsConstructor;
 public final class MySQLConstants {
     
     public static final AttributeKey<MySQLCharacterSet> MYSQL_CHARACTER_SET_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLCharacterSet.class.getName());
+    
+    public static final AttributeKey<Integer> MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY = AttributeKey.valueOf(MySQLConstants.class.getName() + ".MAX_ALLOWED_PACKET");
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLPacketSplitter;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.Collection;
+
+/**
+ * Result set row encoder for MySQL, which writes row data into payload without creating row packet.
+ */
+public interface MySQLResultSetRowEncoder {
+    
+    /**
+     * Encode row data as packet body.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param data row data
+     */
+    void encode(MySQLPacketPayload payload, Collection<Object> data);
+    
+    /**
+     * Encode row data as whole packet with packet header, row data of 0xFFFFFF bytes or more will be split into several packets.
+     *
+     * @param payload payload operation for MySQL packet
+     * @param sequenceId sequence ID of first packet
+     * @param data row data
+     * @return count of packets written
+     */
+    default int encodePacket(final MySQLPacketPayload payload, final int sequenceId, final Collection<Object> data) {
+        ByteBuf byteBuf = payload.getByteBuf();
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeZero(MySQLPacketSplitter.HEADER_LENGTH);
+        encode(payload, data);
+        return MySQLPacketSplitter.split(byteBuf, headerIndex, sequenceId);
+    }
+}
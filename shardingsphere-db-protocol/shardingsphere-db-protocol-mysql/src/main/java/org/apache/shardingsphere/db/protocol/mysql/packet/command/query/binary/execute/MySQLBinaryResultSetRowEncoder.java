@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.db.protocol.binary.BinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowEncoder;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Binary result set row encoder for MySQL, binary protocol values are resolved once per result set.
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
+ */
+public final class MySQLBinaryResultSetRowEncoder implements MySQLResultSetRowEncoder {
+    
+    private static final int PACKET_HEADER = 0x00;
+    
+    private static final int NULL_BITMAP_OFFSET = 2;
+    
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final int nullBitmapLength;
+    
+    public MySQLBinaryResultSetRowEncoder(final List<? extends BinaryColumnType> columnTypes) {
+        binaryProtocolValues = new MySQLBinaryProtocolValue[columnTypes.size()];
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
+            binaryProtocolValues[i] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i));
+        }
+        nullBitmapLength = (binaryProtocolValues.length + NULL_BITMAP_OFFSET + 7) / 8;
+    }
+    
+    @Override
+    public void encode(final MySQLPacketPayload payload, final Collection<Object> data) {
+        payload.writeInt1(PACKET_HEADER);
+        ByteBuf byteBuf = payload.getByteBuf();
+        int nullBitmapIndex = byteBuf.writerIndex();
+        byteBuf.writeZero(nullBitmapLength);
+        int columnIndex = 0;
+        for (Object each : data) {
+            if (null == each) {
+                int bitIndex = columnIndex + NULL_BITMAP_OFFSET;
+                int byteIndex = nullBitmapIndex + bitIndex / 8;
+                byteBuf.setByte(byteIndex, byteBuf.getByte(byteIndex) | 1 << bitIndex % 8);
+            } else {
+                binaryProtocolValues[columnIndex].write(payload, each);
+            }
+            columnIndex++;
+        }
+    }
+}
@@ -22,10 +22,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
-import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -38,10 +34,8 @@ import java.util.Collection;
 @Getter
 public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
-    private static final int NULL = 0xfb;
-
-    private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
+    private static final MySQLTextResultSetRowEncoder ROW_ENCODER = new MySQLTextResultSetRowEncoder();
+    
     private final int sequenceId;
     
     private final Collection<Object> data;
@@ -56,24 +50,6 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     @Override
     public void write(final MySQLPacketPayload payload) {
-        for (Object each : data) {
-            if (null == each) {
-                payload.writeInt1(NULL);
-            } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else if (each instanceof LocalDateTime) {
-                    payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
-            }
-        }
+        ROW_ENCODER.encode(payload, data);
     }
 }
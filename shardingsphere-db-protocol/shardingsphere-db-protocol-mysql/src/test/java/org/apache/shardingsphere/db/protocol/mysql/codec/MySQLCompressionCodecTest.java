@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    @Test
+    public void assertEncodeBelowThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50, 6));
+        assertTrue(channel.writeOutbound(Unpooled.wrappedBuffer("select 1".getBytes(StandardCharsets.UTF_8))));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readUnsignedMediumLE(), is(8));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(0));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("select 1"));
+        actual.release();
+        assertFalse(channel.finish());
+    }
+    
+    @Test
+    public void assertEncodeAboveThreshold() {
+        byte[] expected = new byte[4096];
+        Arrays.fill(expected, (byte) 'a');
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(50, 6));
+        assertTrue(channel.writeOutbound(Unpooled.wrappedBuffer(expected)));
+        ByteBuf actual = channel.readOutbound();
+        int compressedLength = actual.readUnsignedMediumLE();
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readUnsignedMediumLE(), is(expected.length));
+        assertTrue(compressedLength < expected.length);
+        assertThat(actual.readableBytes(), is(compressedLength));
+        actual.release();
+        assertFalse(channel.finish());
+    }
+    
+    @Test
+    public void assertRoundTrip() {
+        byte[] expected = new byte[4096];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) (i % 16);
+        }
+        assertThat(roundTrip(expected), is(expected));
+    }
+    
+    @Test
+    public void assertRoundTripWithPayloadExceedsMaxLength() {
+        byte[] expected = new byte[0xFFFFFF + 100];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) (i >> 10);
+        }
+        EmbeddedChannel encoder = new EmbeddedChannel(new MySQLCompressionCodec(50, 1));
+        assertTrue(encoder.writeOutbound(Unpooled.wrappedBuffer(expected)));
+        ByteBuf encoded = encoder.readOutbound();
+        assertThat(encoded.getUnsignedMediumLE(4), is(0xFFFFFF));
+        int secondHeaderIndex = 7 + encoded.getUnsignedMediumLE(0);
+        assertThat(encoded.getUnsignedByte(secondHeaderIndex + 3), is((short) 1));
+        assertThat(encoded.getUnsignedMediumLE(secondHeaderIndex + 4), is(100));
+        assertThat(decode(encoded), is(expected));
+        assertFalse(encoder.finish());
+    }
+    
+    private byte[] roundTrip(final byte[] data) {
+        EmbeddedChannel encoder = new EmbeddedChannel(new MySQLCompressionCodec(50, 6));
+        assertTrue(encoder.writeOutbound(Unpooled.wrappedBuffer(data)));
+        byte[] result = decode(encoder.readOutbound());
+        assertFalse(encoder.finish());
+        return result;
+    }
+    
+    private byte[] decode(final ByteBuf encoded) {
+        EmbeddedChannel decoder = new EmbeddedChannel(new MySQLCompressionCodec(50, 6));
+        assertTrue(decoder.writeInbound(encoded));
+        ByteBuf result = Unpooled.buffer();
+        ByteBuf each;
+        while (null != (each = decoder.readInbound())) {
+            result.writeBytes(each);
+            each.release();
+        }
+        assertFalse(decoder.finish());
+        byte[] bytes = new byte[result.readableBytes()];
+        result.readBytes(bytes);
+        return bytes;
+    }
+}
@@ -18,9 +18,18 @@
 package org.apache.shardingsphere.db.protocol.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.AttributeKey;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerErrorCode;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,7 +81,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecode() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         when(byteBuf.readableBytes()).thenReturn(51);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
         List<Object> out = new LinkedList<>();
@@ -84,7 +93,7 @@ public final class MySQLPacketCodecEngineTest {
     public void assertDecodeWithEmptyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readableBytes()).thenReturn(1);
-        when(byteBuf.readMediumLE()).thenReturn(0);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(0);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out);
         assertThat(out.size(), is(1));
@@ -93,7 +102,7 @@ public final class MySQLPacketCodecEngineTest {
     @Test
     public void assertDecodeWithStickyPacket() {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
-        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readUnsignedMediumLE()).thenReturn(50);
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out);
         assertTrue(out.isEmpty());
@@ -103,7 +112,7 @@ public final class MySQLPacketCodecEngineTest {
     public void assertEncode() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(8);
+        when(byteBuf.writerIndex()).thenReturn(0, 8);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         when(actualMessage.getSequenceId()).thenReturn(1);
         new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
@@ -118,7 +127,7 @@ public final class MySQLPacketCodecEngineTest {
     public void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(12);
+        when(byteBuf.writerIndex()).thenReturn(0, 12);
         RuntimeException ex = mock(RuntimeException.class);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         doThrow(ex).when(actualMessage).write(any(MySQLPacketPayload.class));
@@ -131,8 +140,120 @@ public final class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    public void assertEncodeWithSplitPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        int payloadLength = MySQLPacketSplitter.MAX_PAYLOAD_LENGTH * 2 + 10;
+        assertTrue(channel.writeOutbound(new FixtureLargePacket(1, payloadLength), new FixtureLargePacket(2, 1)));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readableBytes(), is(payloadLength + 3 * MySQLPacketSplitter.HEADER_LENGTH));
+        assertPacketHeader(actual, 0, MySQLPacketSplitter.MAX_PAYLOAD_LENGTH, 1);
+        assertPacketHeader(actual, MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH, MySQLPacketSplitter.MAX_PAYLOAD_LENGTH, 2);
+        assertPacketHeader(actual, (MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH) * 2, 10, 3);
+        for (int i = 0; i < 3; i++) {
+            int payloadIndex = (MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH) * i + MySQLPacketSplitter.HEADER_LENGTH;
+            assertThat(actual.getByte(payloadIndex), is(FixtureLargePacket.getExpectedByte(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH * i)));
+        }
+        assertThat(actual.getByte(actual.writerIndex() - 1), is(FixtureLargePacket.getExpectedByte(payloadLength - 1)));
+        actual.release();
+        ByteBuf next = channel.readOutbound();
+        assertPacketHeader(next, 0, 1, 4);
+        next.release();
+        assertFalse(channel.finish());
+    }
+    
+    @Test
+    public void assertEncodeWithPayloadLengthEqualsMaxLength() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        assertTrue(channel.writeOutbound(new FixtureLargePacket(1, MySQLPacketSplitter.MAX_PAYLOAD_LENGTH)));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readableBytes(), is(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 2 * MySQLPacketSplitter.HEADER_LENGTH));
+        assertPacketHeader(actual, MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH, 0, 2);
+        actual.release();
+        assertFalse(channel.finish());
+    }
+    
+    private void assertPacketHeader(final ByteBuf byteBuf, final int headerIndex, final int payloadLength, final int sequenceId) {
+        assertThat(byteBuf.getUnsignedMediumLE(headerIndex), is(payloadLength));
+        assertThat((int) byteBuf.getUnsignedByte(headerIndex + 3), is(sequenceId));
+    }
+    
+    @Test
+    public void assertDecodeWithSplitPacket() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        ByteBuf first = Unpooled.buffer(MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        first.writeMediumLE(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH - 1).writeByte(1);
+        assertFalse(channel.writeInbound(first));
+        ByteBuf second = Unpooled.buffer().writeMediumLE(2).writeByte(1).writeByte(2).writeByte(3);
+        assertTrue(channel.writeInbound(second));
+        ByteBuf actual = channel.readInbound();
+        assertThat(actual.readableBytes(), is(1 + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 2));
+        assertThat(actual.getByte(0), is((byte) 1));
+        assertThat(actual.getByte(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH), is((byte) 1));
+        assertThat(actual.getByte(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 1), is((byte) 2));
+        assertThat(actual.getByte(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 2), is((byte) 3));
+        actual.release();
+        assertFalse(channel.finish());
+    }
+    
+    @Test
+    public void assertDecodeWithPacketTooLarge() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        channel.attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY).set(10);
+        assertFalse(channel.writeInbound(Unpooled.buffer().writeMediumLE(11).writeByte(0).writeZero(11)));
+        assertRejected(channel, 1);
+    }
+    
+    @Test
+    public void assertDecodeWithSplitPacketTooLarge() {
+        EmbeddedChannel channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        channel.attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY).set(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH + 1);
+        ByteBuf first = Unpooled.buffer(MySQLPacketSplitter.HEADER_LENGTH + MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        first.writeMediumLE(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH).writeByte(0).writeZero(MySQLPacketSplitter.MAX_PAYLOAD_LENGTH);
+        assertFalse(channel.writeInbound(first));
+        assertTrue(channel.isOpen());
+        assertFalse(channel.writeInbound(Unpooled.buffer().writeMediumLE(2).writeByte(1).writeZero(2)));
+        assertRejected(channel, 2);
+    }
+    
+    private void assertRejected(final EmbeddedChannel channel, final int sequenceId) {
+        ByteBuf actual = channel.readOutbound();
+        assertThat((int) actual.getUnsignedByte(MySQLPacketSplitter.HEADER_LENGTH - 1), is(sequenceId));
+        assertThat(actual.getUnsignedByte(MySQLPacketSplitter.HEADER_LENGTH), is((short) MySQLErrPacket.HEADER));
+        assertThat(actual.getUnsignedShortLE(MySQLPacketSplitter.HEADER_LENGTH + 1), is(MySQLServerErrorCode.ER_NET_PACKET_TOO_LARGE.getErrorCode()));
+        actual.release();
+        assertFalse(channel.isOpen());
+        assertFalse(channel.config().isAutoRead());
+    }
+    
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
     }
+    
+    @RequiredArgsConstructor
+    private static final class FixtureLargePacket implements MySQLPacket {
+        
+        @Getter
+        private final int sequenceId;
+        
+        private final int length;
+        
+        static byte getExpectedByte(final int index) {
+            return (byte) (index % 127);
+        }
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            ByteBuf byteBuf = payload.getByteBuf();
+            byteBuf.ensureWritable(length);
+            for (int i = 0; i < length; i++) {
+                byteBuf.writeByte(getExpectedByte(i));
+            }
+        }
+    }
 }
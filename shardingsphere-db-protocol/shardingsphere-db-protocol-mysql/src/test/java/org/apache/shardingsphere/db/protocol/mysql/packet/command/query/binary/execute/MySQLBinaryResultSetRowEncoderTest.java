@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class MySQLBinaryResultSetRowEncoderTest {
+    
+    private final List<MySQLBinaryColumnType> columnTypes = Arrays.asList(MySQLBinaryColumnType.MYSQL_TYPE_STRING, MySQLBinaryColumnType.MYSQL_TYPE_LONG, MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG);
+    
+    @Test
+    public void assertEncodeSameAsRowPacket() {
+        List<Object> data = Arrays.asList("value", null, 1L);
+        ByteBuf expected = Unpooled.buffer();
+        new MySQLBinaryResultSetRowPacket(1, new BinaryRow(Arrays.asList(
+                new BinaryCell(columnTypes.get(0), data.get(0)), new BinaryCell(columnTypes.get(1), data.get(1)), new BinaryCell(columnTypes.get(2), data.get(2)))))
+                .write(new MySQLPacketPayload(expected, StandardCharsets.UTF_8));
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLBinaryResultSetRowEncoder(columnTypes).encode(new MySQLPacketPayload(actual, StandardCharsets.UTF_8), data);
+        assertThat(ByteBufUtil.getBytes(actual), is(ByteBufUtil.getBytes(expected)));
+    }
+    
+    @Test
+    public void assertEncodePacket() {
+        ByteBuf actual = Unpooled.buffer();
+        MySQLBinaryResultSetRowEncoder encoder = new MySQLBinaryResultSetRowEncoder(columnTypes);
+        MySQLPacketPayload payload = new MySQLPacketPayload(actual, StandardCharsets.UTF_8);
+        encoder.encodePacket(payload, 3, Arrays.asList(null, 1, null));
+        encoder.encodePacket(payload, 4, Arrays.asList("a", 2, 2L));
+        assertThat(actual.readMediumLE(), is(6));
+        assertThat(actual.readUnsignedByte(), is((short) 3));
+        assertThat(actual.readUnsignedByte(), is((short) 0x00));
+        assertThat(actual.readUnsignedByte(), is((short) 0x14));
+        assertThat(actual.readIntLE(), is(1));
+        assertThat(actual.readMediumLE(), is(16));
+        assertThat(actual.readUnsignedByte(), is((short) 4));
+        actual.skipBytes(16);
+        assertThat(actual.readableBytes(), is(0));
+    }
+}
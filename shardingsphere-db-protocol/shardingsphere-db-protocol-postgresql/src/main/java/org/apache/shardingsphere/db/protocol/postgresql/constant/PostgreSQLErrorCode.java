@@ -50,6 +50,7 @@ public enum PostgreSQLErrorCode {
     INVALID_PASSWORD("28P01", "invalid_password"),
     INVALID_CATALOG_NAME("3D000", "invalid_catalog_name"),
     INVALID_SCHEMA_NAME("3F000", "invalid_schema_name"),
+    QUERY_CANCELED("57014", "query_canceled"),
     SYSTEM_ERROR("58000", "system_error");
     
     private final String errorCode;
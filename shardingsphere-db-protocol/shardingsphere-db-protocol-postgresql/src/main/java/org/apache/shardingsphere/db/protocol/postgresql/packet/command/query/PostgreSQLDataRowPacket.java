@@ -19,16 +19,11 @@ package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
-import java.sql.SQLException;
-import java.sql.SQLXML;
 import java.util.Collection;
 
 /**
@@ -38,54 +33,13 @@ import java.util.Collection;
 @Getter
 public final class PostgreSQLDataRowPacket implements PostgreSQLIdentifierPacket {
     
+    private static final PostgreSQLDataRowEncoder ROW_ENCODER = new PostgreSQLDataRowEncoder();
+    
     private final Collection<Object> data;
     
     @Override
     public void write(final PostgreSQLPacketPayload payload) {
-        payload.writeInt2(data.size());
-        for (Object each : data) {
-            if (each instanceof BinaryCell) {
-                writeBinaryValue(payload, (BinaryCell) each);
-            } else {
-                writeTextValue(payload, each);
-            }
-        }
-    }
-    
-    private void writeBinaryValue(final PostgreSQLPacketPayload payload, final BinaryCell each) {
-        Object value = each.getData();
-        if (null == value) {
-            payload.writeInt4(0xFFFFFFFF);
-            return;
-        }
-        PostgreSQLBinaryProtocolValue binaryProtocolValue = PostgreSQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType());
-        payload.writeInt4(binaryProtocolValue.getColumnLength(value));
-        binaryProtocolValue.write(payload, value);
-    }
-    
-    private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
-        if (null == each) {
-            payload.writeInt4(0xFFFFFFFF);
-        } else if (each instanceof byte[]) {
-            payload.writeInt4(((byte[]) each).length);
-            payload.writeBytes((byte[]) each);
-        } else if (each instanceof SQLXML) {
-            writeSQLXMLData(payload, each);
-        } else {
-            byte[] columnData = each.toString().getBytes(payload.getCharset());
-            payload.writeInt4(columnData.length);
-            payload.writeBytes(columnData);
-        }
-    }
-    
-    private void writeSQLXMLData(final PostgreSQLPacketPayload payload, final Object data) {
-        try {
-            byte[] dataBytes = ((SQLXML) data).getString().getBytes(payload.getCharset());
-            payload.writeInt4(dataBytes.length);
-            payload.writeBytes(dataBytes);
-        } catch (final SQLException ex) {
-            throw new RuntimeException(ex.getMessage());
-        }
+        ROW_ENCODER.encode(payload, data);
     }
     
     @Override
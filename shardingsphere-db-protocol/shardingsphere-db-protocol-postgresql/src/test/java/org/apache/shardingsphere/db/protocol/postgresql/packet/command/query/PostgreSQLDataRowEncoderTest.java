@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLDataRowEncoderTest {
+    
+    @Test
+    public void assertEncodePacket() {
+        ByteBuf actual = Unpooled.buffer();
+        new PostgreSQLDataRowEncoder().encodePacket(new PostgreSQLPacketPayload(actual, StandardCharsets.UTF_8), Arrays.asList("ab", null));
+        assertThat(actual.readByte(), is((byte) PostgreSQLMessagePacketType.DATA_ROW.getValue()));
+        assertThat(actual.readInt(), is(16));
+        assertThat(actual.readShort(), is((short) 2));
+        assertThat(actual.readInt(), is(2));
+        actual.skipBytes(2);
+        assertThat(actual.readInt(), is(0xFFFFFFFF));
+        assertThat(actual.readableBytes(), is(0));
+    }
+}
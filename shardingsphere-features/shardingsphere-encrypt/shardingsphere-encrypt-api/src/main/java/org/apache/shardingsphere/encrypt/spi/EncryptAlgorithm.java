@@ -21,6 +21,9 @@ import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  * 
@@ -46,4 +49,34 @@ public interface EncryptAlgorithm<I, O> extends ShardingSphereAlgorithm, Shardin
      * @return plain value
      */
     I decrypt(O cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Encode in batch, null plain value will be encoded to null.
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values
+     */
+    default List<O> batchEncrypt(final List<I> plainValues, final EncryptContext encryptContext) {
+        List<O> result = new ArrayList<>(plainValues.size());
+        for (I each : plainValues) {
+            result.add(null == each ? null : encrypt(each, encryptContext));
+        }
+        return result;
+    }
+    
+    /**
+     * Decode in batch, null cipher value will be decoded to null.
+     *
+     * @param cipherValues cipher values
+     * @param encryptContext encrypt context
+     * @return plain values
+     */
+    default List<I> batchDecrypt(final List<O> cipherValues, final EncryptContext encryptContext) {
+        List<I> result = new ArrayList<>(cipherValues.size());
+        for (O each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.algorithm;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -49,9 +50,14 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private byte[] secretKey;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocalCipher cipher;
+    
     @Override
     public void init() {
         secretKey = createSecretKey();
+        cipher = new ThreadLocalCipher(this::createCipher);
     }
     
     private byte[] createSecretKey() {
@@ -65,7 +71,7 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8), Cipher.ENCRYPT_MODE);
         return DatatypeConverter.printBase64Binary(result);
     }
     
@@ -75,13 +81,13 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(DatatypeConverter.parseBase64Binary(cipherValue));
+        byte[] result = cipher.doFinal(DatatypeConverter.parseBase64Binary(cipherValue), Cipher.DECRYPT_MODE);
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private Cipher createCipher(final int mode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(mode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.algorithm;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -30,6 +31,7 @@ import org.bouncycastle.pqc.math.linearalgebra.ByteUtils;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.Security;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -74,6 +76,10 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
     
     private String sm4ModePadding;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ThreadLocalCipher cipher;
+    
     @Override
     public void init() {
         String sm4Mode = createSm4Mode();
@@ -81,6 +87,7 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key();
         sm4Iv = createSm4Iv(sm4Mode);
+        cipher = new ThreadLocalCipher(this::createCipher);
     }
     
     private String createSm4Mode() {
@@ -142,15 +149,19 @@ public final class SM4EncryptAlgorithm implements EncryptAlgorithm<Object, Strin
 
     @SneakyThrows
     private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+        return cipher.doFinal(input, mode);
+    }
+    
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, SM4);
         Optional<byte[]> sm4Iv = getSm4Iv();
         if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     private Optional<byte[]> getSm4Iv() {
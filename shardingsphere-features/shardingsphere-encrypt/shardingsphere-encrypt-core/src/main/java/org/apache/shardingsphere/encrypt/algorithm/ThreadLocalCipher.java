@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm;
+
+import lombok.SneakyThrows;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+
+/**
+ * Thread local cipher, which initializes cipher once for each thread and mode.
+ */
+final class ThreadLocalCipher {
+    
+    private final CipherFactory cipherFactory;
+    
+    private final ThreadLocal<Cipher> encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    
+    private final ThreadLocal<Cipher> decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+    
+    ThreadLocalCipher(final CipherFactory cipherFactory) {
+        this.cipherFactory = cipherFactory;
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
+        return cipherFactory.create(mode);
+    }
+    
+    /**
+     * Encrypt or decrypt input.
+     * 
+     * @param input input
+     * @param mode cipher mode
+     * @return output
+     * @throws GeneralSecurityException general security exception
+     */
+    byte[] doFinal(final byte[] input, final int mode) throws GeneralSecurityException {
+        ThreadLocal<Cipher> cipher = Cipher.ENCRYPT_MODE == mode ? encryptCipher : decryptCipher;
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Cipher factory.
+     */
+    @FunctionalInterface
+    interface CipherFactory {
+        
+        /**
+         * Create initialized cipher.
+         * 
+         * @param mode cipher mode
+         * @return initialized cipher
+         * @throws GeneralSecurityException general security exception
+         */
+        Cipher create(int mode) throws GeneralSecurityException;
+    }
+}
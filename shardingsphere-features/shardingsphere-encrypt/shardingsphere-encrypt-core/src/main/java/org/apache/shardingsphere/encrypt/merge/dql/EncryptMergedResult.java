@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
@@ -25,6 +26,8 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -37,24 +40,32 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        if (!columnDecryptor.isPresent()) {
+            return mergedResult.getValue(columnIndex, type);
+        }
+        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
+        return null == cipherValue ? null : columnDecryptor.get().getEncryptAlgorithm().decrypt(cipherValue, columnDecryptor.get().getEncryptContext());
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
         if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName())) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         Optional<EncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return encryptAlgorithm.map(optional -> new ColumnDecryptor(optional, encryptContext.get()));
     }
     
     @Override
@@ -71,4 +82,19 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class ColumnDecryptor {
+        
+        @SuppressWarnings("rawtypes")
+        private final EncryptAlgorithm encryptAlgorithm;
+        
+        private final EncryptContext encryptContext;
+    }
 }
@@ -26,13 +26,13 @@ import org.apache.shardingsphere.encrypt.rule.aware.EncryptRuleAware;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.rewriter.ParameterRewriter;
-import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
 
@@ -71,23 +71,30 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
     }
     
+    @SuppressWarnings({"rawtypes", "unchecked"})
     private void encryptInsertValues(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, 
                                      final EncryptAlgorithm encryptAlgorithm, final EncryptContext encryptContext) {
         int columnIndex = getColumnIndex(parameterBuilder, insertStatementContext, encryptContext.getColumnName());
+        List<Integer> valueIndexes = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getInsertValueContexts().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int parameterIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
-            if (!each.isEmpty()) {
-                StandardParameterBuilder standardParameterBuilder = parameterBuilder.getParameterBuilders().get(count);
-                ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
-                if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    encryptInsertValue(
-                            encryptAlgorithm, parameterIndex, insertStatementContext.getInsertValueContexts().get(count).getValue(columnIndex),
-                            standardParameterBuilder, encryptContext);
-                }
+            InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(count);
+            if (!each.isEmpty() && insertValueContext.getValueExpressions().get(columnIndex) instanceof ParameterMarkerExpressionSegment) {
+                valueIndexes.add(count);
+                originalValues.add(insertValueContext.getValue(columnIndex));
             }
             count++;
         }
+        if (originalValues.isEmpty()) {
+            return;
+        }
+        List<Object> cipherValues = encryptAlgorithm.batchEncrypt(originalValues, encryptContext);
+        for (int i = 0; i < valueIndexes.size(); i++) {
+            int valueIndex = valueIndexes.get(i);
+            int parameterIndex = insertStatementContext.getInsertValueContexts().get(valueIndex).getParameterIndex(columnIndex);
+            encryptInsertValue(encryptAlgorithm, parameterIndex, originalValues.get(i), cipherValues.get(i), parameterBuilder.getParameterBuilders().get(valueIndex), encryptContext);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder parameterBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -102,9 +109,9 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
     }
     
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final int parameterIndex,
-                                    final Object originalValue, final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
-        parameterBuilder.addReplacedParameters(parameterIndex, encryptAlgorithm.encrypt(originalValue, encryptContext));
+    private void encryptInsertValue(final EncryptAlgorithm encryptAlgorithm, final int parameterIndex, final Object originalValue, final Object cipherValue,
+                                    final StandardParameterBuilder parameterBuilder, final EncryptContext encryptContext) {
+        parameterBuilder.addReplacedParameters(parameterIndex, cipherValue);
         Collection<Object> addedParameters = new LinkedList<>();
         if (encryptAlgorithm instanceof QueryAssistedEncryptAlgorithm) {
             Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(encryptContext.getTableName(), encryptContext.getColumnName());
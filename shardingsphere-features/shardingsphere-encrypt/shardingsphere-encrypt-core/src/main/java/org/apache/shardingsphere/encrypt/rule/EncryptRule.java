@@ -198,12 +198,7 @@ public final class EncryptRule implements SchemaRule, TableContainedRule {
     
     @SuppressWarnings({"rawtypes", "unchecked"})
     private List<Object> getEncryptValues(final EncryptAlgorithm encryptor, final List<Object> originalValues, final EncryptContext encryptContext) {
-        List<Object> result = new LinkedList<>();
-        for (Object each : originalValues) {
-            Object encryptValue = null == each ? null : encryptor.encrypt(each, encryptContext);
-            result.add(encryptValue);
-        }
-        return result;
+        return encryptor.batchEncrypt(originalValues, encryptContext);
     }
     
     /**
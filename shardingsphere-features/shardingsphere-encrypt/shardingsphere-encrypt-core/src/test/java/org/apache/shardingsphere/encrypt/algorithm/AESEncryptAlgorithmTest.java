@@ -25,6 +25,7 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -88,4 +89,21 @@ public final class AESEncryptAlgorithmTest {
         Object actual = encryptAlgorithm.decrypt(null, mock(EncryptContext.class));
         assertNull(actual);
     }
+    
+    @Test
+    public void assertEncryptAndDecryptInBatch() {
+        assertThat(encryptAlgorithm.batchEncrypt(Arrays.asList("test", null, "test"), mock(EncryptContext.class)), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null), mock(EncryptContext.class)), is(Arrays.asList("test", null)));
+    }
+    
+    @Test
+    public void assertDecryptAfterDecryptFailed() {
+        try {
+            encryptAlgorithm.decrypt("dSpPiyENQGDU", mock(EncryptContext.class));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+        }
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
 }
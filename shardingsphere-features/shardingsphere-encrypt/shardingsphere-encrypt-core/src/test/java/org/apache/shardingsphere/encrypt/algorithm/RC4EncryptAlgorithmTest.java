@@ -53,6 +53,12 @@ public final class RC4EncryptAlgorithmTest {
         assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("qn36NQ=="));
     }
     
+    @Test
+    public void assertEncodeRepeatedly() {
+        assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("qn36NQ=="));
+        assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("qn36NQ=="));
+    }
+    
     @Test
     public void assertEncryptWithNullPlaintext() {
         assertNull(encryptAlgorithm.encrypt(null, mock(EncryptContext.class)));
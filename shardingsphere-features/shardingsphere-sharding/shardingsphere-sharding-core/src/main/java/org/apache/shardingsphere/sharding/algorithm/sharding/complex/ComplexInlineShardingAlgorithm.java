@@ -18,10 +18,9 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineExpressionEvaluator;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
@@ -49,7 +48,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String[] shardingColumns;
     
-    private String algorithmExpression;
+    private InlineExpressionEvaluator expressionEvaluator;
     
     @Getter
     @Setter
@@ -59,7 +58,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     public void init() {
         String expression = props.getProperty(ALGORITHM_EXPRESSION_KEY);
         Preconditions.checkNotNull(expression, "Inline sharding algorithm expression cannot be null.");
-        algorithmExpression = InlineExpressionParser.handlePlaceHolder(expression.trim());
+        expressionEvaluator = new InlineExpressionEvaluator(InlineExpressionParser.handlePlaceHolder(expression.trim()));
         initShardingColumns(props.getProperty(SHARING_COLUMNS_KEY, ""));
         allowRangeQuery = Boolean.parseBoolean(props.getOrDefault(ALLOW_RANGE_QUERY_KEY, Boolean.FALSE.toString()).toString());
     }
@@ -85,11 +84,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return expressionEvaluator.evaluate(shardingValues);
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -117,12 +112,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
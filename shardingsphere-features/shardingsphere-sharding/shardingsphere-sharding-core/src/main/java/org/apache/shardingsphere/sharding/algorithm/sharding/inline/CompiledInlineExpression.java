@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled inline expression.
+ */
+@RequiredArgsConstructor
+final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private final List<Object> segments;
+    
+    /**
+     * Evaluate compiled inline expression.
+     * 
+     * @param variables variables of inline expression
+     * @return evaluated result, null if variables can not be handled by compiled inline expression
+     */
+    String evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (Object each : segments) {
+            if (each instanceof Node) {
+                Object value = ((Node) each).evaluate(variables);
+                if (!(value instanceof Integer || value instanceof Long || value instanceof String)) {
+                    return null;
+                }
+                result.append(value);
+            } else {
+                result.append(each);
+            }
+        }
+        return result.toString();
+    }
+    
+    interface Node {
+        
+        /**
+         * Evaluate node.
+         * 
+         * @param variables variables of inline expression
+         * @return evaluated value
+         */
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    static final class LiteralNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object result = variables.get(name);
+            if (null == result) {
+                return UNSUPPORTED;
+            }
+            return result instanceof Short || result instanceof Byte ? ((Number) result).intValue() : result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class HashCodeNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            return UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class AbsNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            return value instanceof Long ? Math.abs((Long) value) : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            return value instanceof Long ? -(Long) value : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    static final class ArithmeticNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            Object rightValue = right.evaluate(variables);
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return calculate((Integer) leftValue, (Integer) rightValue);
+            }
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return UNSUPPORTED;
+        }
+        
+        private boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long;
+        }
+        
+        private int calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private long calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.AbsNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.ArithmeticNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.HashCodeNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.LiteralNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.NegateNode;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.Node;
+import org.apache.shardingsphere.sharding.algorithm.sharding.inline.CompiledInlineExpression.VariableNode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Supports literal text and placeholders made of variables, integer literals, {@code + - * %}, parentheses,
+ * {@code hashCode()} and {@code Math.abs()}. Other expressions are not compiled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class InlineExpressionCompiler {
+    
+    private static final String PLACEHOLDER_START = "${";
+    
+    private static final String HASH_CODE = ".hashCode()";
+    
+    private static final String MATH_ABS = "Math.abs";
+    
+    private static final Collection<String> RESERVED_NAMES = Arrays.asList(
+            "it", "this", "super", "owner", "delegate", "thisObject", "class", "metaClass", "directive", "resolveStrategy", "parameterTypes", "maximumNumberOfParameters",
+            "true", "false", "null", "new", "as", "in", "instanceof");
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression
+     * @return compiled inline expression, empty if inline expression can not be compiled
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new LinkedList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int start = inlineExpression.indexOf(PLACEHOLDER_START, index);
+            String literal = start < 0 ? inlineExpression.substring(index) : inlineExpression.substring(index, start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal);
+            }
+            if (start < 0) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (end < 0) {
+                return Optional.empty();
+            }
+            Optional<Node> node = new ExpressionParser(inlineExpression.substring(start + PLACEHOLDER_START.length(), end)).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            segments.add(node.get());
+            index = end + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (char each : literal.toCharArray()) {
+            if ('$' == each || '\\' == each || '"' == each || '{' == each || '}' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        private Optional<Node> parse() {
+            try {
+                Node result = parseAdditive();
+                skipWhitespace();
+                return position == expression.length() ? Optional.of(result) : Optional.empty();
+            } catch (final IllegalArgumentException ignored) {
+                return Optional.empty();
+            }
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (true) {
+                skipWhitespace();
+                if (!isCurrent('+') && !isCurrent('-')) {
+                    return result;
+                }
+                char operator = expression.charAt(position++);
+                result = new ArithmeticNode(operator, result, parseMultiplicative());
+            }
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (true) {
+                skipWhitespace();
+                if (!isCurrent('*') && !isCurrent('%')) {
+                    return result;
+                }
+                char operator = expression.charAt(position++);
+                result = new ArithmeticNode(operator, result, parseUnary());
+            }
+        }
+        
+        private Node parseUnary() {
+            skipWhitespace();
+            if (isCurrent('-')) {
+                position++;
+                return new NegateNode(parseUnary());
+            }
+            Node result = parsePrimary();
+            while (expression.startsWith(HASH_CODE, position)) {
+                position += HASH_CODE.length();
+                result = new HashCodeNode(result);
+            }
+            return result;
+        }
+        
+        private Node parsePrimary() {
+            skipWhitespace();
+            if (isCurrent('(')) {
+                position++;
+                Node result = parseAdditive();
+                expect(')');
+                return result;
+            }
+            if (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                return parseNumber();
+            }
+            if (expression.startsWith(MATH_ABS, position)) {
+                position += MATH_ABS.length();
+                expect('(');
+                Node result = parseAdditive();
+                expect(')');
+                return new AbsNode(result);
+            }
+            return parseVariable();
+        }
+        
+        private Node parseNumber() {
+            int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String digits = expression.substring(start, position);
+            if (isCurrent('L') || isCurrent('l')) {
+                position++;
+                return new LiteralNode(Long.parseLong(digits));
+            }
+            if (isCurrent('.') && !expression.startsWith(HASH_CODE, position) || position < expression.length() && Character.isLetter(expression.charAt(position))) {
+                throw new IllegalArgumentException(expression);
+            }
+            long result = Long.parseLong(digits);
+            return new LiteralNode(result <= Integer.MAX_VALUE ? (Object) (int) result : (Object) result);
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            if (name.isEmpty() || Character.isDigit(name.charAt(0)) || RESERVED_NAMES.contains(name)) {
+                throw new IllegalArgumentException(expression);
+            }
+            skipWhitespace();
+            if (isCurrent('(') || isCurrent('.') && !expression.startsWith(HASH_CODE, position)) {
+                throw new IllegalArgumentException(expression);
+            }
+            return new VariableNode(name);
+        }
+        
+        private void expect(final char expected) {
+            skipWhitespace();
+            if (!isCurrent(expected)) {
+                throw new IllegalArgumentException(expression);
+            }
+            position++;
+        }
+        
+        private boolean isCurrent(final char expected) {
+            return position < expression.length() && expected == expression.charAt(position);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
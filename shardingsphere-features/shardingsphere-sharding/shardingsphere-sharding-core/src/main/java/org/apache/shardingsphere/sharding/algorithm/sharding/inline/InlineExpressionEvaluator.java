@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inline expression evaluator.
+ * 
+ * <p>Common expression shapes such as {@code t_order_${order_id % 16}} are compiled once and evaluated without Groovy.
+ * Other expressions and values which the compiled expression can not handle fall back to Groovy closure.</p>
+ */
+public final class InlineExpressionEvaluator {
+    
+    private final Closure<?> closure;
+    
+    private final CompiledInlineExpression compiledExpression;
+    
+    public InlineExpressionEvaluator(final String inlineExpression) {
+        closure = new InlineExpressionParser(inlineExpression).evaluateClosure();
+        compiledExpression = InlineExpressionCompiler.compile(inlineExpression).orElse(null);
+    }
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variables variables of inline expression
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, ?> variables) {
+        if (null != compiledExpression) {
+            String result = compiledExpression.evaluate(variables);
+            if (null != result) {
+                return result;
+            }
+        }
+        return evaluateWithClosure(variables);
+    }
+    
+    private String evaluateWithClosure(final Map<String, ?> variables) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            result.setProperty(entry.getKey(), entry.getValue());
+        }
+        return result.call().toString();
+    }
+    
+    /**
+     * Judge whether inline expression is compiled.
+     * 
+     * @return inline expression is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != compiledExpression;
+    }
+}
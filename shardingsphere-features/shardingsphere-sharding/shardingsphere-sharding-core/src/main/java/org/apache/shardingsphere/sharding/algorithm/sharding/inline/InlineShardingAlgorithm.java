@@ -18,9 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
@@ -30,6 +28,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Properties;
 
 /**
@@ -45,6 +44,8 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private boolean allowRangeQuery;
     
+    private InlineExpressionEvaluator expressionEvaluator;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -53,6 +54,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     public void init() {
         algorithmExpression = getAlgorithmExpression();
         allowRangeQuery = isAllowRangeQuery();
+        expressionEvaluator = new InlineExpressionEvaluator(algorithmExpression);
     }
     
     private String getAlgorithmExpression() {
@@ -67,9 +69,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
-        closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        return getTargetShardingNode(shardingValue.getColumnName(), shardingValue.getValue());
     }
     
     @Override
@@ -80,15 +80,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         throw new UnsupportedOperationException("Since the property of `" + ALLOW_RANGE_QUERY_KEY + "` is false, inline sharding algorithm can not tackle with range query.");
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> value) {
         try {
-            return closure.call().toString();
+            return expressionEvaluator.evaluate(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException | NullPointerException ex) {
             throw new ShardingSphereException("Inline sharding algorithms expression `%s` and sharding column `%s` not match.", algorithmExpression, columnName);
         }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.impl.TransparentResultMerger;
@@ -39,7 +40,7 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props,
                                     final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(databaseType);
+            return new ShardingDQLResultMerger(databaseType, props.<Integer>getValue(ConfigurationPropertyKey.SQL_MERGE_GROUP_BY_MAX_MEMORY_ROWS));
         } 
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new ShardingDALResultMerger(schemaName, shardingRule);
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -52,6 +53,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int groupByMaxMemoryRows;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, 0);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext, final ShardingSphereSchema schema) throws SQLException {
         if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
@@ -109,8 +116,11 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        return groupByMaxMemoryRows > 0
+                ? new GroupBySpillMergedResult(queryResults, selectStatementContext, schema, groupByMaxMemoryRows)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
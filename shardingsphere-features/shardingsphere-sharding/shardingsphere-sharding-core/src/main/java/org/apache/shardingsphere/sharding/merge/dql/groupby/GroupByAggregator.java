@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.ColumnarQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Group by aggregator, which aggregates rows of query results into one memory row per group.
+ */
+final class GroupByAggregator {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final Map<GroupByValue, AggregatedRow> aggregatedRows = new HashMap<>(1024);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    GroupByAggregator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     * 
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @param isNewGroupAllowed whether allow to create new group
+     * @return aggregated or not, false means current row belongs to a new group which is not allowed
+     * @throws SQLException SQL exception
+     */
+    boolean aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final boolean isNewGroupAllowed) throws SQLException {
+        AggregatedRow aggregatedRow = aggregatedRows.get(groupByValue);
+        if (null == aggregatedRow) {
+            if (!isNewGroupAllowed) {
+                return false;
+            }
+            aggregatedRow = new AggregatedRow(new MemoryQueryResultRow(queryResult), createAggregationUnits());
+            aggregatedRows.put(groupByValue, aggregatedRow);
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            if (mergeIntegralValue(queryResult, aggregationProjections[i], aggregatedRow.getAggregationUnits()[i])) {
+                continue;
+            }
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, each));
+                }
+            }
+            aggregatedRow.getAggregationUnits()[i].merge(aggregationValues);
+        }
+        return true;
+    }
+    
+    private boolean mergeIntegralValue(final QueryResult queryResult, final AggregationProjection aggregationProjection, final AggregationUnit aggregationUnit) {
+        if (!(queryResult instanceof ColumnarQueryResult) || !aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return false;
+        }
+        ColumnarQueryResult columnarQueryResult = (ColumnarQueryResult) queryResult;
+        int columnIndex = aggregationProjection.getIndex();
+        return columnarQueryResult.isIntegral(columnIndex) && !columnarQueryResult.isNull(columnIndex) && aggregationUnit.mergeIntegral(columnarQueryResult.getLong(columnIndex));
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get group count.
+     * 
+     * @return group count
+     */
+    int getGroupCount() {
+        return aggregatedRows.size();
+    }
+    
+    /**
+     * Drain aggregated rows, aggregator is cleared after drained.
+     * 
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> drain() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(aggregatedRows.size());
+        for (AggregatedRow each : aggregatedRows.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.getRow().setCell(aggregationProjections[i].getIndex(), each.getAggregationUnits()[i].getResult());
+            }
+            result.add(each.getRow());
+        }
+        aggregatedRows.clear();
+        return result;
+    }
+    
+    /**
+     * Get rows for empty result, which contains one row only if there are count projections without group by.
+     * 
+     * @return rows for empty result
+     */
+    List<MemoryQueryResultRow> getEmptyResultRows() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] data = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                data[i] = 0;
+            }
+        }
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    }
+    
+    /**
+     * Get value case sensitive flags, index is column index.
+     * 
+     * @param queryResult query result
+     * @param schema ShardingSphere schema
+     * @return value case sensitive flags
+     * @throws SQLException SQL exception
+     */
+    List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            TableMetaData tableMetaData = schema.get(tableName);
+            Map<String, ColumnMetaData> columns = tableMetaData.getColumns();
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class AggregatedRow {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.spill.RowSpillFile;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.spill.RowSpillFile.RowReader;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spill merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until group count reaches max memory rows, rows of other groups are spilled into hash partitioned
+ * temporary files and aggregated partition by partition later. Aggregated groups of each pass are sorted and spilled as sorted run
+ * unless it is the last pass, and all sorted runs are merged by k-way merge.</p>
+ * 
+ * <p>Spill files are deleted once they are read out, or when the merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_SPILL_LEVEL = Integer.SIZE / PARTITION_BITS;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final int maxMemoryRows;
+    
+    private final GroupByAggregator aggregator;
+    
+    private final Deque<SpillPartition> pendingPartitions = new LinkedList<>();
+    
+    private final Collection<RowSpillFile> spillFiles = new LinkedList<>();
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private QueryResultMetaData metaData;
+    
+    private Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        this.maxMemoryRows = maxMemoryRows;
+        aggregator = new GroupByAggregator(selectStatementContext);
+        boolean isCreated = false;
+        try {
+            sortedRuns = createSortedRuns(queryResults, selectStatementContext, schema);
+            isCreated = true;
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        } finally {
+            if (!isCreated) {
+                closeSpillFiles();
+            }
+        }
+    }
+    
+    private Queue<SortedRun> createSortedRuns(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                              final ShardingSphereSchema schema) throws SQLException, IOException {
+        List<SortedRun> runs = queryResults.isEmpty() ? Collections.emptyList() : aggregate(queryResults, selectStatementContext, schema);
+        if (runs.isEmpty()) {
+            runs = Collections.singletonList(new SortedRun(aggregator.getEmptyResultRows().iterator()));
+        }
+        Queue<SortedRun> result = new PriorityQueue<>(runs.size(), (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (SortedRun each : runs) {
+            if (nextSortedRunRow(each)) {
+                result.offer(each);
+            }
+        }
+        return result;
+    }
+    
+    private List<SortedRun> aggregate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                      final ShardingSphereSchema schema) throws SQLException, IOException {
+        metaData = queryResults.get(0).getMetaData();
+        rowComparator = new GroupByRowComparator(selectStatementContext, aggregator.getValueCaseSensitive(queryResults.get(0), schema));
+        List<SortedRun> result = new LinkedList<>();
+        aggregate(queryResults, 0, result);
+        while (!pendingPartitions.isEmpty()) {
+            SpillPartition partition = pendingPartitions.pop();
+            aggregate(Collections.singletonList(new SpilledQueryResult(metaData, partition.getFile().openReader())), partition.getLevel() + 1, result);
+            closeSpillFile(partition.getFile());
+        }
+        return result;
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int level, final List<SortedRun> sortedRuns) throws SQLException, IOException {
+        RowSpillFile[] partitions = new RowSpillFile[PARTITION_COUNT];
+        boolean isSpillable = level < MAX_SPILL_LEVEL;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, groupByItems);
+                if (!aggregator.aggregate(each, groupByValue, !isSpillable || aggregator.getGroupCount() < maxMemoryRows)) {
+                    spill(each, getPartition(partitions, groupByValue, level));
+                }
+            }
+        }
+        for (RowSpillFile each : partitions) {
+            if (null != each) {
+                each.finishWrite();
+                pendingPartitions.push(new SpillPartition(each, level));
+            }
+        }
+        List<MemoryQueryResultRow> rows = aggregator.drain();
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(rowComparator);
+        sortedRuns.add(pendingPartitions.isEmpty() ? new SortedRun(rows.iterator()) : spillSortedRun(rows));
+    }
+    
+    private RowSpillFile getPartition(final RowSpillFile[] partitions, final GroupByValue groupByValue, final int level) throws IOException {
+        int index = (mix(groupByValue.hashCode()) >>> (level * PARTITION_BITS)) & (PARTITION_COUNT - 1);
+        if (null == partitions[index]) {
+            partitions[index] = createSpillFile();
+        }
+        return partitions[index];
+    }
+    
+    private RowSpillFile createSpillFile() throws IOException {
+        RowSpillFile result = new RowSpillFile("shardingsphere-group-by-");
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int mix(final int hashCode) {
+        int result = hashCode ^ hashCode >>> 16;
+        result *= 0x85ebca6b;
+        result ^= result >>> 13;
+        result *= 0xc2b2ae35;
+        return result ^ result >>> 16;
+    }
+    
+    private void spill(final QueryResult queryResult, final RowSpillFile partition) throws SQLException, IOException {
+        Object[] row = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        if (!RowSpillFile.isSpillable(row)) {
+            throw new SQLFeatureNotSupportedException(String.format("Spill group by row with value which is not serializable, please increase `%s` to aggregate in memory",
+                    ConfigurationPropertyKey.SQL_MERGE_GROUP_BY_MAX_MEMORY_ROWS.getKey()));
+        }
+        partition.write(row);
+    }
+    
+    private SortedRun spillSortedRun(final List<MemoryQueryResultRow> rows) throws SQLException, IOException {
+        int columnCount = metaData.getColumnCount();
+        for (MemoryQueryResultRow each : rows) {
+            if (!RowSpillFile.isSpillable(getCells(each, columnCount))) {
+                return new SortedRun(rows.iterator());
+            }
+        }
+        RowSpillFile spillFile = createSpillFile();
+        for (MemoryQueryResultRow each : rows) {
+            spillFile.write(getCells(each, columnCount));
+        }
+        spillFile.finishWrite();
+        return new SortedRun(spillFile);
+    }
+    
+    private Object[] getCells(final MemoryQueryResultRow row, final int columnCount) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private void closeSpillFile(final RowSpillFile spillFile) throws IOException {
+        spillFiles.remove(spillFile);
+        spillFile.close();
+    }
+    
+    private void closeSpillFiles() {
+        for (RowSpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        spillFiles.clear();
+        pendingPartitions.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        SortedRun sortedRun = sortedRuns.poll();
+        currentRow = sortedRun.getCurrentRow();
+        if (nextSortedRunRow(sortedRun)) {
+            sortedRuns.offer(sortedRun);
+        }
+        return true;
+    }
+    
+    private boolean nextSortedRunRow(final SortedRun sortedRun) throws SQLException {
+        if (sortedRun.next()) {
+            return true;
+        }
+        if (null != sortedRun.getSpillFile()) {
+            try {
+                closeSpillFile(sortedRun.getSpillFile());
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName()));
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        Object value = currentRow.getCell(columnIndex);
+        wasNull = null == value;
+        if (null == value || null == calendar) {
+            return value;
+        }
+        Optional<LocalDateTime> localDateTime = toLocalDateTime(value);
+        if (!localDateTime.isPresent()) {
+            return value;
+        }
+        ZoneId zoneId = calendar.getTimeZone().toZoneId();
+        if (Date.class == type) {
+            return new Date(localDateTime.get().toLocalDate().atStartOfDay(zoneId).toInstant().toEpochMilli());
+        }
+        if (Time.class == type) {
+            return new Time(localDateTime.get().toLocalTime().atDate(LocalDate.ofEpochDay(0L)).atZone(zoneId).toInstant().toEpochMilli());
+        }
+        if (Timestamp.class == type) {
+            return Timestamp.from(localDateTime.get().atZone(zoneId).toInstant());
+        }
+        throw new SQLException(String.format("Unsupported type: %s", type));
+    }
+    
+    private Optional<LocalDateTime> toLocalDateTime(final Object value) {
+        if (value instanceof Timestamp) {
+            return Optional.of(((Timestamp) value).toLocalDateTime());
+        }
+        if (value instanceof Date) {
+            return Optional.of(((Date) value).toLocalDate().atStartOfDay());
+        }
+        if (value instanceof Time) {
+            return Optional.of(((Time) value).toLocalTime().atDate(LocalDate.ofEpochDay(0L)));
+        }
+        if (value instanceof LocalDateTime) {
+            return Optional.of((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return Optional.of(((LocalDate) value).atStartOfDay());
+        }
+        if (value instanceof LocalTime) {
+            return Optional.of(((LocalTime) value).atDate(LocalDate.ofEpochDay(0L)));
+        }
+        return Optional.empty();
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        sortedRuns.clear();
+        closeSpillFiles();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SpillPartition {
+        
+        private final RowSpillFile file;
+        
+        private final int level;
+    }
+    
+    private static final class SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        @Getter
+        private final RowSpillFile spillFile;
+        
+        private final RowReader spilledRows;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        SortedRun(final Iterator<MemoryQueryResultRow> memoryRows) {
+            this.memoryRows = memoryRows;
+            spillFile = null;
+            spilledRows = null;
+        }
+        
+        SortedRun(final RowSpillFile spillFile) throws IOException {
+            memoryRows = null;
+            this.spillFile = spillFile;
+            spilledRows = spillFile.openReader();
+        }
+        
+        boolean next() throws SQLException {
+            if (null == spilledRows ? !memoryRows.hasNext() : !spilledRows.hasNext()) {
+                return false;
+            }
+            currentRow = null == spilledRows ? memoryRows.next() : new MemoryQueryResultRow(spilledRows.next());
+            return true;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledQueryResult implements QueryResult {
+        
+        @Getter
+        private final QueryResultMetaData metaData;
+        
+        private final RowReader rows;
+        
+        private Object[] currentRow;
+        
+        @Override
+        public boolean next() throws SQLException {
+            currentRow = rows.hasNext() ? rows.next() : null;
+            return null != currentRow;
+        }
+        
+        @Override
+        public Object getValue(final int columnIndex, final Class<?> type) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+            return currentRow[columnIndex - 1];
+        }
+        
+        @Override
+        public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+            throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+        }
+        
+        @Override
+        public boolean wasNull() {
+            return null == currentRow;
+        }
+        
+        @Override
+        public void close() throws SQLException {
+            try {
+                rows.close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
+}
@@ -31,6 +31,16 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge integral aggregation value without boxing.
+     * 
+     * @param value integral aggregation value
+     * @return merged or not, false means integral value is not supported and should be merged as comparable values
+     */
+    default boolean mergeIntegral(long value) {
+        return false;
+    }
+    
     /**
      * Get aggregation result.
      * 
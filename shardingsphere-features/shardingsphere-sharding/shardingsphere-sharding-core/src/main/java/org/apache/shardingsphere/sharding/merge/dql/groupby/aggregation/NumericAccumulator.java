@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric accumulator.
+ * 
+ * <p>Integral values are accumulated as primitive long, other values or values overflowing long are accumulated as big decimal.</p>
+ */
+final class NumericAccumulator {
+    
+    private boolean accumulated;
+    
+    private long integralResult;
+    
+    private BigDecimal decimalResult;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            add(((Number) value).longValue());
+            return;
+        }
+        accumulated = true;
+        addDecimal(new BigDecimal(value.toString()));
+    }
+    
+    /**
+     * Add integral value.
+     * 
+     * @param value value to be added
+     */
+    void add(final long value) {
+        accumulated = true;
+        long sum = integralResult + value;
+        if (((integralResult ^ sum) & (value ^ sum)) >= 0) {
+            integralResult = sum;
+            return;
+        }
+        addDecimal(BigDecimal.valueOf(value));
+    }
+    
+    private void addDecimal(final BigDecimal augend) {
+        decimalResult = null == decimalResult ? augend : decimalResult.add(augend);
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value added
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(integralResult);
+        return null == decimalResult ? result : result.add(decimalResult);
+    }
+}
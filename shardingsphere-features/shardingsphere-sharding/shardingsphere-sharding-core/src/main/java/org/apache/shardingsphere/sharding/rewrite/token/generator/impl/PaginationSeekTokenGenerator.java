@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import com.google.common.base.Preconditions;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeek;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.CollectionSQLTokenGenerator;
+import org.apache.shardingsphere.infra.rewrite.sql.token.generator.aware.ParametersAware;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekToken;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek token generator.
+ */
+@Setter
+public final class PaginationSeekTokenGenerator implements CollectionSQLTokenGenerator<SelectStatementContext>, ParametersAware {
+    
+    private static final String WHERE_KEYWORD = "WHERE";
+    
+    private List<Object> parameters;
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().getSeek().isPresent();
+    }
+    
+    @Override
+    public Collection<PaginationSeekToken> generateSQLTokens(final SelectStatementContext selectStatementContext) {
+        Optional<PaginationSeek> seek = selectStatementContext.getPaginationContext().getSeek();
+        Preconditions.checkState(seek.isPresent());
+        String predicate = String.format("%s %s %s", seek.get().getColumnName(), getOperator(seek.get()), parameters.isEmpty() ? seek.get().getBoundaryValue() : "?");
+        Optional<WhereSegment> where = selectStatementContext.getSqlStatement().getWhere();
+        if (where.isPresent()) {
+            int whereExpressionStartIndex = where.get().getStartIndex() + WHERE_KEYWORD.length();
+            return Arrays.asList(new PaginationSeekToken(whereExpressionStartIndex, " ("), new PaginationSeekToken(where.get().getStopIndex() + 1, String.format(") AND %s", predicate)));
+        }
+        Preconditions.checkState(selectStatementContext.getSqlStatement().getOrderBy().isPresent());
+        return Collections.singletonList(new PaginationSeekToken(selectStatementContext.getSqlStatement().getOrderBy().get().getStartIndex(), String.format("WHERE %s ", predicate)));
+    }
+    
+    private String getOperator(final PaginationSeek seek) {
+        if (OrderDirection.ASC == seek.getOrderDirection()) {
+            return seek.isInclusive() ? ">=" : ">";
+        }
+        return seek.isInclusive() ? "<=" : "<";
+    }
+}
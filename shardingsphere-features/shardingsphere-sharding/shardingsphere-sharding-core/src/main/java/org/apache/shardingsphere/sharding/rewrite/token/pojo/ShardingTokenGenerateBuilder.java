@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.DistinctP
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.IndexTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OffsetTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.PaginationSeekTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ProjectionsTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.RowCountTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ShardingInsertValuesTokenGenerator;
@@ -69,6 +70,7 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
         addSQLTokenGenerator(result, new ConstraintTokenGenerator());
         addSQLTokenGenerator(result, new OffsetTokenGenerator());
         addSQLTokenGenerator(result, new RowCountTokenGenerator());
+        addSQLTokenGenerator(result, new PaginationSeekTokenGenerator());
         addSQLTokenGenerator(result, new GeneratedKeyInsertColumnTokenGenerator());
         addSQLTokenGenerator(result, new GeneratedKeyForUseDefaultInsertColumnsTokenGenerator());
         addSQLTokenGenerator(result, new GeneratedKeyAssignmentTokenGenerator());
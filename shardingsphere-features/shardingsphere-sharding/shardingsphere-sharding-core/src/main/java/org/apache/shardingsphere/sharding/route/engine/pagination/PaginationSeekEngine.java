@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.pagination;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeek;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pagination seek engine.
+ * 
+ * <p>For deep pagination routed to multiple data nodes, the engine probes each data node for the row at {@code offset / nodes} of order by column,
+ * takes the smallest one (or largest one for descending order) as boundary value, and counts rows before boundary value on all data nodes.
+ * Then each data node only returns rows from boundary value, and counted rows are excluded from pagination offset.</p>
+ * 
+ * <p>Probe queries are executed by connections out of current transaction, so pagination is not sought in transaction, or if probed result is not usable.
+ * Predicates of probe queries are not rewritten, pagination is not sought either if probe queries fail, and the original query is executed as usual.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class PaginationSeekEngine {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Seek pagination of logic SQL.
+     *
+     * @param logicSQL logic SQL
+     * @param routeContext route context
+     */
+    public void seek(final LogicSQL logicSQL, final RouteContext routeContext) {
+        Optional<Comparable<?>> keysetPaginationValue = HintManager.getKeysetPaginationValue();
+        long threshold = props.getValue(ConfigurationPropertyKey.DEEP_PAGINATION_OFFSET_THRESHOLD);
+        if (!keysetPaginationValue.isPresent() && (threshold <= 0L || routeContext.getRouteUnits().size() < 2)) {
+            return;
+        }
+        if (!(logicSQL.getSqlStatementContext() instanceof SelectStatementContext) || !isSeekable((SelectStatementContext) logicSQL.getSqlStatementContext(), logicSQL.getSql())) {
+            return;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) logicSQL.getSqlStatementContext();
+        OrderByItem orderByItem = selectStatementContext.getOrderByContext().getItems().iterator().next();
+        String columnName = ((ColumnOrderByItemSegment) orderByItem.getSegment()).getColumn().getIdentifier().getValueWithQuoteCharacters();
+        OrderDirection orderDirection = orderByItem.getSegment().getOrderDirection();
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        if (keysetPaginationValue.isPresent()) {
+            if (isBindable(logicSQL, keysetPaginationValue.get())) {
+                pagination.seek(new PaginationSeek(columnName, orderDirection, keysetPaginationValue.get(), false, 0L));
+            }
+            return;
+        }
+        if (pagination.getActualOffset() < threshold || TransactionHolder.isTransaction()) {
+            return;
+        }
+        try {
+            probe(logicSQL, routeContext, columnName, orderDirection).ifPresent(pagination::seek);
+        } catch (final SQLException ex) {
+            log.debug("Pagination is not sought, can not probe boundary value of `{}`.", logicSQL.getSql(), ex);
+        }
+    }
+    
+    private boolean isSeekable(final SelectStatementContext selectStatementContext, final String sql) {
+        PaginationContext pagination = selectStatementContext.getPaginationContext();
+        if (!(pagination.getRowCountSegment().orElse(null) instanceof LimitValueSegment)
+                || pagination.getOffsetSegment().isPresent() && !(pagination.getOffsetSegment().get() instanceof LimitValueSegment)) {
+            return false;
+        }
+        if (1 != selectStatementContext.getTablesContext().getTables().size() || selectStatementContext.isContainsSubquery() || selectStatementContext.isContainsJoinQuery()
+                || selectStatementContext.isContainsHaving() || selectStatementContext.isContainsUnion() || selectStatementContext.isContainsDollarParameterMarker()) {
+            return false;
+        }
+        if (!selectStatementContext.getGroupByContext().getItems().isEmpty() || !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()
+                || selectStatementContext.getProjectionsContext().isDistinctRow()) {
+            return false;
+        }
+        if (selectStatementContext.getOrderByContext().isGenerated() || 1 != selectStatementContext.getOrderByContext().getItems().size()
+                || !(selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment() instanceof ColumnOrderByItemSegment)) {
+            return false;
+        }
+        ColumnSegment column = ((ColumnOrderByItemSegment) selectStatementContext.getOrderByContext().getItems().iterator().next().getSegment()).getColumn();
+        if (selectStatementContext.getProjectionsContext().getProjections().stream().anyMatch(each -> each.getAlias().filter(column.getIdentifier().getValue()::equalsIgnoreCase).isPresent())) {
+            return false;
+        }
+        return selectStatementContext.getSqlStatement().getOrderBy().isPresent() && sql.substring(0, getPredicateStartIndex(selectStatementContext)).indexOf('?') < 0;
+    }
+    
+    private int getPredicateStartIndex(final SelectStatementContext selectStatementContext) {
+        Optional<WhereSegment> where = selectStatementContext.getSqlStatement().getWhere();
+        return where.isPresent() ? where.get().getStartIndex() : selectStatementContext.getSqlStatement().getOrderBy().get().getStartIndex();
+    }
+    
+    private boolean isBindable(final LogicSQL logicSQL, final Object value) {
+        return !logicSQL.getParameters().isEmpty() || value instanceof Number;
+    }
+    
+    private Optional<PaginationSeek> probe(final LogicSQL logicSQL, final RouteContext routeContext, final String columnName, final OrderDirection orderDirection) throws SQLException {
+        SelectStatementContext selectStatementContext = (SelectStatementContext) logicSQL.getSqlStatementContext();
+        List<Object> parameters = getPredicateParameters(logicSQL.getParameters(), selectStatementContext.getPaginationContext());
+        long offset = selectStatementContext.getPaginationContext().getActualOffset();
+        Comparable<Object> boundaryValue = null;
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            Optional<String> probeSQL = createProbeSQL(logicSQL, each, columnName, orderDirection, offset / routeContext.getRouteUnits().size());
+            Optional<DataSource> dataSource = findDataSource(each);
+            if (!dataSource.isPresent()) {
+                log.debug("Pagination is not sought, can not find actual data source `{}`.", each.getDataSourceMapper().getActualName());
+                return Optional.empty();
+            }
+            if (!probeSQL.isPresent()) {
+                return Optional.empty();
+            }
+            List<Object> values = executeQuery(dataSource.get(), probeSQL.get(), parameters);
+            if (values.isEmpty()) {
+                continue;
+            }
+            if (!(values.get(0) instanceof Comparable)) {
+                return Optional.empty();
+            }
+            Comparable<Object> value = castComparable(values.get(0));
+            if (null == boundaryValue || (OrderDirection.ASC == orderDirection ? value.compareTo(boundaryValue) < 0 : value.compareTo(boundaryValue) > 0)) {
+                boundaryValue = value;
+            }
+        }
+        if (null == boundaryValue || !isBindable(logicSQL, boundaryValue)) {
+            return Optional.empty();
+        }
+        long skippedRowCount = 0L;
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            List<Object> countParameters = new ArrayList<>(parameters.size() + 1);
+            countParameters.add(boundaryValue);
+            countParameters.addAll(parameters);
+            List<Object> counts = executeQuery(findDataSource(each).orElseThrow(IllegalStateException::new), createCountSQL(logicSQL, each, columnName, orderDirection), countParameters);
+            if (0L != ((Number) counts.get(1)).longValue()) {
+                return Optional.empty();
+            }
+            skippedRowCount += ((Number) counts.get(0)).longValue();
+        }
+        return 0L == skippedRowCount || skippedRowCount > offset ? Optional.empty() : Optional.of(new PaginationSeek(columnName, orderDirection, boundaryValue, true, skippedRowCount));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Comparable<Object> castComparable(final Object value) {
+        return (Comparable<Object>) value;
+    }
+    
+    private List<Object> getPredicateParameters(final List<Object> parameters, final PaginationContext pagination) {
+        List<Object> result = new ArrayList<>(parameters.size());
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!pagination.getOffsetParameterIndex().filter(Integer.valueOf(i)::equals).isPresent() && !pagination.getRowCountParameterIndex().filter(Integer.valueOf(i)::equals).isPresent()) {
+                result.add(parameters.get(i));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> createProbeSQL(final LogicSQL logicSQL, final RouteUnit routeUnit, final String columnName, final OrderDirection orderDirection, final long offset) {
+        return createFromAndWhere(logicSQL, routeUnit).map(optional -> String.format("SELECT %s%s ORDER BY %s %s LIMIT 1 OFFSET %d", columnName, optional, columnName, orderDirection.name(), offset));
+    }
+    
+    private String createCountSQL(final LogicSQL logicSQL, final RouteUnit routeUnit, final String columnName, final OrderDirection orderDirection) {
+        String operator = OrderDirection.ASC == orderDirection ? "<" : ">";
+        String fromAndWhere = createFromAndWhere(logicSQL, routeUnit).orElseThrow(IllegalStateException::new);
+        return String.format("SELECT COUNT(CASE WHEN %s %s ? THEN 1 END), COUNT(*) - COUNT(%s)%s", columnName, operator, columnName, fromAndWhere);
+    }
+    
+    private Optional<String> createFromAndWhere(final LogicSQL logicSQL, final RouteUnit routeUnit) {
+        SimpleTableSegment table = ((SelectStatementContext) logicSQL.getSqlStatementContext()).getTablesContext().getTables().iterator().next();
+        Optional<String> actualTableName = routeUnit.getTableMappers().stream()
+                .filter(each -> each.getLogicName().equalsIgnoreCase(table.getTableName().getIdentifier().getValue())).map(RouteMapper::getActualName).findFirst();
+        if (!actualTableName.isPresent()) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder(" FROM ").append(table.getTableName().getIdentifier().getQuoteCharacter().wrap(actualTableName.get()))
+                .append(" AS ").append(table.getAlias().orElseGet(() -> table.getTableName().getIdentifier().getValueWithQuoteCharacters()));
+        Optional<WhereSegment> where = ((SelectStatementContext) logicSQL.getSqlStatementContext()).getSqlStatement().getWhere();
+        where.ifPresent(optional -> result.append(" WHERE ").append(logicSQL.getSql(), optional.getExpr().getStartIndex(), optional.getExpr().getStopIndex() + 1));
+        return Optional.of(result.toString());
+    }
+    
+    private Optional<DataSource> findDataSource(final RouteUnit routeUnit) {
+        return Optional.ofNullable(metaData.getResource().getDataSources().get(routeUnit.getDataSourceMapper().getActualName()));
+    }
+    
+    private List<Object> executeQuery(final DataSource dataSource, final String sql, final List<Object> parameters) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                List<Object> result = new ArrayList<>();
+                if (resultSet.next()) {
+                    for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                        result.add(resultSet.getObject(i));
+                    }
+                }
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class InlineExpressionEvaluatorTest {
+    
+    @Test
+    public void assertIsCompiled() {
+        assertTrue(new InlineExpressionEvaluator("t_order_${order_id % 16}").isCompiled());
+        assertTrue(new InlineExpressionEvaluator("ds_${user_id % 2}_t_${order_id % 4}").isCompiled());
+        assertTrue(new InlineExpressionEvaluator("t_order_${Math.abs(order_id.hashCode()) % 16}").isCompiled());
+        assertTrue(new InlineExpressionEvaluator("t_order_${(order_id - 1) * 2 % 8 + 1}").isCompiled());
+        assertTrue(new InlineExpressionEvaluator("${value}").isCompiled());
+    }
+    
+    @Test
+    public void assertIsNotCompiled() {
+        assertFalse(new InlineExpressionEvaluator("t_order_${order_id / 16}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_${order_id.substring(0, 1)}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_${it}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_${['a', 'b']}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_${order_id % 1.5}").isCompiled());
+        assertFalse(new InlineExpressionEvaluator("t_order_${order_id ? 1 : 0}").isCompiled());
+    }
+    
+    @Test
+    public void assertEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode()) % 16}", "t_order_${order_id.hashCode() % 4}",
+                "t_order_${(order_id - 1) * 2 % 8 + 1}", "t_order_${-order_id % 3}", "t_order_${order_id * 65537 % 7}", "t_order_${order_id}", "t_order_${order_id % 3L}")) {
+            for (Object value : Arrays.<Object>asList(0, 7, -7, 123456789012L, -123456789012L, (short) 9, Integer.MAX_VALUE, Long.MIN_VALUE + 1L, "foo")) {
+                assertSameAsGroovy(each, Collections.singletonMap("order_id", value));
+            }
+        }
+    }
+    
+    @Test
+    public void assertEvaluateMultipleVariablesSameAsGroovy() {
+        Map<String, Object> variables = new HashMap<>(2, 1);
+        variables.put("user_id", 3);
+        variables.put("order_id", 10L);
+        assertSameAsGroovy("t_${user_id % 2}_${order_id % 4}", variables);
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValueFallbackToGroovy() {
+        assertThat(new InlineExpressionEvaluator("t_order_${order_id}").evaluate(Collections.singletonMap("order_id", new BigDecimal("1.50"))), is("t_order_1.50"));
+        assertThat(new InlineExpressionEvaluator("t_order_${order_id + 1}").evaluate(Collections.singletonMap("order_id", new BigDecimal("3.5"))), is("t_order_4.5"));
+    }
+    
+    private void assertSameAsGroovy(final String expression, final Map<String, ?> variables) {
+        String expected;
+        try {
+            expected = evaluateWithGroovy(expression, variables);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            assertEvaluateFailed(expression, variables);
+            return;
+        }
+        assertThat(expression + " " + variables, new InlineExpressionEvaluator(expression).evaluate(variables), is(expected));
+    }
+    
+    private void assertEvaluateFailed(final String expression, final Map<String, ?> variables) {
+        try {
+            String actual = new InlineExpressionEvaluator(expression).evaluate(variables);
+            fail(String.format("%s %s is rejected by Groovy but evaluated to %s", expression, variables, actual));
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignored) {
+            // CHECKSTYLE:ON
+        }
+    }
+    
+    private String evaluateWithGroovy(final String expression, final Map<String, ?> variables) {
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.ColumnarQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -161,15 +162,49 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForColumnarQueryResult() throws SQLException {
+        ColumnarQueryResult queryResult1 = createColumnarQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.isIntegral(1)).thenReturn(true);
+        when(queryResult1.getLong(1)).thenReturn(20L);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult2.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult2.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult2.getValue(5, Object.class)).thenReturn(20);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    private ColumnarQueryResult createColumnarQueryResult() throws SQLException {
+        ColumnarQueryResult result = mock(ColumnarQueryResult.class, RETURNS_DEEP_STUBS);
+        mockMetaData(result);
+        return result;
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        mockMetaData(result);
+        return result;
+    }
+    
+    private void mockMetaData(final QueryResult result) throws SQLException {
         when(result.getMetaData().getColumnCount()).thenReturn(5);
         when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
         when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
         when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
         when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
         when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
-        return result;
     }
     
     @Test
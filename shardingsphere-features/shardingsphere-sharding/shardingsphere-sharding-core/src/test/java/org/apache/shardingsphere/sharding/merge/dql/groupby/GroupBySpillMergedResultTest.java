@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 2);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(Collections.emptyList()), createQueryResult(Collections.emptyList())), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertNull(actual.getValue(2, Object.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        assertNextSameAsMemoryMergedResult(1000);
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        assertNextSameAsMemoryMergedResult(7);
+    }
+    
+    @Test
+    public void assertNextWithSingleMemoryRow() throws SQLException {
+        assertNextSameAsMemoryMergedResult(1);
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException, IOException {
+        long spillFileCount = countSpillFiles();
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 7).merge(createQueryResults(), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertTrue(countSpillFiles() > spillFileCount);
+        actual.close();
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertSpillWithNotSerializableValue() throws SQLException, IOException {
+        long spillFileCount = countSpillFiles();
+        List<Object[]> rows = new ArrayList<>(10);
+        for (int id = 0; id < 10; id++) {
+            rows.add(new Object[]{1, id, new NotSerializableValue(id), 1, id});
+        }
+        try {
+            new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 2).merge(
+                    Arrays.asList(createQueryResult(rows), createQueryResult(Collections.emptyList())), createSelectStatementContext(), null);
+        } finally {
+            assertThat(countSpillFiles(), is(spillFileCount));
+        }
+    }
+    
+    @Test
+    public void assertGetCalendarValue() throws SQLException {
+        QueryResult queryResult = createQueryResult(Collections.singletonList(new Object[]{1, 1, Timestamp.valueOf("2022-01-01 10:00:00"), 1, 1}));
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1).merge(
+                Arrays.asList(queryResult, createQueryResult(Collections.emptyList())), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        assertThat(actual.getCalendarValue(3, Timestamp.class, calendar), is(Timestamp.from(Instant.parse("2022-01-01T10:00:00Z"))));
+        assertThat(actual.getCalendarValue(3, Date.class, calendar), is(new Date(Instant.parse("2022-01-01T00:00:00Z").toEpochMilli())));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).count();
+        }
+    }
+    
+    private void assertNextSameAsMemoryMergedResult(final int maxMemoryRows) throws SQLException {
+        MergedResult expected = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL")).merge(createQueryResults(), createSelectStatementContext(), null);
+        MergedResult actual = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), maxMemoryRows).merge(createQueryResults(), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int columnIndex = 1; columnIndex <= 5; columnIndex++) {
+                assertThat(actual.getValue(columnIndex, Object.class), is(expected.getValue(columnIndex, Object.class)));
+            }
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(100));
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        List<QueryResult> result = new ArrayList<>(4);
+        for (int shard = 0; shard < 4; shard++) {
+            List<Object[]> rows = new ArrayList<>(100);
+            for (int id = 0; id < 100; id++) {
+                int count = shard + id % 5;
+                rows.add(new Object[]{count, count * id, id, count, count * id});
+            }
+            Collections.shuffle(rows);
+            result.add(createQueryResult(rows));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Object[]> rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        int[] rowIndex = {-1};
+        when(result.next()).thenAnswer(invocation -> ++rowIndex[0] < rows.size());
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows.get(rowIndex[0])[(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getSchema()).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class NotSerializableValue implements Comparable<NotSerializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final NotSerializableValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
+}
@@ -19,10 +19,12 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import org.junit.Test;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class AccumulationAggregationUnitTest {
     
@@ -36,4 +38,22 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertAccumulationAggregationWithLongOverflowAndDecimal() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("0.50")));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal(Long.MAX_VALUE).add(new BigDecimal("1.50"))));
+    }
+    
+    @Test
+    public void assertAccumulationAggregationWithIntegralValues() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        assertTrue(accumulationAggregationUnit.mergeIntegral(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        assertTrue(accumulationAggregationUnit.mergeIntegral(1L));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal(Long.MAX_VALUE).add(new BigDecimal(2))));
+    }
 }
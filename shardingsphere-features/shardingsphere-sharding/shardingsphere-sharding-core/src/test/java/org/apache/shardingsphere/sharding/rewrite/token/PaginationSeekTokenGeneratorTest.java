@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token;
+
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeek;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.PaginationSeekTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.PaginationSeekToken;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PaginationSeekTokenGeneratorTest {
+    
+    @Test
+    public void assertIsGenerateSQLToken() {
+        PaginationSeekTokenGenerator generator = new PaginationSeekTokenGenerator();
+        assertFalse(generator.isGenerateSQLToken(mock(InsertStatementContext.class)));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getSeek()).thenReturn(Optional.empty());
+        assertFalse(generator.isGenerateSQLToken(selectStatementContext));
+        when(selectStatementContext.getPaginationContext().getSeek()).thenReturn(Optional.of(new PaginationSeek("order_id", OrderDirection.ASC, 100, true, 100L)));
+        assertTrue(generator.isGenerateSQLToken(selectStatementContext));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithWhere() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getSeek()).thenReturn(Optional.of(new PaginationSeek("order_id", OrderDirection.DESC, 100, false, 0L)));
+        when(selectStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.of(new WhereSegment(30, 42, new LiteralExpressionSegment(36, 42, 1))));
+        PaginationSeekTokenGenerator generator = new PaginationSeekTokenGenerator();
+        generator.setParameters(Collections.singletonList(1));
+        List<PaginationSeekToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getStartIndex(), is(35));
+        assertThat(actual.get(0).toString(), is(" ("));
+        assertThat(actual.get(1).getStartIndex(), is(43));
+        assertThat(actual.get(1).toString(), is(") AND order_id < ?"));
+    }
+    
+    @Test
+    public void assertGenerateSQLTokensWithoutWhere() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getPaginationContext().getSeek()).thenReturn(Optional.of(new PaginationSeek("order_id", OrderDirection.ASC, 100, true, 100L)));
+        when(selectStatementContext.getSqlStatement().getWhere()).thenReturn(Optional.empty());
+        when(selectStatementContext.getSqlStatement().getOrderBy()).thenReturn(Optional.of(new OrderBySegment(30, 46, Collections.emptyList())));
+        PaginationSeekTokenGenerator generator = new PaginationSeekTokenGenerator();
+        generator.setParameters(Collections.emptyList());
+        List<PaginationSeekToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getStartIndex(), is(30));
+        assertThat(actual.get(0).toString(), is("WHERE order_id >= 100 "));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.pagination;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.segment.select.pagination.PaginationSeek;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.transaction.TransactionHolder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class PaginationSeekEngineTest {
+    
+    private static final JdbcDataSource DATA_SOURCE = new JdbcDataSource();
+    
+    @BeforeClass
+    public static void setUp() throws SQLException {
+        DATA_SOURCE.setURL("jdbc:h2:mem:pagination_seek;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        try (
+                Connection connection = DATA_SOURCE.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < 2; i++) {
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id INT PRIMARY KEY, user_id INT)", i));
+            }
+            for (int i = 0; i < 200; i++) {
+                statement.execute(String.format("INSERT INTO t_order_%d VALUES (%d, %d)", i % 2, i, i));
+            }
+        }
+    }
+    
+    @Test
+    public void assertSeek() {
+        PaginationContext actual = seek("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10", Collections.emptyList(), 100L);
+        assertTrue(actual.getSeek().isPresent());
+        assertThat(actual.getSeek().get().getBoundaryValue(), is(100));
+        assertThat(actual.getSeek().get().getSkippedRowCount(), is(100L));
+        assertThat(actual.getActualOffset(), is(0L));
+    }
+    
+    @Test
+    public void assertSeekWithWhere() {
+        PaginationContext actual = seek("SELECT order_id FROM t_order WHERE user_id > ? ORDER BY order_id DESC LIMIT ?, ?", Arrays.asList(0, 100, 10), 100L);
+        assertTrue(actual.getSeek().isPresent());
+        assertThat(actual.getSeek().get().getBoundaryValue(), is(99));
+        assertThat(actual.getSeek().get().getSkippedRowCount(), is(100L));
+        assertThat(actual.getActualOffset(), is(0L));
+    }
+    
+    @Test
+    public void assertNotSeekWithOffsetLessThanThreshold() {
+        assertFalse(seek("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10", Collections.emptyList(), 101L).getSeek().isPresent());
+    }
+    
+    @Test
+    public void assertNotSeekWithGroupBy() {
+        assertFalse(seek("SELECT user_id FROM t_order GROUP BY user_id ORDER BY user_id LIMIT 100, 10", Collections.emptyList(), 100L).getSeek().isPresent());
+    }
+    
+    @Test
+    public void assertNotSeekInTransaction() {
+        TransactionHolder.setInTransaction();
+        try {
+            assertFalse(seek("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10", Collections.emptyList(), 100L).getSeek().isPresent());
+        } finally {
+            TransactionHolder.clear();
+        }
+    }
+    
+    @Test
+    public void assertNotSeekWithLogicDataSource() {
+        assertFalse(seek("SELECT order_id FROM t_order ORDER BY order_id LIMIT 100, 10", Collections.emptyList(), 100L, "pr_ds").getSeek().isPresent());
+    }
+    
+    @Test
+    public void assertNotSeekWithProbeFailure() {
+        assertFalse(seek("SELECT order_id FROM t_order WHERE pwd = 'foo' ORDER BY order_id LIMIT 100, 10", Collections.emptyList(), 100L).getSeek().isPresent());
+    }
+    
+    @Test
+    public void assertSeekWithKeysetPaginationValue() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setKeysetPaginationValue(150);
+            PaginationContext actual = seek("SELECT order_id FROM t_order ORDER BY order_id LIMIT 10", Collections.emptyList(), 0L);
+            assertTrue(actual.getSeek().isPresent());
+            PaginationSeek seek = actual.getSeek().get();
+            assertThat(seek.getBoundaryValue(), is(150));
+            assertFalse(seek.isInclusive());
+            assertThat(seek.getSkippedRowCount(), is(0L));
+        }
+    }
+    
+    private PaginationContext seek(final String sql, final List<Object> parameters, final long threshold) {
+        return seek(sql, parameters, threshold, "ds_0");
+    }
+    
+    private PaginationContext seek(final String sql, final List<Object> parameters, final long threshold, final String routedDataSourceName) {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", DATA_SOURCE));
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        SelectStatement sqlStatement = (SelectStatement) new SQLStatementParserEngine("MySQL", sqlParserRule).parse(sql, false);
+        SelectStatementContext selectStatementContext = new SelectStatementContext(Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), parameters, sqlStatement, DefaultSchema.LOGIC_NAME);
+        RouteContext routeContext = new RouteContext();
+        for (int i = 0; i < 2; i++) {
+            routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper(routedDataSourceName, routedDataSourceName), Collections.singletonList(new RouteMapper("t_order", "t_order_" + i))));
+        }
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.DEEP_PAGINATION_OFFSET_THRESHOLD.getKey(), String.valueOf(threshold));
+        new PaginationSeekEngine(metaData, new ConfigurationProperties(props)).seek(new LogicSQL(selectStatementContext, sql, parameters), routeContext);
+        return selectStatementContext.getPaginationContext();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.distsql.handler;
+
+import org.apache.shardingsphere.distsql.parser.segment.AlgorithmSegment;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration;
+import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
+import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.OutputConfiguration;
+import org.apache.shardingsphere.infra.distsql.exception.DistSQLException;
+import org.apache.shardingsphere.infra.distsql.exception.rule.InvalidAlgorithmConfigurationException;
+import org.apache.shardingsphere.infra.distsql.exception.rule.RequiredRuleMissedException;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.scaling.distsql.statement.AlterShardingScalingRuleStatement;
+import org.apache.shardingsphere.scaling.distsql.statement.segment.InputOrOutputSegment;
+import org.apache.shardingsphere.scaling.distsql.statement.segment.ShardingScalingRuleConfigurationSegment;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AlterShardingScalingRuleStatementUpdaterTest {
+    
+    private static final String LIMIT_TYPE_INPUT = "FIXTURE_INPUT";
+    
+    private static final String LIMIT_TYPE_OUTPUT = "FIXTURE_OUTPUT";
+    
+    @Mock
+    private ShardingSphereMetaData shardingSphereMetaData;
+    
+    private final AlterShardingScalingRuleStatementUpdater updater = new AlterShardingScalingRuleStatementUpdater();
+    
+    @Test(expected = RequiredRuleMissedException.class)
+    public void assertCheckWithoutShardingRule() throws DistSQLException {
+        updater.checkSQLStatement(shardingSphereMetaData, createSQLStatement(createCompleteConfiguration()), null);
+    }
+    
+    @Test(expected = RequiredRuleMissedException.class)
+    public void assertCheckWithNotExistScalingRule() throws DistSQLException {
+        updater.checkSQLStatement(shardingSphereMetaData, createSQLStatement(createCompleteConfiguration()), new ShardingRuleConfiguration());
+    }
+    
+    @Test(expected = InvalidAlgorithmConfigurationException.class)
+    public void assertCheckInvalidRateLimiter() throws DistSQLException {
+        ShardingScalingRuleConfigurationSegment segment = new ShardingScalingRuleConfigurationSegment();
+        segment.setInputSegment(createInputOrOutputSegment("INVALID"));
+        updater.checkSQLStatement(shardingSphereMetaData, createSQLStatement(segment), createCurrentRuleConfiguration());
+    }
+    
+    @Test
+    public void assertCheckSuccess() throws DistSQLException {
+        updater.checkSQLStatement(shardingSphereMetaData, createSQLStatement(createCompleteConfiguration()), createCurrentRuleConfiguration());
+    }
+    
+    @Test
+    public void assertUpdateSuccess() {
+        ShardingRuleConfiguration currentRuleConfig = createCurrentRuleConfiguration();
+        ShardingRuleConfiguration toBeAlteredRuleConfig = updater.buildToBeAlteredRuleConfiguration(createSQLStatement(createCompleteConfiguration()));
+        updater.updateCurrentRuleConfiguration(currentRuleConfig, toBeAlteredRuleConfig);
+        assertThat(currentRuleConfig.getScalingName(), is("default_scaling"));
+        assertThat(currentRuleConfig.getScaling().size(), is(1));
+        OnRuleAlteredActionConfiguration actual = currentRuleConfig.getScaling().get("default_scaling");
+        assertThat(actual.getInput().getRateLimiter().getType(), is(LIMIT_TYPE_INPUT));
+        assertThat(actual.getInput().getRateLimiter().getProps().getProperty("qps"), is("100"));
+        assertThat(actual.getOutput().getRateLimiter().getType(), is(LIMIT_TYPE_OUTPUT));
+        assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
+    }
+    
+    private AlterShardingScalingRuleStatement createSQLStatement(final ShardingScalingRuleConfigurationSegment segment) {
+        return new AlterShardingScalingRuleStatement("default_scaling", segment);
+    }
+    
+    private ShardingRuleConfiguration createCurrentRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        Properties props = new Properties();
+        props.setProperty("qps", "50");
+        InputConfiguration inputConfig = new InputConfiguration(10, 1000, null, new ShardingSphereAlgorithmConfiguration(LIMIT_TYPE_INPUT, props));
+        OutputConfiguration outputConfig = new OutputConfiguration(10, 1000, null);
+        result.getScaling().put("default_scaling", new OnRuleAlteredActionConfiguration(inputConfig, outputConfig, null, null, null));
+        result.setScalingName("default_scaling");
+        return result;
+    }
+    
+    private ShardingScalingRuleConfigurationSegment createCompleteConfiguration() {
+        ShardingScalingRuleConfigurationSegment result = new ShardingScalingRuleConfigurationSegment();
+        InputOrOutputSegment inputSegment = createInputOrOutputSegment(LIMIT_TYPE_INPUT);
+        inputSegment.getRateLimiter().getProps().setProperty("qps", "100");
+        result.setInputSegment(inputSegment);
+        result.setOutputSegment(createInputOrOutputSegment(LIMIT_TYPE_OUTPUT));
+        result.setStreamChannel(new AlgorithmSegment("MEMORY", new Properties()));
+        return result;
+    }
+    
+    private InputOrOutputSegment createInputOrOutputSegment(final String type) {
+        return new InputOrOutputSegment(10, 1000, new AlgorithmSegment(type, new Properties()));
+    }
+}
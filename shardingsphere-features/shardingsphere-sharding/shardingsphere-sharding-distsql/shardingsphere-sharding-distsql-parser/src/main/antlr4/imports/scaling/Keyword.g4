@@ -27,6 +27,10 @@ CREATE
     : C R E A T E
     ;
 
+ALTER
+    : A L T E R
+    ;
+
 ALGORITHMS
     : A L G O R I T H M S
     ;
@@ -23,6 +23,10 @@ createShardingScalingRule
     : CREATE SHARDING SCALING RULE scalingName scalingRuleDefinition?
     ;
 
+alterShardingScalingRule
+    : ALTER SHARDING SCALING RULE scalingName scalingRuleDefinition
+    ;
+
 dropShardingScalingRule
     : DROP SHARDING SCALING RULE scalingName
     ;
@@ -33,6 +33,7 @@ execute
     | applyScaling
     | showShardingScalingRules
     | createShardingScalingRule
+    | alterShardingScalingRule
     | dropShardingScalingRule
     | enableShardingScalingRule
     | disableShardingScalingRule
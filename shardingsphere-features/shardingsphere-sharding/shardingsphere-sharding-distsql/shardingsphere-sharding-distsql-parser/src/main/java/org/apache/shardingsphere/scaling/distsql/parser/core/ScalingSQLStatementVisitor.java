@@ -21,6 +21,7 @@ import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementBaseVisitor;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.AlgorithmDefinitionContext;
+import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.AlterShardingScalingRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.ApplyScalingContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.BatchSizeContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.CheckScalingContext;
@@ -48,6 +49,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.S
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.StreamChannelContext;
 import org.apache.shardingsphere.distsql.parser.autogen.ScalingStatementParser.WorkerThreadContext;
 import org.apache.shardingsphere.distsql.parser.segment.AlgorithmSegment;
+import org.apache.shardingsphere.scaling.distsql.statement.AlterShardingScalingRuleStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.ApplyScalingStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.CheckScalingStatement;
 import org.apache.shardingsphere.scaling.distsql.statement.CreateShardingScalingRuleStatement;
@@ -146,6 +148,11 @@ public final class ScalingSQLStatementVisitor extends ScalingStatementBaseVisito
         return result;
     }
     
+    @Override
+    public ASTNode visitAlterShardingScalingRule(final AlterShardingScalingRuleContext ctx) {
+        return new AlterShardingScalingRuleStatement(getIdentifierValue(ctx.scalingName()), (ShardingScalingRuleConfigurationSegment) visit(ctx.scalingRuleDefinition()));
+    }
+    
     @Override
     public ASTNode visitScalingRuleDefinition(final ScalingRuleDefinitionContext ctx) {
         ShardingScalingRuleConfigurationSegment result = new ShardingScalingRuleConfigurationSegment();
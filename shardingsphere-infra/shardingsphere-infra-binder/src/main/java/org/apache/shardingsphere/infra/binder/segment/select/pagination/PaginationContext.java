@@ -43,6 +43,8 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    private PaginationSeek seek;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> parameters) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -87,7 +89,8 @@ public final class PaginationContext {
         if (null == offsetSegment) {
             return 0L;
         }
-        return offsetSegment.isBoundOpened() ? actualOffset - 1 : actualOffset;
+        long result = null == seek ? actualOffset : actualOffset - seek.getSkippedRowCount();
+        return offsetSegment.isBoundOpened() ? result - 1 : result;
     }
     
     /**
@@ -140,7 +143,28 @@ public final class PaginationContext {
         if (isMaxRowCount(selectStatementContext)) {
             return Integer.MAX_VALUE;
         }
-        return rowCountSegment instanceof LimitValueSegment ? actualOffset + actualRowCount : actualRowCount;
+        if (!(rowCountSegment instanceof LimitValueSegment)) {
+            return actualRowCount;
+        }
+        return null == seek ? actualOffset + actualRowCount : actualOffset - seek.getSkippedRowCount() + actualRowCount;
+    }
+    
+    /**
+     * Get pagination seek.
+     *
+     * @return pagination seek
+     */
+    public Optional<PaginationSeek> getSeek() {
+        return Optional.ofNullable(seek);
+    }
+    
+    /**
+     * Seek pagination to boundary value, rows skipped by seek are excluded from actual offset.
+     *
+     * @param seek pagination seek
+     */
+    public void seek(final PaginationSeek seek) {
+        this.seek = seek;
     }
     
     private boolean isMaxRowCount(final SelectStatementContext selectStatementContext) {
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.segment.select.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+
+/**
+ * Pagination seek, which restricts each data node to rows beyond a boundary value of order by column.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PaginationSeek {
+    
+    private final String columnName;
+    
+    private final OrderDirection orderDirection;
+    
+    private final Object boundaryValue;
+    
+    private final boolean inclusive;
+    
+    private final long skippedRowCount;
+}
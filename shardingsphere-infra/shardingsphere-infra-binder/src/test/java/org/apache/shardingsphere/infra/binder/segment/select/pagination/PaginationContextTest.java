@@ -134,6 +134,19 @@ public final class PaginationContextTest {
         assertThat(new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters()).getRevisedOffset(), is(0L));
     }
     
+    @Test
+    public void assertSeek() {
+        PaginationContext paginationContext = new PaginationContext(getOffsetSegment(), getRowCountSegment(), getParameters());
+        paginationContext.seek(new PaginationSeek("order_id", OrderDirection.ASC, 100, true, 25L));
+        assertTrue(paginationContext.getSeek().isPresent());
+        assertThat(paginationContext.getActualOffset(), is(5L));
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        Map<String, ShardingSphereMetaData> metaDataMap = Collections.singletonMap(DefaultSchema.LOGIC_NAME, mock(ShardingSphereMetaData.class));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(metaDataMap, Collections.emptyList(), selectStatement, DefaultSchema.LOGIC_NAME);
+        assertThat(paginationContext.getRevisedRowCount(selectStatementContext), is(25L));
+    }
+    
     @Test
     public void getRevisedRowCountForMySQL() {
         getRevisedRowCount(new MySQLSelectStatement());
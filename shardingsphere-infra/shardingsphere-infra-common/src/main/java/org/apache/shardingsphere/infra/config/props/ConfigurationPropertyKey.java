@@ -47,6 +47,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Max concurrent execution groups of each data source in executor, 0 means no limitation.
+     */
+    KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE("kernel-executor-max-concurrency-per-data-source", String.valueOf(0), int.class),
+    
+    /**
+     * Max queued execution groups of each data source in executor, execution fails when queue is full.
+     */
+    KERNEL_EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE("kernel-executor-max-queue-size-per-data-source", String.valueOf(1024), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -66,7 +76,23 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      * Flush threshold for every records from databases for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class),
-      
+    
+    /**
+     * Min payload length to be compressed when MySQL client negotiated compressed protocol, shorter payloads are sent uncompressed.
+     */
+    PROXY_FRONTEND_MYSQL_COMPRESSION_THRESHOLD("proxy-frontend-mysql-compression-threshold", String.valueOf(50), int.class),
+    
+    /**
+     * Zlib compression level of MySQL compressed protocol, from 1 (fastest) to 9 (best compression).
+     */
+    PROXY_FRONTEND_MYSQL_COMPRESSION_LEVEL("proxy-frontend-mysql-compression-level", String.valueOf(6), int.class),
+    
+    /**
+     * Max packet length in bytes accepted from MySQL client, the connection is closed if client sends a larger packet.
+     * Less than or equal to 0 means no limitation.
+     */
+    PROXY_FRONTEND_MYSQL_MAX_ALLOWED_PACKET("proxy-frontend-mysql-max-allowed-packet", String.valueOf(64 * 1024 * 1024), int.class),
+    
     /**
      * Whether enable hint for ShardingSphere-Proxy.
      */
@@ -104,6 +130,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_EXECUTOR_SUITABLE("proxy-backend-executor-suitable", "OLAP", String.class),
     
+    /**
+     * Thread type of proxy command executors and kernel executor: PLATFORM(default), VIRTUAL.
+     * VIRTUAL falls back to PLATFORM if virtual threads are not supported by current JDK.
+     */
+    PROXY_EXECUTOR_THREAD_TYPE("proxy-executor-thread-type", "PLATFORM", String.class),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -114,6 +146,45 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Refresh interval seconds of table statistics used by sql federation planner.
+     * Less than or equal to 0 means table statistics are not collected, databases other than MySQL and PostgreSQL are collected by count of each actual table.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS("sql-federation-statistics-refresh-interval-seconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max rows of each sql federation table scan buffered in memory, rows beyond it are spilled to temporary file.
+     * Less than or equal to 0 means rows are never spilled.
+     */
+    SQL_FEDERATION_SPILL_THRESHOLD_ROWS("sql-federation-spill-threshold-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Whether reuse rewritten SQL tokens of prepared statement if routed to same route units.
+     */
+    SQL_REWRITE_TEMPLATE_CACHE_ENABLED("sql-rewrite-template-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max rows of group by merged result in memory, other rows will be spilled to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    SQL_MERGE_GROUP_BY_MAX_MEMORY_ROWS("sql-merge-group-by-max-memory-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Min offset of sharding pagination query to seek boundary value of order by column by probing each data node first.
+     * Less than or equal to 0 means pagination is never sought.
+     */
+    DEEP_PAGINATION_OFFSET_THRESHOLD("deep-pagination-offset-threshold", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether store query result of connection strictly mode by columns with primitive values.
+     */
+    SQL_COLUMNAR_MEMORY_QUERY_RESULT_ENABLED("sql-columnar-memory-query-result-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether bind batched rows of prepared statement once, and only route sharding values of each row.
+     */
+    SQL_BATCH_SINGLE_BIND_ENABLED("sql-batch-single-bind-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Proxy backend driver type. Default driver is JDBC.
      */
@@ -44,6 +44,8 @@ public final class HintManager implements AutoCloseable {
     
     private boolean writeRouteOnly;
     
+    private Comparable<?> keysetPaginationValue;
+    
     @Setter
     private String dataSourceName;
     
@@ -166,6 +168,26 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().writeRouteOnly;
     }
     
+    /**
+     * Set keyset pagination value.
+     *
+     * <p>Query with single column order by only returns rows after the value, which is usually the order by value of last row in previous page.</p>
+     *
+     * @param value keyset pagination value
+     */
+    public void setKeysetPaginationValue(final Comparable<?> value) {
+        keysetPaginationValue = value;
+    }
+    
+    /**
+     * Get keyset pagination value.
+     *
+     * @return keyset pagination value
+     */
+    public static Optional<Comparable<?>> getKeysetPaginationValue() {
+        return Optional.ofNullable(HINT_MANAGER_HOLDER.get()).map(hintManager -> hintManager.keysetPaginationValue);
+    }
+    
     /**
      * Clear thread local for hint manager.
      */
@@ -49,6 +49,8 @@ public final class YamlOnRuleAlteredActionConfiguration implements YamlConfigura
         
         private Integer batchSize;
         
+        private Integer decodeConcurrency;
+        
         private YamlShardingSphereAlgorithmConfiguration rateLimiter;
     
         /**
@@ -74,6 +74,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             YamlInputConfiguration result = new YamlInputConfiguration();
             result.setWorkerThread(data.getWorkerThread());
             result.setBatchSize(data.getBatchSize());
+            result.setDecodeConcurrency(data.getDecodeConcurrency());
             result.setRateLimiter(ALGORITHM_CONFIG_YAML_SWAPPER.swapToYamlConfiguration(data.getRateLimiter()));
             return result;
         }
@@ -83,7 +84,8 @@ public final class OnRuleAlteredActionConfigurationYamlSwapper implements YamlCo
             if (null == yamlConfig) {
                 return null;
             }
-            return new InputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()));
+            return new InputConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getDecodeConcurrency(),
+                    ALGORITHM_CONFIG_YAML_SWAPPER.swapToObject(yamlConfig.getRateLimiter()));
         }
     }
     
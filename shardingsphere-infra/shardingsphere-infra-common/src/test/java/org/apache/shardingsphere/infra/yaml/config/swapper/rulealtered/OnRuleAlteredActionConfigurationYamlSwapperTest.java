@@ -45,6 +45,7 @@ public final class OnRuleAlteredActionConfigurationYamlSwapperTest {
         yamlConfig.setInput(yamlInputConfig);
         yamlInputConfig.setWorkerThread(40);
         yamlInputConfig.setBatchSize(1000);
+        yamlInputConfig.setDecodeConcurrency(4);
         yamlInputConfig.setRateLimiter(new YamlShardingSphereAlgorithmConfiguration("INPUT", rateLimiterProps));
         YamlOutputConfiguration yamlOutputConfig = new YamlOutputConfiguration();
         yamlOutputConfig.setWorkerThread(40);
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuil
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
@@ -50,6 +51,25 @@ public final class KernelProcessor {
         return result;
     }
     
+    /**
+     * Generate execution context with SQL rewrite template cache.
+     *
+     * @param logicSQL logic SQL
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @param rewriteTemplateCache SQL rewrite template cache of logic SQL
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props,
+                                                     final SQLRewriteTemplateCache rewriteTemplateCache) {
+        RouteContext routeContext = route(logicSQL, metaData, props);
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(metaData.getName(), metaData.getSchema(), props, metaData.getRuleMetaData().getRules());
+        SQLRewriteResult rewriteResult = sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext, rewriteTemplateCache);
+        ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
+        logSQL(logicSQL, props, result);
+        return result;
+    }
+    
     private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
         return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
     }
@@ -17,14 +17,21 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.MoreExecutors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.DataSourceBulkhead;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProvider;
+import org.apache.shardingsphere.infra.executor.kernel.thread.PlatformExecutorServiceProvider;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -33,6 +40,9 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -43,8 +53,25 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
+    private final int maxConcurrencyPerDataSource;
+    
+    private final int maxQueueSizePerDataSource;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DataSourceBulkhead> dataSourceBulkheads = new ConcurrentHashMap<>();
+    
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, new PlatformExecutorServiceProvider());
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecutorServiceProvider executorServiceProvider) {
+        this(executorSize, executorServiceProvider, 0, 0);
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecutorServiceProvider executorServiceProvider, final int maxConcurrencyPerDataSource, final int maxQueueSizePerDataSource) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorServiceProvider);
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+        this.maxQueueSizePerDataSource = maxQueueSizePerDataSource;
     }
     
     /**
@@ -78,10 +105,35 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
+        return serial || 1 == executionGroupContext.getInputGroups().size() ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Submit all execution groups to execute asynchronously without blocking current thread.
+     * 
+     * <p>Every execution group is executed as trunk thread, so failure of any execution group fails returned future.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result
+     */
+    public <I, O> ListenableFuture<List<O>> submit(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback) {
+        List<ListenableFuture<Collection<O>>> futures = new LinkedList<>();
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            futures.add(asyncExecute(each, callback, true));
+        }
+        return Futures.transform(Futures.allAsList(futures), this::flatten, MoreExecutors.directExecutor());
+    }
+    
+    private <O> List<O> flatten(final List<Collection<O>> groupResults) {
+        List<O> result = new LinkedList<>();
+        groupResults.forEach(result::addAll);
+        return result;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -98,20 +150,63 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
+        if (maxConcurrencyPerDataSource <= 0 || null == executionGroup.getDataSourceName()) {
+            return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
+        }
+        DataSourceBulkhead dataSourceBulkhead = getDataSourceBulkhead(executionGroup.getDataSourceName());
+        if (!acquire(dataSourceBulkhead)) {
+            throw createRejectedException(executionGroup.getDataSourceName());
+        }
+        try {
+            return callback.execute(executionGroup.getInputs(), true, ExecutorDataMap.getValue());
+        } finally {
+            dataSourceBulkhead.release();
+        }
+    }
+    
+    private boolean acquire(final DataSourceBulkhead dataSourceBulkhead) {
+        try {
+            return dataSourceBulkhead.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ShardingSphereException(ex);
+        }
     }
     
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), callback));
+            result.add(asyncExecute(executionGroups.next(), callback, false));
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+    private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final boolean isTrunkThread) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        Callable<Collection<O>> task = () -> callback.execute(executionGroup.getInputs(), isTrunkThread, dataMap);
+        if (maxConcurrencyPerDataSource <= 0 || null == executionGroup.getDataSourceName()) {
+            return executorServiceManager.getExecutorService().submit(task);
+        }
+        String dataSourceName = executionGroup.getDataSourceName();
+        ListenableFutureTask<Collection<O>> result = ListenableFutureTask.create(task);
+        if (!getDataSourceBulkhead(dataSourceName).offer(result)) {
+            return Futures.immediateFailedFuture(createRejectedException(dataSourceName));
+        }
+        return Futures.catchingAsync(result, CancellationException.class, ex -> Futures.immediateFailedFuture(createRejectedException(dataSourceName)), MoreExecutors.directExecutor());
+    }
+    
+    private SQLException createRejectedException(final String dataSourceName) {
+        return new SQLException(String.format("Execution of data source `%s` is rejected, max concurrency is %d and max queue size is %d.",
+                dataSourceName, maxConcurrencyPerDataSource, maxQueueSizePerDataSource));
+    }
+    
+    private DataSourceBulkhead getDataSourceBulkhead(final String dataSourceName) {
+        DataSourceBulkhead result = dataSourceBulkheads.get(dataSourceName);
+        if (null == result) {
+            result = dataSourceBulkheads.computeIfAbsent(dataSourceName,
+                key -> new DataSourceBulkhead(key, maxConcurrencyPerDataSource, maxQueueSizePerDataSource, executorServiceManager.getExecutorService()));
+        }
+        return result;
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -133,6 +228,15 @@ public final class ExecutorEngine implements AutoCloseable {
         throw new ShardingSphereException(exception);
     }
     
+    /**
+     * Get data source bulkheads.
+     * 
+     * @return data source bulkheads
+     */
+    public Collection<DataSourceBulkhead> getDataSourceBulkheads() {
+        return Collections.unmodifiableCollection(dataSourceBulkheads.values());
+    }
+    
     @Override
     public void close() {
         executorServiceManager.close();
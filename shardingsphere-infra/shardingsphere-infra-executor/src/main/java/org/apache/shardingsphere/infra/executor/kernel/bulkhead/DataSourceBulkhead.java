@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source bulkhead, which limits concurrent tasks of one data source in shared executor service.
+ * 
+ * <p>Tasks exceeding max concurrency wait in a bounded queue and are dispatched to executor service once running tasks complete,
+ * tasks executed in caller thread acquire permit from the same bulkhead and wait in the same queue.</p>
+ */
+@RequiredArgsConstructor
+public final class DataSourceBulkhead {
+    
+    @Getter
+    private final String dataSourceName;
+    
+    private final int maxConcurrency;
+    
+    private final int maxQueueSize;
+    
+    private final ExecutorService executorService;
+    
+    private final Queue<QueuedTask> pendingTasks = new LinkedList<>();
+    
+    private final LongAdder executedCount = new LongAdder();
+    
+    private final LongAdder rejectedCount = new LongAdder();
+    
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+    
+    private int runningCount;
+    
+    /**
+     * Offer task.
+     * 
+     * @param task task to be executed
+     * @return offered or not, false means max concurrency reached and queue is full
+     * @throws RejectedExecutionException thrown if executor service rejects the task
+     */
+    public synchronized boolean offer(final Runnable task) {
+        QueuedTask queuedTask = new QueuedTask(task, System.nanoTime(), false);
+        if (runningCount < maxConcurrency) {
+            dispatch(queuedTask);
+            runningCount++;
+            return true;
+        }
+        if (pendingTasks.size() >= maxQueueSize) {
+            rejectedCount.increment();
+            return false;
+        }
+        pendingTasks.add(queuedTask);
+        return true;
+    }
+    
+    /**
+     * Acquire permit to execute task in caller thread, wait in queue if max concurrency reached.
+     * 
+     * <p>Acquired permit must be released by {@linkplain #release()} once task completes.</p>
+     * 
+     * @return acquired or not, false means max concurrency reached and queue is full
+     * @throws InterruptedException thrown if interrupted while waiting in queue
+     */
+    public boolean acquire() throws InterruptedException {
+        CountDownLatch permitLatch = new CountDownLatch(1);
+        QueuedTask queuedTask = new QueuedTask(permitLatch::countDown, System.nanoTime(), true);
+        synchronized (this) {
+            if (runningCount < maxConcurrency) {
+                recordQueueWait(0L);
+                runningCount++;
+                return true;
+            }
+            if (pendingTasks.size() >= maxQueueSize) {
+                rejectedCount.increment();
+                return false;
+            }
+            pendingTasks.add(queuedTask);
+        }
+        try {
+            permitLatch.await();
+        } catch (final InterruptedException ex) {
+            abandon(queuedTask);
+            throw ex;
+        }
+        return true;
+    }
+    
+    private synchronized void abandon(final QueuedTask queuedTask) {
+        if (!pendingTasks.remove(queuedTask)) {
+            release();
+        }
+    }
+    
+    private void dispatch(final QueuedTask queuedTask) {
+        executorService.execute(() -> {
+            recordQueueWait(System.nanoTime() - queuedTask.getOfferedNanoTime());
+            try {
+                queuedTask.getTask().run();
+            } finally {
+                release();
+            }
+        });
+    }
+    
+    private void recordQueueWait(final long waitNanos) {
+        executedCount.increment();
+        totalQueueWaitNanos.add(waitNanos);
+        maxQueueWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+    
+    /**
+     * Release permit of completed task, and hand it over to next queued task.
+     */
+    public synchronized void release() {
+        while (!pendingTasks.isEmpty()) {
+            QueuedTask next = pendingTasks.poll();
+            if (next.isCallerRuns()) {
+                recordQueueWait(System.nanoTime() - next.getOfferedNanoTime());
+                next.getTask().run();
+                return;
+            }
+            try {
+                dispatch(next);
+                return;
+            } catch (final RejectedExecutionException ex) {
+                rejectedCount.increment();
+                cancel(next.getTask());
+            }
+        }
+        runningCount--;
+    }
+    
+    private void cancel(final Runnable task) {
+        if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+        }
+    }
+    
+    /**
+     * Get queue size.
+     * 
+     * @return queue size
+     */
+    public synchronized int getQueueSize() {
+        return pendingTasks.size();
+    }
+    
+    /**
+     * Get count of executed tasks.
+     * 
+     * @return count of executed tasks
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+    
+    /**
+     * Get count of rejected tasks.
+     * 
+     * @return count of rejected tasks
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+    
+    /**
+     * Get total queue wait time of executed tasks.
+     * 
+     * @return total queue wait time in nanoseconds
+     */
+    public long getTotalQueueWaitNanos() {
+        return totalQueueWaitNanos.sum();
+    }
+    
+    /**
+     * Get max queue wait time of executed tasks.
+     * 
+     * @return max queue wait time in nanoseconds
+     */
+    public long getMaxQueueWaitNanos() {
+        return maxQueueWaitNanos.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class QueuedTask {
+        
+        private final Runnable task;
+        
+        private final long offeredNanoTime;
+        
+        private final boolean callerRuns;
+    }
+}
@@ -23,7 +23,6 @@ import lombok.Getter;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -43,13 +42,16 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
-        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+        this(executorSize, nameFormat, new PlatformExecutorServiceProvider());
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final ExecutorServiceProvider executorServiceProvider) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceProvider);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceProvider executorServiceProvider) {
+        executorService = MoreExecutors.listeningDecorator(executorServiceProvider.newExecutorService(executorSize, nameFormat));
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
     /**
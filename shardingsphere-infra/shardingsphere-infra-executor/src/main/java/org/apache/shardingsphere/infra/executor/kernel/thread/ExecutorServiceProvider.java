@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.spi.typed.TypedSPI;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Executor service provider.
+ */
+public interface ExecutorServiceProvider extends TypedSPI {
+    
+    /**
+     * Judge whether executor service provider is available in current runtime.
+     * 
+     * @return available or not
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+    
+    /**
+     * Create new executor service.
+     * 
+     * @param executorSize executor size, 0 means unbounded
+     * @param nameFormat thread name format
+     * @return new executor service
+     */
+    ExecutorService newExecutorService(int executorSize, String nameFormat);
+    
+    /**
+     * Create new executor service which executes tasks one by one in submission order.
+     * 
+     * @param threadName thread name
+     * @return new executor service
+     */
+    ExecutorService newSingleThreadExecutorService(String threadName);
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.typed.TypedSPIRegistry;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Executor service provider factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ExecutorServiceProviderFactory {
+    
+    static {
+        ShardingSphereServiceLoader.register(ExecutorServiceProvider.class);
+    }
+    
+    /**
+     * Get instance of executor service provider.
+     * 
+     * <p>Platform executor service provider is returned if the type is not found or not available in current runtime.</p>
+     * 
+     * @param type type of executor service provider
+     * @return instance of executor service provider
+     */
+    public static ExecutorServiceProvider getInstance(final String type) {
+        Optional<ExecutorServiceProvider> result = TypedSPIRegistry.findRegisteredService(ExecutorServiceProvider.class, type, new Properties());
+        if (result.isPresent() && result.get().isAvailable()) {
+            return result.get();
+        }
+        if (null != type && !"PLATFORM".equalsIgnoreCase(type)) {
+            log.warn("Executor service provider `{}` is not available, fall back to platform threads.", type);
+        }
+        return new PlatformExecutorServiceProvider();
+    }
+}
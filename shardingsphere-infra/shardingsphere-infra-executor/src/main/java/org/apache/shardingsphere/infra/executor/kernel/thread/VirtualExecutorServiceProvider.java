@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service provider for virtual threads.
+ * 
+ * <p>Virtual threads are looked up by reflection, so the provider is only available when running on JDK 21 or later.</p>
+ */
+public final class VirtualExecutorServiceProvider implements ExecutorServiceProvider {
+    
+    private static final String NAME_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method NAME_METHOD = findMethod("java.lang.Thread$Builder", "name", String.class);
+    
+    private static final Method NAME_WITH_COUNTER_METHOD = findMethod("java.lang.Thread$Builder", "name", String.class, long.class);
+    
+    private static final Method FACTORY_METHOD = findMethod("java.lang.Thread$Builder", "factory");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static final boolean AVAILABLE = checkAvailable();
+    
+    private static Method findMethod(final String className, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return findMethod(Class.forName(className), methodName, parameterTypes);
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    private static boolean checkAvailable() {
+        if (null == OF_VIRTUAL_METHOD || null == NAME_METHOD || null == NAME_WITH_COUNTER_METHOD || null == FACTORY_METHOD || null == NEW_THREAD_PER_TASK_EXECUTOR_METHOD) {
+            return false;
+        }
+        try {
+            OF_VIRTUAL_METHOD.invoke(null);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return false;
+        }
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        return AVAILABLE;
+    }
+    
+    @Override
+    public ExecutorService newExecutorService(final int executorSize, final String nameFormat) {
+        ThreadFactory threadFactory = createThreadFactory(NAME_WITH_COUNTER_METHOD, NAME_PREFIX + nameFormat.replace("%d", ""), 0L);
+        return 0 == executorSize ? newThreadPerTaskExecutor(threadFactory)
+                : new ThreadPoolExecutor(executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    }
+    
+    @Override
+    public ExecutorService newSingleThreadExecutorService(final String threadName) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), createThreadFactory(NAME_METHOD, threadName));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private ThreadFactory createThreadFactory(final Method nameMethod, final Object... nameArgs) {
+        Object builder = nameMethod.invoke(OF_VIRTUAL_METHOD.invoke(null), nameArgs);
+        return (ThreadFactory) FACTORY_METHOD.invoke(builder);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL";
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -34,6 +36,7 @@ public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
     
+    @Getter
     private final boolean serial;
     
     /**
@@ -68,4 +71,16 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Submit to execute asynchronously.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    public <T> ListenableFuture<List<T>> submit(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final JDBCExecutorCallback<T> callback) {
+        return executorEngine.submit(executionGroupContext, callback);
+    }
 }
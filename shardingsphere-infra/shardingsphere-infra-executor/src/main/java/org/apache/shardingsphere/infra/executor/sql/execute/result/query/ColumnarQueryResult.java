@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query;
+
+/**
+ * Columnar query result, which can read primitive values without boxing.
+ */
+public interface ColumnarQueryResult extends QueryResult {
+    
+    /**
+     * Judge whether value of current row is null.
+     *
+     * @param columnIndex column index
+     * @return value is null or not
+     */
+    boolean isNull(int columnIndex);
+    
+    /**
+     * Judge whether column is stored as integral values.
+     *
+     * @param columnIndex column index
+     * @return column is integral or not
+     */
+    boolean isIntegral(int columnIndex);
+    
+    /**
+     * Get integral value of current row.
+     *
+     * @param columnIndex column index
+     * @return integral value
+     * @throws UnsupportedOperationException column is not integral
+     */
+    long getLong(int columnIndex);
+    
+    /**
+     * Judge whether column is stored as floating point values.
+     *
+     * @param columnIndex column index
+     * @return column is floating point or not
+     */
+    boolean isFloatingPoint(int columnIndex);
+    
+    /**
+     * Get floating point value of current row.
+     *
+     * @param columnIndex column index
+     * @return floating point value
+     * @throws UnsupportedOperationException column is not floating point
+     */
+    double getDouble(int columnIndex);
+}
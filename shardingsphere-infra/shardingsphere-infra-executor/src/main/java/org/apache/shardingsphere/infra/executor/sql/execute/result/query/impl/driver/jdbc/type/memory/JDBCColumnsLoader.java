@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntegerMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.ObjectMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.StringMemoryQueryResultColumn;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * JDBC columns loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCColumnsLoader {
+    
+    /**
+     * Load columns.
+     *
+     * @param columnCount column count
+     * @param resultSet result set of JDBC
+     * @return query result columns
+     * @throws SQLException SQL exception
+     */
+    public static MemoryQueryResultColumn[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumn[] result = createColumns(columnCount, resultSet.getMetaData());
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                loadValue(resultSet, columnIndex, result[columnIndex - 1]);
+            }
+        }
+        return result;
+    }
+    
+    private static MemoryQueryResultColumn[] createColumns(final int columnCount, final ResultSetMetaData metaData) throws SQLException {
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = createColumn(metaData, columnIndex);
+        }
+        return result;
+    }
+    
+    private static MemoryQueryResultColumn createColumn(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntegerMemoryQueryResultColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntegerMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn();
+        }
+    }
+    
+    private static void loadValue(final ResultSet resultSet, final int columnIndex, final MemoryQueryResultColumn column) throws SQLException {
+        if (column instanceof IntegerMemoryQueryResultColumn) {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                ((IntegerMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof LongMemoryQueryResultColumn) {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                ((LongMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof DoubleMemoryQueryResultColumn) {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.appendNull();
+            } else {
+                ((DoubleMemoryQueryResultColumn) column).append(value);
+            }
+        } else if (column instanceof StringMemoryQueryResultColumn) {
+            String value = resultSet.getString(columnIndex);
+            ((StringMemoryQueryResultColumn) column).append(resultSet.wasNull() ? null : value);
+        } else {
+            Object value = JDBCRowsLoader.loadRowValue(resultSet, columnIndex);
+            ((ObjectMemoryQueryResultColumn) column).append(resultSet.wasNull() ? null : value);
+        }
+    }
+}
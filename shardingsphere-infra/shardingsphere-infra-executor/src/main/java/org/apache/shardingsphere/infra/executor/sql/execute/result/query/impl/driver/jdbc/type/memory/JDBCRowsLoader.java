@@ -61,7 +61,7 @@ public final class JDBCRowsLoader {
     }
     
     @SuppressWarnings("ReturnOfNull")
-    private static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+    static Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
         ResultSetMetaData metaData = resultSet.getMetaData();
         switch (metaData.getColumnType(columnIndex)) {
             case Types.BOOLEAN:
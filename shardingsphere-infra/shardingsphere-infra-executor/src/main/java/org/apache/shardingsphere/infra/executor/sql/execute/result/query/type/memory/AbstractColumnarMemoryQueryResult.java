@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.ColumnarQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.IntegralMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.util.Calendar;
+
+/**
+ * Abstract columnar memory query result.
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements ColumnarQueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final MemoryQueryResultColumn[] columns) {
+        this.metaData = metaData;
+        this.columns = columns;
+        rowCount = 0 == columns.length ? 0 : columns[0].size();
+    }
+    
+    @Override
+    public final boolean next() {
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
+        }
+        return currentRowIndex < rowCount;
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        return columns[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return columns[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(columns[columnIndex - 1].getValue(currentRowIndex));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public final boolean isNull(final int columnIndex) {
+        return columns[columnIndex - 1].isNull(currentRowIndex);
+    }
+    
+    @Override
+    public final boolean isIntegral(final int columnIndex) {
+        return columns[columnIndex - 1] instanceof IntegralMemoryQueryResultColumn;
+    }
+    
+    @Override
+    public final long getLong(final int columnIndex) {
+        if (!isIntegral(columnIndex)) {
+            throw new UnsupportedOperationException(String.format("Column `%d` is not integral", columnIndex));
+        }
+        return ((IntegralMemoryQueryResultColumn) columns[columnIndex - 1]).getLong(currentRowIndex);
+    }
+    
+    @Override
+    public final boolean isFloatingPoint(final int columnIndex) {
+        return columns[columnIndex - 1] instanceof DoubleMemoryQueryResultColumn;
+    }
+    
+    @Override
+    public final double getDouble(final int columnIndex) {
+        if (!isFloatingPoint(columnIndex)) {
+            throw new UnsupportedOperationException(String.format("Column `%d` is not floating point", columnIndex));
+        }
+        return ((DoubleMemoryQueryResultColumn) columns[columnIndex - 1]).getDouble(currentRowIndex);
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
+    }
+    
+    @Override
+    public final void close() {
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Column of memory query result, values of column are stored in one array and nulls are stored in bitmap.
+ */
+public abstract class MemoryQueryResultColumn {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    /**
+     * Append null value.
+     */
+    public final void appendNull() {
+        nulls.set(nextIndex());
+    }
+    
+    protected final int nextIndex() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+    
+    protected static int grow(final int capacity, final int minCapacity) {
+        return Math.max(minCapacity, capacity + (capacity >> 1));
+    }
+    
+    /**
+     * Get size.
+     *
+     * @return size
+     */
+    public final int size() {
+        return size;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index
+     * @return value is null or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nulls.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    public final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    protected abstract void ensureCapacity(int minCapacity);
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String memory query result column.
+ * 
+ * <p>Values are dictionary encoded, rows only keep code of distinct value. Dictionary stops growing after max dictionary size reached.</p>
+ */
+public final class StringMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private final List<String> distinctValues = new ArrayList<>();
+    
+    private Map<String, Integer> dictionary = new HashMap<>();
+    
+    private int[] codes = new int[INITIAL_CAPACITY];
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void append(final String value) {
+        if (null == value) {
+            appendNull();
+        } else {
+            int code = encode(value);
+            int rowIndex = nextIndex();
+            codes[rowIndex] = code;
+        }
+    }
+    
+    private int encode(final String value) {
+        if (null != dictionary) {
+            Integer result = dictionary.get(value);
+            if (null != result) {
+                return result;
+            }
+            if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+                dictionary.put(value, distinctValues.size());
+            } else {
+                dictionary = null;
+            }
+        }
+        distinctValues.add(value);
+        return distinctValues.size() - 1;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return distinctValues.get(codes[rowIndex]);
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (minCapacity > codes.length) {
+            codes = Arrays.copyOf(codes, grow(codes.length, minCapacity));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Row spill file, which stores rows into local temporary file.
+ * 
+ * <p>The file is deleted when it is closed, so owner of spill file must close it when its result is closed.</p>
+ */
+public final class RowSpillFile implements Closeable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final Path path;
+    
+    private final Collection<RowReader> openedReaders = new LinkedList<>();
+    
+    private ObjectOutputStream outputStream;
+    
+    @Getter
+    private int rowCount;
+    
+    private boolean closed;
+    
+    public RowSpillFile(final String prefix) throws IOException {
+        path = Files.createTempFile(prefix, ".spill");
+        try {
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Judge whether row can be spilled.
+     * 
+     * @param row row to be judged
+     * @return whether all values of row are serializable
+     */
+    public static boolean isSpillable(final Object[] row) {
+        return !findNotSerializableValue(row).isPresent();
+    }
+    
+    private static Optional<Object> findNotSerializableValue(final Object[] row) {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     * @throws IOException IO exception
+     * @throws NotSerializableException thrown before anything is written if row has value which is not serializable
+     */
+    public synchronized void write(final Object[] row) throws IOException {
+        Optional<Object> notSerializableValue = findNotSerializableValue(row);
+        if (notSerializableValue.isPresent()) {
+            throw new NotSerializableException(notSerializableValue.get().getClass().getName());
+        }
+        outputStream.writeUnshared(row);
+        if (0 == ++rowCount % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Finish writing.
+     * 
+     * @throws IOException IO exception
+     */
+    public synchronized void finishWrite() throws IOException {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+    }
+    
+    /**
+     * Open reader of rows which have been written before opening.
+     * 
+     * @return row reader
+     * @throws IOException IO exception
+     */
+    public synchronized RowReader openReader() throws IOException {
+        if (null != outputStream) {
+            outputStream.flush();
+        }
+        RowReader result = new RowReader(new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path))), rowCount);
+        openedReaders.add(result);
+        return result;
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            for (RowReader each : openedReaders) {
+                each.inputStream.close();
+            }
+            openedReaders.clear();
+            finishWrite();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    private synchronized void closeReader(final RowReader reader) throws IOException {
+        openedReaders.remove(reader);
+        reader.inputStream.close();
+    }
+    
+    /**
+     * Row reader, which is closed automatically after all rows are read.
+     */
+    public final class RowReader implements Closeable {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int remainingRowCount;
+        
+        private RowReader(final ObjectInputStream inputStream, final int rowCount) {
+            this.inputStream = inputStream;
+            remainingRowCount = rowCount;
+        }
+        
+        /**
+         * Judge whether has next row.
+         * 
+         * @return has next row or not
+         */
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        /**
+         * Read next row.
+         * 
+         * @return next row
+         * @throws SQLException thrown if row can not be read from spill file
+         */
+        public Object[] next() throws SQLException {
+            if (remainingRowCount <= 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                Object[] result = (Object[]) inputStream.readUnshared();
+                if (0 == --remainingRowCount) {
+                    close();
+                }
+                return result;
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new SQLException(String.format("Can not read row from spill file `%s`", path), ex);
+            }
+        }
+        
+        @Override
+        public void close() throws IOException {
+            remainingRowCount = 0;
+            closeReader(this);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
 
+import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
@@ -46,10 +47,17 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     @SuppressWarnings("rawtypes")
     private static final Map<String, SQLExecutionUnitBuilder> TYPE_TO_BUILDER_MAP = new ConcurrentHashMap<>(8, 1);
     
+    private final String type;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    @Getter
     private final ExecutorDriverManager<C, ?, ?> executorDriverManager;
     
     private final StorageResourceOption option;
     
+    private final Collection<ShardingSphereRule> rules;
+    
     @SuppressWarnings("rawtypes")
     private final SQLExecutionUnitBuilder sqlExecutionUnitBuilder;
     
@@ -60,11 +68,24 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final ExecutorDriverManager<C, ?, ?> executorDriverManager, 
                                         final StorageResourceOption option, final Collection<ShardingSphereRule> rules) {
         super(maxConnectionsSizePerQuery, rules);
+        this.type = type;
+        this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
         this.executorDriverManager = executorDriverManager;
         this.option = option;
+        this.rules = rules;
         sqlExecutionUnitBuilder = getCachedSqlExecutionUnitBuilder(type);
     }
     
+    /**
+     * Create new instance of driver execution prepare engine, which acquires connections from another executor driver manager with same options.
+     *
+     * @param executorDriverManager executor driver manager
+     * @return new instance of driver execution prepare engine
+     */
+    public DriverExecutionPrepareEngine<T, C> newInstance(final ExecutorDriverManager<C, ?, ?> executorDriverManager) {
+        return new DriverExecutionPrepareEngine<>(type, maxConnectionsSizePerQuery, executorDriverManager, option, rules);
+    }
+    
     /**
      * Refer to https://bugs.openjdk.java.net/browse/JDK-8161372.
      * 
@@ -97,6 +118,6 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         for (SQLUnit each : sqlUnits) {
             result.add((T) sqlExecutionUnitBuilder.build(new ExecutionUnit(dataSourceName, each), executorDriverManager, connection, connectionMode, option));
         }
-        return new ExecutionGroup<>(result);
+        return new ExecutionGroup<>(result, dataSourceName);
     }
 }
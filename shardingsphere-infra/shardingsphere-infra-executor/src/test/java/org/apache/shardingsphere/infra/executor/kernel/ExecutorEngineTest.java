@@ -17,23 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.infra.executor.kernel.bulkhead.DataSourceBulkhead;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProvider;
+import org.apache.shardingsphere.infra.executor.kernel.thread.PlatformExecutorServiceProvider;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class ExecutorEngineTest {
     
@@ -96,6 +109,88 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertSubmit() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.submit(executionGroupContext, callback).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteSingleExecutionGroup() throws SQLException {
+        List<String> actual = executorEngine.execute(createMockedExecutionGroups(1, 2), firstCallback, callback, false);
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithDataSourceBulkhead() throws SQLException {
+        try (ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(10, new PlatformExecutorServiceProvider(), 1, 3)) {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 4; i++) {
+                executionGroups.add(new ExecutionGroup<>(createMockedInputs(2), "ds_0"));
+            }
+            List<String> actual = bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups), new ExecutorCallbackFixture(new CountDownLatch(8)));
+            assertThat(actual.size(), is(8));
+            assertThat(bulkheadExecutorEngine.getDataSourceBulkheads().size(), is(1));
+            DataSourceBulkhead dataSourceBulkhead = bulkheadExecutorEngine.getDataSourceBulkheads().iterator().next();
+            assertThat(dataSourceBulkhead.getDataSourceName(), is("ds_0"));
+            assertThat(dataSourceBulkhead.getExecutedCount(), is(4L));
+            assertThat(dataSourceBulkhead.getRejectedCount(), is(0L));
+        }
+    }
+    
+    @Test
+    public void assertSerialExecuteWithDataSourceBulkhead() throws SQLException {
+        try (ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(10, new PlatformExecutorServiceProvider(), 1, 0)) {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 2; i++) {
+                executionGroups.add(new ExecutionGroup<>(createMockedInputs(2), "ds_0"));
+            }
+            List<String> actual = bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups), null, new ExecutorCallbackFixture(new CountDownLatch(4)), true);
+            assertThat(actual.size(), is(4));
+            assertThat(bulkheadExecutorEngine.getDataSourceBulkheads().iterator().next().getExecutedCount(), is(2L));
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParallelExecuteWithDataSourceBulkheadRejectedByExecutorService() throws SQLException {
+        ExecutorServiceProvider executorServiceProvider = mock(ExecutorServiceProvider.class);
+        when(executorServiceProvider.newExecutorService(anyInt(), anyString())).thenReturn(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>()));
+        try (ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(1, executorServiceProvider, 1, 2)) {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 3; i++) {
+                executionGroups.add(new ExecutionGroup<>(createMockedInputs(1), "ds_0"));
+            }
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread, dataMap) -> {
+                while (!isTrunkThread && bulkheadExecutorEngine.getDataSourceBulkheads().iterator().next().getQueueSize() < 2) {
+                    Thread.yield();
+                }
+                return Collections.singletonList("succeed");
+            };
+            bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups), callback);
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertParallelExecuteWithDataSourceBulkheadQueueFull() throws SQLException {
+        try (ExecutorEngine bulkheadExecutorEngine = new ExecutorEngine(10, new PlatformExecutorServiceProvider(), 1, 0)) {
+            Collection<ExecutionGroup<Object>> executionGroups = new LinkedList<>();
+            for (int i = 0; i < 3; i++) {
+                executionGroups.add(new ExecutionGroup<>(createMockedInputs(1), "ds_0"));
+            }
+            CountDownLatch blockLatch = new CountDownLatch(1);
+            ExecutorCallback<Object, String> firstCallback = (inputs, isTrunkThread, dataMap) -> {
+                blockLatch.countDown();
+                return Collections.singletonList("succeed");
+            };
+            ExecutorCallback<Object, String> callback = (inputs, isTrunkThread, dataMap) -> {
+                Uninterruptibles.awaitUninterruptibly(blockLatch, 5L, TimeUnit.SECONDS);
+                return Collections.singletonList("succeed");
+            };
+            bulkheadExecutorEngine.execute(new ExecutionGroupContext<>(executionGroups), firstCallback, callback, false);
+        }
+    }
+    
     @Test
     public void assertExecutionGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.bulkhead;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+public final class DataSourceBulkheadTest {
+    
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertOfferWithinMaxConcurrency() throws InterruptedException {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead("ds_0", 2, 2, executorService);
+        CountDownLatch latch = new CountDownLatch(2);
+        assertTrue(dataSourceBulkhead.offer(latch::countDown));
+        assertTrue(dataSourceBulkhead.offer(latch::countDown));
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertThat(dataSourceBulkhead.getQueueSize(), is(0));
+        assertThat(dataSourceBulkhead.getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertOfferQueuedAndRejected() throws InterruptedException {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead("ds_0", 1, 1, executorService);
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch finishedLatch = new CountDownLatch(2);
+        assertTrue(dataSourceBulkhead.offer(() -> {
+            awaitQuietly(blockLatch);
+            finishedLatch.countDown();
+        }));
+        assertTrue(dataSourceBulkhead.offer(finishedLatch::countDown));
+        assertThat(dataSourceBulkhead.getQueueSize(), is(1));
+        assertFalse(dataSourceBulkhead.offer(finishedLatch::countDown));
+        assertThat(dataSourceBulkhead.getRejectedCount(), is(1L));
+        blockLatch.countDown();
+        assertTrue(finishedLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(dataSourceBulkhead.getQueueSize(), is(0));
+        assertThat(dataSourceBulkhead.getExecutedCount(), is(2L));
+        assertTrue(dataSourceBulkhead.getMaxQueueWaitNanos() <= dataSourceBulkhead.getTotalQueueWaitNanos());
+    }
+    
+    @Test
+    public void assertOfferRejectedByExecutorService() {
+        ExecutorService rejectedExecutorService = mock(ExecutorService.class);
+        doThrow(RejectedExecutionException.class).doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(rejectedExecutorService).execute(any(Runnable.class));
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead("ds_0", 1, 0, rejectedExecutorService);
+        try {
+            dataSourceBulkhead.offer(() -> {
+            });
+            fail("Expected RejectedExecutionException.");
+        } catch (final RejectedExecutionException ignored) {
+        }
+        assertTrue(dataSourceBulkhead.offer(() -> {
+        }));
+        assertThat(dataSourceBulkhead.getExecutedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertAcquireAndRelease() throws InterruptedException {
+        DataSourceBulkhead dataSourceBulkhead = new DataSourceBulkhead("ds_0", 1, 1, executorService);
+        assertTrue(dataSourceBulkhead.acquire());
+        CountDownLatch acquiredLatch = new CountDownLatch(1);
+        executorService.execute(() -> {
+            try {
+                if (dataSourceBulkhead.acquire()) {
+                    acquiredLatch.countDown();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (0 == dataSourceBulkhead.getQueueSize()) {
+            Thread.yield();
+        }
+        assertFalse(dataSourceBulkhead.acquire());
+        assertFalse(dataSourceBulkhead.offer(() -> {
+        }));
+        dataSourceBulkhead.release();
+        assertTrue(acquiredLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(dataSourceBulkhead.getQueueSize(), is(0));
+        assertThat(dataSourceBulkhead.getExecutedCount(), is(2L));
+        assertThat(dataSourceBulkhead.getRejectedCount(), is(2L));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
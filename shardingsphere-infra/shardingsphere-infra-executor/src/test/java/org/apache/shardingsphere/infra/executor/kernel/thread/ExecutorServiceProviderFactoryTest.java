@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExecutorServiceProviderFactoryTest {
+    
+    @Test
+    public void assertGetPlatformInstance() {
+        assertThat(ExecutorServiceProviderFactory.getInstance("PLATFORM"), instanceOf(PlatformExecutorServiceProvider.class));
+    }
+    
+    @Test
+    public void assertGetInstanceWithUnknownType() {
+        assertThat(ExecutorServiceProviderFactory.getInstance("UNKNOWN"), instanceOf(PlatformExecutorServiceProvider.class));
+    }
+    
+    @Test
+    public void assertGetVirtualInstance() {
+        ExecutorServiceProvider actual = ExecutorServiceProviderFactory.getInstance("VIRTUAL");
+        assertTrue(actual.isAvailable());
+        assertThat(actual.getType(), is(new VirtualExecutorServiceProvider().isAvailable() ? "VIRTUAL" : "PLATFORM"));
+    }
+    
+    @Test
+    public void assertNewSingleThreadExecutorServiceInOrder() throws InterruptedException {
+        assertExecuteInOrder(ExecutorServiceProviderFactory.getInstance("PLATFORM").newSingleThreadExecutorService("test-platform"));
+        assertExecuteInOrder(ExecutorServiceProviderFactory.getInstance("VIRTUAL").newSingleThreadExecutorService("test-virtual"));
+    }
+    
+    private void assertExecuteInOrder(final ExecutorService executorService) throws InterruptedException {
+        List<Integer> actual = new ArrayList<>(100);
+        List<Integer> expected = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            executorService.execute(() -> actual.add(value));
+            expected.add(i);
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10L, TimeUnit.SECONDS));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertNewExecutorService() throws InterruptedException {
+        ExecutorService executorService = ExecutorServiceProviderFactory.getInstance("VIRTUAL").newExecutorService(0, "test-%d");
+        List<String> actual = new ArrayList<>(1);
+        executorService.execute(() -> actual.add(Thread.currentThread().getName()));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10L, TimeUnit.SECONDS));
+        assertTrue(actual.get(0).startsWith("ShardingSphere-test-"));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JDBCColumnarMemoryQueryResultTest {
+    
+    @Test(expected = SQLException.class)
+    public void assertConstructorWithSQLException() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        new JDBCColumnarMemoryQueryResult(resultSet);
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("foo", "bar");
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("foo"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is("bar"));
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByNull() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertTrue(actual.isNull(1));
+        assertNull(actual.getValue(1, long.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueBySignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertTrue(actual.isIntegral(1));
+        assertThat(actual.getLong(1), is(1L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueBySignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is(1L));
+        assertThat(actual.getLong(1), is(1L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByUnsignedBigInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, BigInteger.class), is(BigInteger.ONE));
+        assertFalse(actual.isIntegral(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByDouble() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DOUBLE);
+        when(resultSet.getDouble(1)).thenReturn(1.5D);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, double.class), is(1.5D));
+        assertTrue(actual.isFloatingPoint(1));
+        assertThat(actual.getDouble(1), is(1.5D));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByDecimal() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.5"));
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, BigDecimal.class), is(new BigDecimal("1.5")));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertGetLongWithNonIntegralColumn() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DOUBLE);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        actual.getLong(1);
+    }
+    
+    private ResultSet getMockedResultSet(final int columnType) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(columnType);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
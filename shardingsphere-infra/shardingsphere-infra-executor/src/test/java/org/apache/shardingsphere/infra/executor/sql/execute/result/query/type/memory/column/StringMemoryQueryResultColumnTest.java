@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class StringMemoryQueryResultColumnTest {
+    
+    @Test
+    public void assertAppend() {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn();
+        for (int i = 0; i < 100; i++) {
+            column.append(0 == i % 2 ? "foo" : new String("bar".toCharArray()));
+        }
+        column.append(null);
+        assertThat(column.size(), is(101));
+        assertThat(column.getValue(0), is("foo"));
+        assertThat(column.getValue(99), is("bar"));
+        assertThat(column.getValue(1), sameInstance(column.getValue(99)));
+        assertFalse(column.isNull(99));
+        assertTrue(column.isNull(100));
+        assertNull(column.getValue(100));
+    }
+}
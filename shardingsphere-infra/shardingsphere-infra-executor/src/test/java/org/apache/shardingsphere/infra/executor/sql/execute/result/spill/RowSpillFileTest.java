@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.spill.RowSpillFile.RowReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RowSpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException, SQLException {
+        try (RowSpillFile spillFile = new RowSpillFile("shardingsphere-test-")) {
+            for (int i = 0; i < 3000; i++) {
+                spillFile.write(new Object[]{i, "value_" + i, null});
+            }
+            spillFile.finishWrite();
+            assertThat(spillFile.getRowCount(), is(3000));
+            assertRows(spillFile.openReader(), 3000);
+            assertRows(spillFile.openReader(), 3000);
+        }
+    }
+    
+    @Test
+    public void assertReadRowsWrittenBeforeOpenReader() throws IOException, SQLException {
+        try (RowSpillFile spillFile = new RowSpillFile("shardingsphere-test-")) {
+            spillFile.write(new Object[]{0, "value_0", null});
+            RowReader reader = spillFile.openReader();
+            spillFile.write(new Object[]{1, "value_1", null});
+            assertRows(reader, 1);
+            assertRows(spillFile.openReader(), 2);
+        }
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertReadAfterClosed() throws IOException, SQLException {
+        RowReader reader;
+        try (RowSpillFile spillFile = new RowSpillFile("shardingsphere-test-")) {
+            spillFile.write(new Object[]{0, "value_0", null});
+            spillFile.finishWrite();
+            reader = spillFile.openReader();
+        }
+        reader.next();
+    }
+    
+    @Test(expected = NotSerializableException.class)
+    public void assertWriteNotSerializableValue() throws IOException {
+        try (RowSpillFile spillFile = new RowSpillFile("shardingsphere-test-")) {
+            spillFile.write(new Object[]{new Object()});
+        }
+    }
+    
+    @Test
+    public void assertIsSpillable() {
+        assertTrue(RowSpillFile.isSpillable(new Object[]{1, "value", null}));
+        assertFalse(RowSpillFile.isSpillable(new Object[]{1, new Object()}));
+    }
+    
+    private void assertRows(final RowReader reader, final int expectedRowCount) throws SQLException {
+        for (int i = 0; i < expectedRowCount; i++) {
+            assertTrue(reader.hasNext());
+            assertThat(reader.next(), is(new Object[]{i, "value_" + i, null}));
+        }
+        assertFalse(reader.hasNext());
+    }
+}
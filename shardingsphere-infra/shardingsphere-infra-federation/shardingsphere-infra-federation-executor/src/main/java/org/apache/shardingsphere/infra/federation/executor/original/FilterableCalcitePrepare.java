@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original;
+
+import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.prepare.CalcitePrepareImpl;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlanCache;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+/**
+ * Filterable Calcite prepare.
+ * 
+ * <p>Prepared signature is cached by SQL in plan cache of default filterable schema, and rebound to root schema of current connection when reused.</p>
+ */
+public final class FilterableCalcitePrepare extends CalcitePrepareImpl {
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CalciteSignature<T> prepareSql(final Context context, final Query<T> query, final Type elementType, final long maxRowCount) {
+        Optional<OptimizerPlanCache> planCache = findPlanCache(context);
+        if (!planCache.isPresent() || null == query.sql) {
+            return super.prepareSql(context, query, elementType, maxRowCount);
+        }
+        CalciteSignature<T> cached = (CalciteSignature<T>) planCache.get().get(query.sql, () -> super.prepareSql(context, query, elementType, maxRowCount));
+        return new CalciteSignature<>(cached.sql, cached.parameters, cached.internalParameters, cached.rowType, cached.columns, cached.cursorFactory,
+                context.getRootSchema(), cached.getCollationList(), maxRowCount, cached::enumerable, cached.statementType);
+    }
+    
+    private Optional<OptimizerPlanCache> findPlanCache(final Context context) {
+        if (context.getDefaultSchemaPath().isEmpty()) {
+            return Optional.empty();
+        }
+        CalciteSchema schema = context.getRootSchema().getSubSchema(context.getDefaultSchemaPath().get(0), true);
+        return null != schema && schema.schema instanceof FilterableSchema ? Optional.ofNullable(((FilterableSchema) schema.schema).getPlanCache()) : Optional.empty();
+    }
+}
@@ -23,8 +23,10 @@ import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.commons.collections4.map.LinkedMap;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTable;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlanCache;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.Map;
 
@@ -38,15 +40,21 @@ public final class FilterableSchema extends AbstractSchema {
     
     private final Map<String, Table> tableMap;
     
-    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    private final FilterableTableScanExecutor executor;
+    
+    private final OptimizerPlanCache planCache;
+    
+    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor, final OptimizerPlanCache planCache) {
         name = schemaMetaData.getName();
-        tableMap = createTableMap(schemaMetaData, executor);
+        tableMap = createTableMap(schemaMetaData);
+        this.executor = executor;
+        this.planCache = planCache;
     }
     
-    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData) {
         Map<String, Table> result = new LinkedMap<>(schemaMetaData.getTables().size(), 1);
         for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
-            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic()));
+            result.put(each.getName(), new FilterableTable(schemaMetaData.getName(), each, new FederationTableStatistic(schemaMetaData, each)));
         }
         return result;
     }
@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.calcite.jdbc.CalciteConnection;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -31,14 +32,17 @@ import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatisticsRefresher;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.Driver;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -49,7 +53,7 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     public static final String CONNECTION_URL = "jdbc:calcite:";
     
-    public static final String DRIVER_NAME = "org.apache.calcite.jdbc.Driver";
+    private static final Driver DRIVER = new FilterableCalciteDriver();
     
     private final String schemaName;
     
@@ -61,13 +65,7 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     private Statement statement;
     
-    static {
-        try {
-            Class.forName(DRIVER_NAME);
-        } catch (final ClassNotFoundException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
+    private FilterableTableScanExecutor tableScanExecutor;
     
     @Override
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
@@ -82,7 +80,7 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                                         final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
-        Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(schemaName).getDialectProps());
+        Connection result = DRIVER.connect(CONNECTION_URL, optimizerContext.getParserContexts().get(schemaName).getDialectProps());
         addSchema(result.unwrap(CalciteConnection.class), prepareEngine, callback, federationContext);
         return result;
     }
@@ -90,12 +88,20 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     private void addSchema(final CalciteConnection connection, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                            final JDBCExecutorCallback<? extends ExecuteResult> callback, final FederationContext federationContext) throws SQLException {
         FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext(schemaName, props, federationContext);
-        FilterableTableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext);
-        FilterableSchema schema = new FilterableSchema(optimizerContext.getFederationMetaData().getSchemas().get(schemaName), executor);
+        tableScanExecutor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext);
+        FederationSchemaMetaData schemaMetaData = optimizerContext.getFederationMetaData().getSchemas().get(schemaName);
+        refreshTableStatistics(schemaMetaData, federationContext);
+        FilterableSchema schema = new FilterableSchema(schemaMetaData, tableScanExecutor, optimizerContext.getPlannerContexts().get(schemaName).getPlanCache());
         connection.getRootSchema().add(schemaName, schema);
         connection.setSchema(schemaName);
     }
     
+    private void refreshTableStatistics(final FederationSchemaMetaData schemaMetaData, final FederationContext federationContext) {
+        long refreshIntervalSeconds = props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS);
+        Collection<String> tableNames = federationContext.getLogicSQL().getSqlStatementContext().getTablesContext().getTableNames();
+        TableStatisticsRefresher.refreshIfExpired(schemaMetaData, federationContext.getMetaDataMap().get(schemaName), tableNames, refreshIntervalSeconds * 1000L);
+    }
+    
     private void setParameters(final PreparedStatement preparedStatement, final List<Object> parameters) throws SQLException {
         int count = 1;
         for (Object each : parameters) {
@@ -116,5 +122,12 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
             statement.close();
             connection.close();
         }
+        closeTableScanExecutor();
+    }
+    
+    private void closeTableScanExecutor() throws SQLException {
+        if (null != tableScanExecutor) {
+            tableScanExecutor.close();
+        }
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.spill.RowSpillFile;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.spill.RowSpillFile.RowReader;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spillable row buffer, which keeps rows in memory until threshold and spills the rest to temporary file.
+ * 
+ * <p>Rows which have value not serializable can not be spilled, adding them beyond threshold fails instead of growing memory without bound.</p>
+ */
+public final class SpillableRowBuffer implements AutoCloseable {
+    
+    private final int memoryThresholdRows;
+    
+    private final List<Object[]> memoryRows = new ArrayList<>();
+    
+    private RowSpillFile spillFile;
+    
+    public SpillableRowBuffer(final int memoryThresholdRows) {
+        this.memoryThresholdRows = memoryThresholdRows;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row
+     */
+    public void add(final Object[] row) {
+        if (memoryThresholdRows <= 0 || memoryRows.size() < memoryThresholdRows) {
+            memoryRows.add(row);
+            return;
+        }
+        if (!RowSpillFile.isSpillable(row)) {
+            throw new ShardingSphereException("Can not spill federation row with value which is not serializable, please increase `%s` to buffer rows in memory",
+                    ConfigurationPropertyKey.SQL_FEDERATION_SPILL_THRESHOLD_ROWS.getKey());
+        }
+        try {
+            if (null == spillFile) {
+                spillFile = new RowSpillFile("shardingsphere-federation-");
+            }
+            spillFile.write(row);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Create enumerator, which reads rows in memory first and then rows in spill file.
+     *
+     * @return enumerator
+     */
+    public Enumerator<Object[]> enumerator() {
+        return new SpillableRowEnumerator(memoryRows.size());
+    }
+    
+    @Override
+    public void close() throws IOException {
+        memoryRows.clear();
+        if (null != spillFile) {
+            spillFile.close();
+            spillFile = null;
+        }
+    }
+    
+    private final class SpillableRowEnumerator implements Enumerator<Object[]> {
+        
+        private final int memoryRowCount;
+        
+        private int position;
+        
+        private RowReader spilledRows;
+        
+        private Object[] currentRow;
+        
+        SpillableRowEnumerator(final int memoryRowCount) {
+            this.memoryRowCount = memoryRowCount;
+            spilledRows = openSpilledRows();
+        }
+        
+        private RowReader openSpilledRows() {
+            try {
+                return null == spillFile ? null : spillFile.openReader();
+            } catch (final IOException ex) {
+                throw new ShardingSphereException(ex);
+            }
+        }
+        
+        @Override
+        public Object[] current() {
+            return currentRow;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (position < memoryRowCount) {
+                currentRow = memoryRows.get(position++);
+                return true;
+            }
+            if (null == spilledRows || !spilledRows.hasNext()) {
+                currentRow = null;
+                return false;
+            }
+            currentRow = readSpilledRow();
+            return true;
+        }
+        
+        private Object[] readSpilledRow() {
+            try {
+                return spilledRows.next();
+            } catch (final SQLException ex) {
+                throw new ShardingSphereException(ex);
+            }
+        }
+        
+        @Override
+        public void reset() {
+            close();
+            position = 0;
+            spilledRows = openSpilledRows();
+        }
+        
+        @Override
+        public void close() {
+            currentRow = null;
+            if (null == spilledRows) {
+                return;
+            }
+            try {
+                spilledRows.close();
+            } catch (final IOException ex) {
+                throw new ShardingSphereException(ex);
+            } finally {
+                spilledRows = null;
+            }
+        }
+    }
+}
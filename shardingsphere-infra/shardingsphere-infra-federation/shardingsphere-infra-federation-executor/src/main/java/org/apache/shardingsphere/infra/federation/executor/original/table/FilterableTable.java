@@ -26,20 +26,23 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
 import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
-import org.apache.shardingsphere.infra.federation.executor.original.FederationTableStatistic;
+import org.apache.shardingsphere.infra.federation.executor.original.FilterableSchema;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.List;
 
 /**
  * Filterable table.
+ * 
+ * <p>Table scan executor is looked up from the schema of data context, so cached plans scan with the executor of current query.</p>
  */
 @RequiredArgsConstructor
 public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable {
     
-    private final FederationTableMetaData metaData;
+    private final String schemaName;
     
-    private final FilterableTableScanExecutor executor;
+    private final FederationTableMetaData metaData;
     
     private final FederationTableStatistic statistic;
     
@@ -50,7 +53,11 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
-        return executor.execute(metaData, new FilterableTableScanContext(root, filters, projects));
+        return getExecutor(root).execute(metaData, new FilterableTableScanContext(root, filters, projects));
+    }
+    
+    private FilterableTableScanExecutor getExecutor(final DataContext root) {
+        return root.getRootSchema().getSubSchema(schemaName).unwrap(FilterableSchema.class).getExecutor();
     }
     
     @Override
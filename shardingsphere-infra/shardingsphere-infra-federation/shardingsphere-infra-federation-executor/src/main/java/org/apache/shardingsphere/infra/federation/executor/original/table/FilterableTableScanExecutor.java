@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
@@ -37,7 +39,9 @@ import org.apache.calcite.sql.util.SqlString;
 import org.apache.calcite.tools.RelBuilder;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
@@ -52,43 +56,50 @@ import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.original.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.infra.federation.executor.original.row.FilterableRowEnumerator;
+import org.apache.shardingsphere.infra.federation.executor.original.row.SpillableRowBuffer;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.transaction.TransactionHolder;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
  * Filterable table scan executor.
  */
+@Slf4j
 public final class FilterableTableScanExecutor {
     
     private static final Map<Class<? extends DatabaseType>, SqlDialect> SQL_DIALECTS = new HashMap<>();
@@ -113,6 +124,12 @@ public final class FilterableTableScanExecutor {
     
     private final FilterableTableScanExecutorContext executorContext;
     
+    private final Collection<BufferedTableScan> bufferedTableScans = new LinkedList<>();
+    
+    private final Collection<String> prefetchedDataSourceNames = new HashSet<>();
+    
+    private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prefetchPrepareEngine;
+    
     public FilterableTableScanExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, 
                                        final JDBCExecutor jdbcExecutor, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                                        final OptimizerContext optimizerContext, final FilterableTableScanExecutorContext executorContext) {
@@ -133,10 +150,9 @@ public final class FilterableTableScanExecutor {
     public Enumerable<Object[]> execute(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext) {
         String schemaName = executorContext.getSchemaName();
         DatabaseType databaseType = DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(schemaName).getDatabaseType().getName());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
-        // TODO replace sql parse with sql convert
+        PushDownSQL pushDownSQL = PushDownSQLCache.get(createPushDownSQLCacheKey(tableMetaData, scanContext, databaseType), () -> createPushDownSQL(tableMetaData, scanContext, databaseType));
         FederationContext federationContext = executorContext.getFederationContext();
-        LogicSQL logicSQL = createLogicSQL(federationContext.getMetaDataMap(), sqlString, databaseType);
+        LogicSQL logicSQL = createLogicSQL(federationContext.getMetaDataMap(), pushDownSQL);
         ShardingSphereMetaData metaData = federationContext.getMetaDataMap().get(schemaName);
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, metaData, executorContext.getProps());
         if (federationContext.isPreview()) {
@@ -148,16 +164,63 @@ public final class FilterableTableScanExecutor {
     
     private AbstractEnumerable<Object[]> execute(final String schemaName, final DatabaseType databaseType, final LogicSQL logicSQL, 
                                                  final ShardingSphereMetaData metaData, final ExecutionContext context) {
+        if (isStreamable()) {
+            return new AbstractEnumerable<Object[]>() {
+                
+                @Override
+                public Enumerator<Object[]> enumerator() {
+                    return executeQuery(schemaName, databaseType, logicSQL, metaData, context);
+                }
+            };
+        }
+        SpillableRowBuffer rowBuffer = new SpillableRowBuffer(executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_THRESHOLD_ROWS));
+        BufferedTableScan result = new BufferedTableScan(schemaName, databaseType, logicSQL, metaData, context, rowBuffer);
+        bufferedTableScans.add(result);
+        findPrefetchPrepareEngine(context).ifPresent(result::prefetch);
+        return result;
+    }
+    
+    private Optional<DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection>> findPrefetchPrepareEngine(final ExecutionContext context) {
+        if (jdbcExecutor.isSerial()) {
+            return Optional.empty();
+        }
+        if (!TransactionHolder.isTransaction() && prepareEngine.getExecutorDriverManager() instanceof ExecutorJDBCManager) {
+            if (null == prefetchPrepareEngine) {
+                prefetchPrepareEngine = prepareEngine.newInstance(new PrefetchExecutorJDBCManager((ExecutorJDBCManager) prepareEngine.getExecutorDriverManager()));
+            }
+            return Optional.of(prefetchPrepareEngine);
+        }
+        Collection<String> dataSourceNames = context.getExecutionUnits().stream().map(ExecutionUnit::getDataSourceName).collect(Collectors.toSet());
+        if (dataSourceNames.stream().anyMatch(prefetchedDataSourceNames::contains)) {
+            return Optional.empty();
+        }
+        prefetchedDataSourceNames.addAll(dataSourceNames);
+        return Optional.of(prepareEngine);
+    }
+    
+    private boolean isStreamable() {
+        TablesContext tablesContext = executorContext.getFederationContext().getLogicSQL().getSqlStatementContext().getTablesContext();
+        return 1 == tablesContext.getTables().size() && tablesContext.getSubqueryTables().isEmpty();
+    }
+    
+    private void fillRowBuffer(final SpillableRowBuffer rowBuffer, final Enumerator<Object[]> enumerator) {
+        try {
+            while (enumerator.moveNext()) {
+                rowBuffer.add(enumerator.current());
+            }
+        } finally {
+            enumerator.close();
+        }
+    }
+    
+    private Enumerator<Object[]> executeQuery(final String schemaName, final DatabaseType databaseType, final LogicSQL logicSQL, 
+                                              final ShardingSphereMetaData metaData, final ExecutionContext context) {
         try {
-            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
-            setParameters(executionGroupContext.getInputGroups());
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(prepareEngine, context);
             ExecuteProcessEngine.initialize(context.getLogicSQL(), executionGroupContext, executorContext.getProps());
-            List<QueryResult> queryResults = execute(executionGroupContext);
+            List<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
-            MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, metaData.getSchema(), executorContext.getProps(), metaData.getRuleMetaData().getRules());
-            MergedResult mergedResult = mergeEngine.merge(queryResults, logicSQL.getSqlStatementContext());
-            Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-            return createEnumerable(mergedResult, queryResults.get(0).getMetaData(), statements);
+            return merge(schemaName, databaseType, logicSQL, metaData, executionGroupContext, queryResults);
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
         } finally {
@@ -165,17 +228,21 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private List<QueryResult> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
-        Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
-        List<QueryResult> result = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            QueryResult queryResult = each instanceof JDBCStreamQueryResult 
-                    ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) each).getResultSet()) : each;
-            result.add(queryResult);
-        }
+    private ExecutionGroupContext<JDBCExecutionUnit> prepare(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> executionPrepareEngine, 
+                                                             final ExecutionContext context) throws SQLException {
+        ExecutionGroupContext<JDBCExecutionUnit> result = executionPrepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
+        setParameters(result.getInputGroups());
         return result;
     }
     
+    private Enumerator<Object[]> merge(final String schemaName, final DatabaseType databaseType, final LogicSQL logicSQL, final ShardingSphereMetaData metaData, 
+                                       final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final List<QueryResult> queryResults) throws SQLException {
+        MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, metaData.getSchema(), executorContext.getProps(), metaData.getRuleMetaData().getRules());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, logicSQL.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new FilterableRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
     private Collection<Statement> getStatements(final Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups) {
         Collection<Statement> result = new LinkedList<>();
         for (ExecutionGroup<JDBCExecutionUnit> each : inputGroups) {
@@ -186,9 +253,18 @@ public final class FilterableTableScanExecutor {
         return result;
     }
     
-    private SqlString createSQLString(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+    private PushDownSQLCacheKey createPushDownSQLCacheKey(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+        List<Integer> projects = null == scanContext.getProjects() ? null : Arrays.stream(scanContext.getProjects()).boxed().collect(Collectors.toList());
+        return new PushDownSQLCacheKey(
+                executorContext.getSchemaName(), databaseType.getName(), tableMetaData.getName(), tableMetaData.getColumnNames(), projects, String.valueOf(scanContext.getFilters()));
+    }
+    
+    private PushDownSQL createPushDownSQL(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
         SqlDialect sqlDialect = SQL_DIALECTS.getOrDefault(databaseType.getClass(), MysqlSqlDialect.DEFAULT);
-        return new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
+        SqlString sqlString = new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
+        String sql = sqlString.getSql().replace("\n", " ");
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sql, true);
+        return new PushDownSQL(sql, sqlString.getDynamicParameters(), sqlStatement);
     }
     
     @SneakyThrows
@@ -211,12 +287,12 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private List<Object> getParameters(final ImmutableList<Integer> parameterIndices) {
-        if (null == parameterIndices) {
+    private List<Object> getParameters(final List<Integer> parameterIndexes) {
+        if (null == parameterIndexes) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>();
-        for (Integer each : parameterIndices) {
+        for (Integer each : parameterIndexes) {
             result.add(executorContext.getFederationContext().getLogicSQL().getParameters().get(each));
         }
         return result;
@@ -241,22 +317,24 @@ public final class FilterableTableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData, final Collection<Statement> statements) {
-        return new AbstractEnumerable<Object[]>() {
-            
-            @Override
-            public Enumerator<Object[]> enumerator() {
-                return new FilterableRowEnumerator(mergedResult, metaData, statements);
-            }
-        };
+    private LogicSQL createLogicSQL(final Map<String, ShardingSphereMetaData> metaDataMap, final PushDownSQL pushDownSQL) {
+        List<Object> parameters = getParameters(pushDownSQL.getParameterIndexes());
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataMap, parameters, pushDownSQL.getSqlStatement(), executorContext.getSchemaName());
+        return new LogicSQL(sqlStatementContext, pushDownSQL.getSql(), parameters);
     }
     
-    private LogicSQL createLogicSQL(final Map<String, ShardingSphereMetaData> metaDataMap, final SqlString sqlString, final DatabaseType databaseType) {
-        String sql = sqlString.getSql().replace("\n", " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sql, false);
-        List<Object> parameters = getParameters(sqlString.getDynamicParameters());
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, sql);
-        return new LogicSQL(sqlStatementContext, sql, parameters);
+    /**
+     * Close buffered table scans, prefetched but not enumerated statements are closed as well.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        for (BufferedTableScan each : bufferedTableScans) {
+            each.close();
+        }
+        bufferedTableScans.clear();
+        prefetchedDataSourceNames.clear();
+        prefetchPrepareEngine = null;
     }
     
     private AbstractEnumerable<Object[]> createEmptyEnumerable() {
@@ -268,4 +346,98 @@ public final class FilterableTableScanExecutor {
             }
         };
     }
+    
+    @RequiredArgsConstructor
+    private final class BufferedTableScan extends AbstractEnumerable<Object[]> {
+        
+        private final String schemaName;
+        
+        private final DatabaseType databaseType;
+        
+        private final LogicSQL logicSQL;
+        
+        private final ShardingSphereMetaData metaData;
+        
+        private final ExecutionContext context;
+        
+        private final SpillableRowBuffer rowBuffer;
+        
+        private ExecutionGroupContext<JDBCExecutionUnit> prefetchedExecutionGroupContext;
+        
+        private ListenableFuture<? extends List<? extends ExecuteResult>> prefetchedResults;
+        
+        private boolean buffered;
+        
+        @Override
+        public Enumerator<Object[]> enumerator() {
+            fill();
+            return rowBuffer.enumerator();
+        }
+        
+        private void prefetch(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> executionPrepareEngine) {
+            try {
+                prefetchedExecutionGroupContext = prepare(executionPrepareEngine, context);
+            } catch (final SQLException ex) {
+                throw new ShardingSphereException(ex);
+            }
+            prefetchedResults = jdbcExecutor.submit(prefetchedExecutionGroupContext, callback);
+        }
+        
+        private void fill() {
+            if (buffered) {
+                return;
+            }
+            if (null == prefetchedResults) {
+                fillPrefetchedTableScans();
+                fillRowBuffer(rowBuffer, executeQuery(schemaName, databaseType, logicSQL, metaData, context));
+            } else {
+                fillRowBuffer(rowBuffer, mergePrefetchedResults());
+            }
+            buffered = true;
+        }
+        
+        private void fillPrefetchedTableScans() {
+            for (BufferedTableScan each : bufferedTableScans) {
+                if (null != each.prefetchedResults) {
+                    each.fill();
+                }
+            }
+        }
+        
+        private Enumerator<Object[]> mergePrefetchedResults() {
+            try {
+                List<QueryResult> queryResults = prefetchedResults.get().stream().map(each -> (QueryResult) each).collect(Collectors.toList());
+                return merge(schemaName, databaseType, logicSQL, metaData, prefetchedExecutionGroupContext, queryResults);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ShardingSphereException(ex);
+            } catch (final ExecutionException | SQLException ex) {
+                throw new ShardingSphereException(ex);
+            }
+        }
+        
+        private void close() throws SQLException {
+            if (null != prefetchedResults && !buffered) {
+                closePrefetchedStatements();
+            }
+            try {
+                rowBuffer.close();
+            } catch (final IOException ex) {
+                throw new SQLException(ex);
+            }
+        }
+        
+        private void closePrefetchedStatements() throws SQLException {
+            try {
+                prefetchedResults.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException ex) {
+                log.warn("Prefetched table scan of `{}` failed before enumeration", logicSQL.getSql(), ex.getCause());
+            }
+            for (Statement each : getStatements(prefetchedExecutionGroupContext.getInputGroups())) {
+                each.close();
+            }
+        }
+    }
 }
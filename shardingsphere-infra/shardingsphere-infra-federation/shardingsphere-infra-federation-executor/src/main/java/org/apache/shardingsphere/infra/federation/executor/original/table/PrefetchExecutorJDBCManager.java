@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executor JDBC manager of prefetched table scans.
+ * 
+ * <p>Connection managers return the first cached connections of data source, so table scans on same data source share connections.
+ * Each prefetched table scan reserves connections after the ones reserved by earlier prefetched table scans instead,
+ * and new connections are still cached and released by the underlying connection manager.</p>
+ */
+@RequiredArgsConstructor
+public final class PrefetchExecutorJDBCManager implements ExecutorJDBCManager {
+    
+    private final ExecutorJDBCManager executorJDBCManager;
+    
+    private final Map<String, Integer> reservedConnectionSizes = new HashMap<>();
+    
+    @Override
+    public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
+        int reservedConnectionSize = reservedConnectionSizes.getOrDefault(dataSourceName, 0);
+        List<Connection> connections = executorJDBCManager.getConnections(dataSourceName, reservedConnectionSize + connectionSize, connectionMode);
+        reservedConnectionSizes.put(dataSourceName, reservedConnectionSize + connectionSize);
+        return new ArrayList<>(connections.subList(reservedConnectionSize, reservedConnectionSize + connectionSize));
+    }
+    
+    @Override
+    public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        return executorJDBCManager.createStorageResource(connection, connectionMode, option);
+    }
+    
+    @Override
+    public Statement createStorageResource(final String sql, final List<Object> parameters,
+                                           final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
+        return executorJDBCManager.createStorageResource(sql, parameters, connection, connectionMode, option);
+    }
+}
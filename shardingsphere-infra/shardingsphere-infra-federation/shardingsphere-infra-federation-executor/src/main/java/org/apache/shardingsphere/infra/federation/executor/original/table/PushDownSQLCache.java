@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Push down SQL cache, which caches generated and parsed push down SQL by shape of filterable table scan.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PushDownSQLCache {
+    
+    private static final int MAXIMUM_SIZE = 1024;
+    
+    private static final Cache<PushDownSQLCacheKey, PushDownSQL> PUSH_DOWN_SQLS = CacheBuilder.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get push down SQL.
+     *
+     * @param key push down SQL cache key
+     * @param loader loader of push down SQL if absent
+     * @return push down SQL
+     */
+    public static PushDownSQL get(final PushDownSQLCacheKey key, final Callable<PushDownSQL> loader) {
+        try {
+            return PUSH_DOWN_SQLS.get(key, loader);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new ShardingSphereException(ex);
+        }
+    }
+}
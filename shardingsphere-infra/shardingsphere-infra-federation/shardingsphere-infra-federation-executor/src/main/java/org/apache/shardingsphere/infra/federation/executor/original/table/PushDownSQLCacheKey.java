@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Push down SQL cache key, which identifies shape of filterable table scan.
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode
+public final class PushDownSQLCacheKey {
+    
+    private final String schemaName;
+    
+    private final String databaseType;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final List<Integer> projects;
+    
+    private final String filters;
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.federation.executor.FederationContext;
+import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlanCache;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OriginalFilterableExecutorTest {
+    
+    private static final String SCHEMA_NAME = "federate_jdbc";
+    
+    private static final String SQL = "SELECT order_id, user_id FROM t_order_federate WHERE user_id = ?";
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private OptimizerContext optimizerContext;
+    
+    private ConfigurationProperties props;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order_federate", createOrderTableMetaData()));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(SCHEMA_NAME, mockResource(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), schema);
+        metaDataMap = Collections.singletonMap(SCHEMA_NAME, metaData);
+        optimizerContext = OptimizerContextFactory.create(metaDataMap, createGlobalRuleMetaData());
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS.getKey(), "0");
+        this.props = new ConfigurationProperties(props);
+    }
+    
+    private TableMetaData createOrderTableMetaData() {
+        ColumnMetaData orderIdColumn = new ColumnMetaData("order_id", Types.INTEGER, true, false, false);
+        ColumnMetaData userIdColumn = new ColumnMetaData("user_id", Types.INTEGER, false, false, false);
+        return new TableMetaData("t_order_federate", Arrays.asList(orderIdColumn, userIdColumn), Collections.emptyList());
+    }
+    
+    private ShardingSphereResource mockResource() {
+        ShardingSphereResource result = mock(ShardingSphereResource.class);
+        when(result.getDatabaseType()).thenReturn(new H2DatabaseType());
+        when(result.getDataSources()).thenReturn(Collections.singletonMap("ds_0", mock(DataSource.class)));
+        return result;
+    }
+    
+    private ShardingSphereRuleMetaData createGlobalRuleMetaData() {
+        CacheOption cacheOption = new CacheOption(128, 1024L, 4);
+        Collection<ShardingSphereRule> rules = Collections.singletonList(new SQLParserRule(new SQLParserRuleConfiguration(false, cacheOption, cacheOption)));
+        return new ShardingSphereRuleMetaData(Collections.emptyList(), rules);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithPlanCache() throws SQLException {
+        assertThat(executeQuery(1).iterator().next().getSqlUnit().getParameters(), is(Collections.singletonList(1)));
+        assertThat(executeQuery(2).iterator().next().getSqlUnit().getParameters(), is(Collections.singletonList(2)));
+        OptimizerPlanCache planCache = optimizerContext.getPlannerContexts().get(SCHEMA_NAME).getPlanCache();
+        assertThat(planCache.getMissCount(), is(1L));
+        assertThat(planCache.getHitCount(), is(1L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<ExecutionUnit> executeQuery(final Object userId) throws SQLException {
+        FederationContext federationContext = new FederationContext(true, createLogicSQL(Collections.singletonList(userId)), metaDataMap);
+        try (FederationExecutor executor = new OriginalFilterableExecutor(SCHEMA_NAME, optimizerContext, props, mock(JDBCExecutor.class))) {
+            ResultSet resultSet = executor.executeQuery(mock(DriverExecutionPrepareEngine.class), mock(JDBCExecutorCallback.class), federationContext);
+            assertFalse(resultSet.next());
+        }
+        assertThat(federationContext.getExecutionUnits().size(), is(1));
+        return federationContext.getExecutionUnits();
+    }
+    
+    private LogicSQL createLogicSQL(final List<Object> parameters) {
+        SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(new H2DatabaseType()), sqlParserRule).parse(SQL, false);
+        return new LogicSQL(SQLStatementContextFactory.newInstance(metaDataMap, parameters, sqlStatement, SCHEMA_NAME), SQL, parameters);
+    }
+}
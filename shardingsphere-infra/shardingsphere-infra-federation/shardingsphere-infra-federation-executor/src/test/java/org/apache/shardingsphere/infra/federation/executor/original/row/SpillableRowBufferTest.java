@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.row;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillableRowBufferTest {
+    
+    @Test
+    public void assertEnumerateWithoutSpill() throws IOException {
+        try (SpillableRowBuffer rowBuffer = createRowBuffer(0, 5)) {
+            assertRows(rowBuffer, 5);
+        }
+    }
+    
+    @Test
+    public void assertEnumerateWithSpillRepeatedly() throws IOException {
+        try (SpillableRowBuffer rowBuffer = createRowBuffer(2, 5)) {
+            assertRows(rowBuffer, 5);
+            assertRows(rowBuffer, 5);
+        }
+    }
+    
+    @Test
+    public void assertEnumerateWithNotSerializableRowInMemory() throws IOException {
+        Object notSerializableValue = new Object();
+        try (SpillableRowBuffer rowBuffer = new SpillableRowBuffer(2)) {
+            rowBuffer.add(new Object[]{notSerializableValue});
+            rowBuffer.add(new Object[]{0, "value_0"});
+            rowBuffer.add(new Object[]{1, "value_1"});
+            Enumerator<Object[]> enumerator = rowBuffer.enumerator();
+            assertTrue(enumerator.moveNext());
+            assertThat(enumerator.current(), is(new Object[]{notSerializableValue}));
+            assertTrue(enumerator.moveNext());
+            assertThat(enumerator.current(), is(new Object[]{0, "value_0"}));
+            assertTrue(enumerator.moveNext());
+            assertThat(enumerator.current(), is(new Object[]{1, "value_1"}));
+            assertFalse(enumerator.moveNext());
+            enumerator.close();
+        }
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertAddNotSerializableRowBeyondThreshold() throws IOException {
+        try (SpillableRowBuffer rowBuffer = new SpillableRowBuffer(1)) {
+            rowBuffer.add(new Object[]{0, "value_0"});
+            rowBuffer.add(new Object[]{new Object()});
+        }
+    }
+    
+    private SpillableRowBuffer createRowBuffer(final int memoryThresholdRows, final int rowCount) {
+        SpillableRowBuffer result = new SpillableRowBuffer(memoryThresholdRows);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(new Object[]{i, "value_" + i});
+        }
+        return result;
+    }
+    
+    private void assertRows(final SpillableRowBuffer rowBuffer, final int expectedRowCount) {
+        List<Object[]> actual = new LinkedList<>();
+        Enumerator<Object[]> enumerator = rowBuffer.enumerator();
+        while (enumerator.moveNext()) {
+            actual.add(enumerator.current());
+        }
+        enumerator.close();
+        assertThat(actual.size(), is(expectedRowCount));
+        int index = 0;
+        for (Object[] each : actual) {
+            assertThat(each[0], is(index));
+            assertThat(each[1], is("value_" + index));
+            index++;
+        }
+    }
+}
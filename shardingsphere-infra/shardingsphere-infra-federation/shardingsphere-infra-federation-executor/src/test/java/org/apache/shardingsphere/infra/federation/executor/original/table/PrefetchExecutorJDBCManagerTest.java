@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PrefetchExecutorJDBCManagerTest {
+    
+    private final List<Connection> cachedConnections = Arrays.asList(mock(Connection.class), mock(Connection.class), mock(Connection.class));
+    
+    @Mock
+    private ExecutorJDBCManager executorJDBCManager;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(executorJDBCManager.getConnections(eq("ds_0"), anyInt(), eq(ConnectionMode.MEMORY_STRICTLY)))
+                .thenAnswer(invocation -> cachedConnections.subList(0, invocation.<Integer>getArgument(1)));
+    }
+    
+    @Test
+    public void assertGetConnectionsOfTableScansOnSameDataSource() throws SQLException {
+        PrefetchExecutorJDBCManager prefetchExecutorJDBCManager = new PrefetchExecutorJDBCManager(executorJDBCManager);
+        assertThat(prefetchExecutorJDBCManager.getConnections("ds_0", 1, ConnectionMode.MEMORY_STRICTLY), is(Collections.singletonList(cachedConnections.get(0))));
+        assertThat(prefetchExecutorJDBCManager.getConnections("ds_0", 2, ConnectionMode.MEMORY_STRICTLY), is(cachedConnections.subList(1, 3)));
+    }
+    
+    @Test
+    public void assertGetConnectionsOfAnotherTableScanExecutor() throws SQLException {
+        new PrefetchExecutorJDBCManager(executorJDBCManager).getConnections("ds_0", 1, ConnectionMode.MEMORY_STRICTLY);
+        assertThat(new PrefetchExecutorJDBCManager(executorJDBCManager).getConnections("ds_0", 1, ConnectionMode.MEMORY_STRICTLY), is(Collections.singletonList(cachedConnections.get(0))));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class PushDownSQLCacheTest {
+    
+    @Test
+    public void assertGetWithSameScanShape() {
+        AtomicInteger loadCount = new AtomicInteger();
+        PushDownSQL expected = PushDownSQLCache.get(createKey("[=($0, ?0)]"), () -> createPushDownSQL(loadCount));
+        PushDownSQL actual = PushDownSQLCache.get(createKey("[=($0, ?0)]"), () -> createPushDownSQL(loadCount));
+        assertThat(actual, sameInstance(expected));
+        assertThat(loadCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertGetWithDifferentScanShape() {
+        AtomicInteger loadCount = new AtomicInteger();
+        PushDownSQL expected = PushDownSQLCache.get(createKey("[>($0, ?0)]"), () -> createPushDownSQL(loadCount));
+        PushDownSQL actual = PushDownSQLCache.get(createKey("[<($0, ?0)]"), () -> createPushDownSQL(loadCount));
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(loadCount.get(), is(2));
+    }
+    
+    private PushDownSQLCacheKey createKey(final String filters) {
+        return new PushDownSQLCacheKey("logic_db", "MySQL", "t_order", Arrays.asList("order_id", "user_id"), Collections.singletonList(1), filters);
+    }
+    
+    private PushDownSQL createPushDownSQL(final AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return new PushDownSQL("SELECT `user_id` FROM `t_order` WHERE `order_id` = ?", Collections.singletonList(0), mock(SQLStatement.class));
+    }
+}
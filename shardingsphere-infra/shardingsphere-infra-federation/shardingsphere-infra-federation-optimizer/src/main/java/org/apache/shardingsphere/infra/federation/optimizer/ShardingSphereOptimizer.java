@@ -38,6 +38,7 @@ import org.apache.calcite.util.Pair;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.converter.SQLNodeConverterEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.planner.FederationRelMetadataProviderFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.ArrayList;
@@ -75,7 +76,7 @@ public final class ShardingSphereOptimizer {
         RelOptPlanner planner = context.getPlannerContexts().get(schemaName).getConverter().getCluster().getPlanner();
         RelNode node = planner.changeTraits(queryPlan, context.getPlannerContexts().get(schemaName).getConverter().getCluster().traitSet().replace(EnumerableConvention.INSTANCE));
         RelRoot root = constructRoot(node, resultType);
-        Program program = Programs.standard();
+        Program program = Programs.standard(FederationRelMetadataProviderFactory.getInstance());
         return program.run(planner, root.rel, getDesireRootTraitSet(root), ImmutableList.of(), ImmutableList.of());
     }
     
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.calcite.jdbc.CalcitePrepare.CalciteSignature;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Optimizer plan cache, which caches prepared Calcite signatures with parameter slots by SQL.
+ * 
+ * <p>Plan cache belongs to optimizer planner context, which is recreated when schema or rule configuration is altered, so stale plans are dropped together with it.</p>
+ */
+public final class OptimizerPlanCache {
+    
+    private static final int MAXIMUM_SIZE = 1024;
+    
+    private final Cache<String, CalciteSignature<?>> plans = CacheBuilder.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).recordStats().build();
+    
+    /**
+     * Get prepared plan.
+     *
+     * @param sql SQL
+     * @param loader loader of prepared plan if absent
+     * @return prepared plan
+     */
+    public CalciteSignature<?> get(final String sql, final Callable<CalciteSignature<?>> loader) {
+        try {
+            return plans.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return plans.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return plans.stats().missCount();
+    }
+    
+    /**
+     * Get size of cached plans.
+     *
+     * @return size of cached plans
+     */
+    public long size() {
+        return plans.size();
+    }
+    
+    /**
+     * Invalidate all cached plans.
+     */
+    public void invalidateAll() {
+        plans.invalidateAll();
+    }
+}
@@ -32,4 +32,6 @@ public final class OptimizerPlannerContext {
     private final SqlValidator validator;
     
     private final SqlToRelConverter converter;
+    
+    private final OptimizerPlanCache planCache = new OptimizerPlanCache();
 }
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -34,6 +36,8 @@ public final class FederationSchemaMetaData {
     
     private final Map<String, FederationTableMetaData> tables;
     
+    private final Map<String, TableStatistics> statistics = new ConcurrentHashMap<>();
+    
     public FederationSchemaMetaData(final String name, final Map<String, TableMetaData> metaData) {
         this.name = name;
         this.tables = new ConcurrentHashMap<>(metaData.size(), 1);
@@ -58,5 +62,26 @@ public final class FederationSchemaMetaData {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        statistics.remove(tableName.toLowerCase());
+    }
+    
+    /**
+     * Find table statistics.
+     *
+     * @param tableName table name
+     * @return table statistics
+     */
+    public Optional<TableStatistics> findStatistics(final String tableName) {
+        return Optional.ofNullable(statistics.get(tableName.toLowerCase()));
+    }
+    
+    /**
+     * Put table statistics.
+     *
+     * @param tableName table name
+     * @param tableStatistics table statistics
+     */
+    public void putStatistics(final String tableName, final TableStatistics tableStatistics) {
+        statistics.put(tableName.toLowerCase(), tableStatistics);
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelReferentialConstraint;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.ColumnStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Statistic of federation table, which exposes collected table statistics to planner.
+ */
+@RequiredArgsConstructor
+public final class FederationTableStatistic implements Statistic {
+    
+    private final FederationSchemaMetaData schemaMetaData;
+    
+    private final FederationTableMetaData metaData;
+    
+    /**
+     * Find table statistics.
+     *
+     * @return table statistics
+     */
+    public Optional<TableStatistics> findTableStatistics() {
+        return schemaMetaData.findStatistics(metaData.getName());
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return findTableStatistics().map(TableStatistics::getRowCount).orElseGet(Statistic.super::getRowCount);
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : getKeys()) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        List<ImmutableBitSet> result = new LinkedList<>();
+        Optional<TableStatistics> tableStatistics = findTableStatistics();
+        if (!tableStatistics.isPresent()) {
+            return result;
+        }
+        getPrimaryKey().ifPresent(result::add);
+        if (tableStatistics.get().getRowCount() <= 0) {
+            return result;
+        }
+        for (int i = 0; i < metaData.getColumnNames().size(); i++) {
+            Optional<ColumnStatistics> columnStatistics = tableStatistics.get().findColumnStatistics(metaData.getColumnNames().get(i));
+            if (columnStatistics.isPresent() && isUnique(columnStatistics.get(), tableStatistics.get().getRowCount()) && !result.contains(ImmutableBitSet.of(i))) {
+                result.add(ImmutableBitSet.of(i));
+            }
+        }
+        return result;
+    }
+    
+    private boolean isUnique(final ColumnStatistics columnStatistics, final double rowCount) {
+        return null != columnStatistics.getDistinctCount() && columnStatistics.getDistinctCount() >= rowCount;
+    }
+    
+    private Optional<ImmutableBitSet> getPrimaryKey() {
+        if (metaData.getPrimaryKeyColumns().isEmpty()) {
+            return Optional.empty();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        for (String each : metaData.getPrimaryKeyColumns()) {
+            int index = metaData.getColumnNames().indexOf(each);
+            if (index < 0) {
+                return Optional.empty();
+            }
+            result.set(index);
+        }
+        return Optional.of(result.build());
+    }
+    
+    @Override
+    public List<RelReferentialConstraint> getReferentialConstraints() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public List<RelCollation> getCollations() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public RelDistribution getDistribution() {
+        return RelDistributionTraitDef.INSTANCE.getDefault();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Table statistics collector, which collects statistics of logic table from catalogs of all actual tables.
+ */
+@Slf4j
+public final class TableStatisticsCollector {
+    
+    private static final Collection<String> MYSQL_DATABASE_TYPES = Arrays.asList("MySQL", "MariaDB");
+    
+    private static final Collection<String> POSTGRESQL_DATABASE_TYPES = Arrays.asList("PostgreSQL", "openGauss");
+    
+    private static final String MYSQL_ROW_COUNT_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+    
+    private static final String MYSQL_DISTINCT_COUNT_SQL = "SELECT COLUMN_NAME, MAX(CARDINALITY) FROM information_schema.STATISTICS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND SEQ_IN_INDEX = 1 GROUP BY COLUMN_NAME";
+    
+    private static final String POSTGRESQL_ROW_COUNT_SQL = "SELECT c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = current_schema() AND c.relname = ?";
+    
+    private static final String POSTGRESQL_DISTINCT_COUNT_SQL = "SELECT attname, n_distinct FROM pg_stats WHERE schemaname = current_schema() AND tablename = ?";
+    
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM %s";
+    
+    private static final String MIN_MAX_SQL = "SELECT MIN(%s), MAX(%s) FROM %s";
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final TableMetaData tableMetaData;
+    
+    private final DatabaseType databaseType;
+    
+    private final Collection<String> primaryKeyColumns;
+    
+    private final Map<String, Double> distinctCounts = new HashMap<>();
+    
+    private final Map<String, Comparable<?>> minValues = new HashMap<>();
+    
+    private final Map<String, Comparable<?>> maxValues = new HashMap<>();
+    
+    private double rowCount;
+    
+    public TableStatisticsCollector(final ShardingSphereMetaData metaData, final TableMetaData tableMetaData) {
+        this.metaData = metaData;
+        this.tableMetaData = tableMetaData;
+        databaseType = metaData.getResource().getDatabaseType();
+        primaryKeyColumns = tableMetaData.getPrimaryKeyColumns().stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+    
+    /**
+     * Collect table statistics.
+     *
+     * @return table statistics
+     * @throws SQLException SQL exception
+     */
+    public TableStatistics collect() throws SQLException {
+        for (DataNode each : getDataNodes()) {
+            Optional<DataSource> dataSource = findDataSource(each.getDataSourceName());
+            if (!dataSource.isPresent()) {
+                log.debug("Skip collecting statistics of `{}`, data source `{}` is not found", each.getTableName(), each.getDataSourceName());
+                continue;
+            }
+            try (Connection connection = dataSource.get().getConnection()) {
+                collectActualTable(connection, each.getTableName());
+            }
+        }
+        Map<String, ColumnStatistics> columns = new HashMap<>(tableMetaData.getColumns().size(), 1);
+        for (String each : tableMetaData.getColumns().keySet()) {
+            String columnName = each.toLowerCase();
+            Double distinctCount = distinctCounts.containsKey(columnName) ? Math.min(distinctCounts.get(columnName), rowCount) : null;
+            columns.put(columnName, new ColumnStatistics(columnName, distinctCount, minValues.get(columnName), maxValues.get(columnName)));
+        }
+        return new TableStatistics(rowCount, columns, System.currentTimeMillis());
+    }
+    
+    private Collection<DataNode> getDataNodes() {
+        for (DataNodeContainedRule each : metaData.getRuleMetaData().findRules(DataNodeContainedRule.class)) {
+            Optional<Collection<DataNode>> result = each.getAllDataNodes().entrySet().stream()
+                    .filter(entry -> entry.getKey().equalsIgnoreCase(tableMetaData.getName())).map(Entry::getValue).findFirst();
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return metaData.getResource().getDataSources().keySet().stream().findFirst()
+                .map(optional -> Collections.singletonList(new DataNode(optional, tableMetaData.getName()))).orElse(Collections.emptyList());
+    }
+    
+    private Optional<DataSource> findDataSource(final String dataSourceName) {
+        DataSource result = metaData.getResource().getDataSources().get(dataSourceName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        for (DataSourceContainedRule each : metaData.getRuleMetaData().findRules(DataSourceContainedRule.class)) {
+            Optional<DataSource> actualDataSource = each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList()).stream()
+                    .filter(actualDataSourceName -> !actualDataSourceName.equals(dataSourceName)).map(this::findDataSource).filter(Optional::isPresent).map(Optional::get).findFirst();
+            if (actualDataSource.isPresent()) {
+                return actualDataSource;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private void collectActualTable(final Connection connection, final String actualTableName) throws SQLException {
+        double actualRowCount = loadRowCount(connection, actualTableName);
+        rowCount += actualRowCount;
+        for (Entry<String, Double> entry : loadDistinctCounts(connection, actualTableName, actualRowCount).entrySet()) {
+            distinctCounts.merge(entry.getKey(), entry.getValue(), primaryKeyColumns.contains(entry.getKey()) ? Double::sum : Math::max);
+        }
+        if (!primaryKeyColumns.isEmpty()) {
+            loadMinMax(connection, actualTableName, tableMetaData.getPrimaryKeyColumns().get(0));
+        }
+    }
+    
+    private double loadRowCount(final Connection connection, final String actualTableName) throws SQLException {
+        Optional<Double> result = Optional.empty();
+        if (MYSQL_DATABASE_TYPES.contains(databaseType.getName())) {
+            result = loadCatalogRowCount(connection, MYSQL_ROW_COUNT_SQL, actualTableName);
+        } else if (POSTGRESQL_DATABASE_TYPES.contains(databaseType.getName())) {
+            result = loadCatalogRowCount(connection, POSTGRESQL_ROW_COUNT_SQL, actualTableName);
+        }
+        return result.isPresent() ? result.get() : countRows(connection, actualTableName);
+    }
+    
+    private Optional<Double> loadCatalogRowCount(final Connection connection, final String sql, final String actualTableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                double result = resultSet.getDouble(1);
+                return resultSet.wasNull() || result < 0 ? Optional.empty() : Optional.of(result);
+            }
+        }
+    }
+    
+    private double countRows(final Connection connection, final String actualTableName) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format(COUNT_SQL, databaseType.getQuoteCharacter().wrap(actualTableName)))) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+    
+    private Map<String, Double> loadDistinctCounts(final Connection connection, final String actualTableName, final double actualRowCount) throws SQLException {
+        if (MYSQL_DATABASE_TYPES.contains(databaseType.getName())) {
+            return loadDistinctCounts(connection, MYSQL_DISTINCT_COUNT_SQL, actualTableName, actualRowCount);
+        }
+        if (POSTGRESQL_DATABASE_TYPES.contains(databaseType.getName())) {
+            return loadDistinctCounts(connection, POSTGRESQL_DISTINCT_COUNT_SQL, actualTableName, actualRowCount);
+        }
+        return Collections.emptyMap();
+    }
+    
+    private Map<String, Double> loadDistinctCounts(final Connection connection, final String sql, final String actualTableName, final double actualRowCount) throws SQLException {
+        Map<String, Double> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    double distinctCount = resultSet.getDouble(2);
+                    // PostgreSQL stores negative distinct count as a fraction of rows for columns which grow with table
+                    result.put(resultSet.getString(1).toLowerCase(), distinctCount < 0 ? -distinctCount * actualRowCount : distinctCount);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void loadMinMax(final Connection connection, final String actualTableName, final String columnName) throws SQLException {
+        String column = databaseType.getQuoteCharacter().wrap(columnName);
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format(MIN_MAX_SQL, column, column, databaseType.getQuoteCharacter().wrap(actualTableName)))) {
+            if (resultSet.next() && resultSet.getObject(1) instanceof Comparable && resultSet.getObject(2) instanceof Comparable) {
+                minValues.merge(columnName.toLowerCase(), (Comparable<?>) resultSet.getObject(1), (oldValue, value) -> compare(oldValue, value) <= 0 ? oldValue : value);
+                maxValues.merge(columnName.toLowerCase(), (Comparable<?>) resultSet.getObject(2), (oldValue, value) -> compare(oldValue, value) >= 0 ? oldValue : value);
+            }
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(final Comparable value, final Comparable otherValue) {
+        return value.compareTo(otherValue);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Table statistics refresher, which refreshes expired statistics of used tables asynchronously one table after another.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class TableStatisticsRefresher {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableStatisticsRefresher-%d").build());
+    
+    private static final Map<String, Long> LAST_FAILED_TIME_MILLIS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Boolean> REFRESHING_TABLES = new ConcurrentHashMap<>();
+    
+    /**
+     * Refresh statistics of tables if statistics are absent or expired.
+     *
+     * @param schemaMetaData federation schema meta data
+     * @param metaData ShardingSphere meta data
+     * @param tableNames table names
+     * @param refreshIntervalMillis refresh interval millis, less than or equal to 0 means never refresh
+     */
+    public static void refreshIfExpired(final FederationSchemaMetaData schemaMetaData, final ShardingSphereMetaData metaData, final Collection<String> tableNames, final long refreshIntervalMillis) {
+        if (refreshIntervalMillis <= 0) {
+            return;
+        }
+        for (String each : tableNames) {
+            String key = schemaMetaData.getName() + "." + each.toLowerCase();
+            if (isExpired(schemaMetaData, each, key, refreshIntervalMillis) && null == REFRESHING_TABLES.putIfAbsent(key, Boolean.TRUE)) {
+                EXECUTOR_SERVICE.execute(() -> refresh(schemaMetaData, metaData, each, key));
+            }
+        }
+    }
+    
+    private static boolean isExpired(final FederationSchemaMetaData schemaMetaData, final String tableName, final String key, final long refreshIntervalMillis) {
+        long collectedTimeMillis = schemaMetaData.findStatistics(tableName).map(TableStatistics::getCollectedTimeMillis).orElse(0L);
+        long lastRefreshTimeMillis = Math.max(collectedTimeMillis, LAST_FAILED_TIME_MILLIS.getOrDefault(key, 0L));
+        return System.currentTimeMillis() - lastRefreshTimeMillis >= refreshIntervalMillis;
+    }
+    
+    private static void refresh(final FederationSchemaMetaData schemaMetaData, final ShardingSphereMetaData metaData, final String tableName, final String key) {
+        try {
+            TableMetaData tableMetaData = metaData.getSchema().get(tableName);
+            if (null != tableMetaData && schemaMetaData.getTables().containsKey(tableName.toLowerCase())) {
+                schemaMetaData.putStatistics(tableName, new TableStatisticsCollector(metaData, tableMetaData).collect());
+            }
+            LAST_FAILED_TIME_MILLIS.remove(key);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            LAST_FAILED_TIME_MILLIS.put(key, System.currentTimeMillis());
+            log.warn("Collect statistics of table `{}` failed", tableName, ex);
+        } finally {
+            REFRESHING_TABLES.remove(key);
+        }
+    }
+}
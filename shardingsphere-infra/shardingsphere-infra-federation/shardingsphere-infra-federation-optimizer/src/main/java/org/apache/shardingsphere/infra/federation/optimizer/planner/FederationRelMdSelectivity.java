@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.Selectivity;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.ColumnStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Selectivity of table scan estimated with collected distinct count, min and max values of columns.
+ */
+public final class FederationRelMdSelectivity implements MetadataHandler<Selectivity> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(BuiltInMethod.SELECTIVITY.method, new FederationRelMdSelectivity());
+    
+    @Override
+    public MetadataDef<Selectivity> getDef() {
+        return Selectivity.DEF;
+    }
+    
+    /**
+     * Get selectivity of table scan.
+     *
+     * @param scan table scan
+     * @param mq relational meta data query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final TableScan scan, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<TableStatistics> tableStatistics = findTableStatistics(scan);
+        return null == predicate || !tableStatistics.isPresent() ? RelMdUtil.guessSelectivity(predicate) : estimate(predicate, scan.getRowType().getFieldNames(), tableStatistics.get());
+    }
+    
+    private Optional<TableStatistics> findTableStatistics(final TableScan scan) {
+        Table table = scan.getTable().unwrap(Table.class);
+        return null != table && table.getStatistic() instanceof FederationTableStatistic ? ((FederationTableStatistic) table.getStatistic()).findTableStatistics() : Optional.empty();
+    }
+    
+    private double estimate(final RexNode predicate, final List<String> fieldNames, final TableStatistics tableStatistics) {
+        switch (predicate.getKind()) {
+            case AND:
+                double andResult = 1D;
+                for (RexNode each : ((RexCall) predicate).getOperands()) {
+                    andResult *= estimate(each, fieldNames, tableStatistics);
+                }
+                return andResult;
+            case OR:
+                double orResult = 0D;
+                for (RexNode each : ((RexCall) predicate).getOperands()) {
+                    orResult += estimate(each, fieldNames, tableStatistics);
+                }
+                return Math.min(orResult, 1D);
+            case NOT:
+                return 1D - estimate(((RexCall) predicate).getOperands().get(0), fieldNames, tableStatistics);
+            case EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return estimateComparison((RexCall) predicate, fieldNames, tableStatistics).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+            default:
+                return RelMdUtil.guessSelectivity(predicate);
+        }
+    }
+    
+    private Optional<Double> estimateComparison(final RexCall comparison, final List<String> fieldNames, final TableStatistics tableStatistics) {
+        RexNode left = comparison.getOperands().get(0);
+        RexNode right = comparison.getOperands().get(1);
+        if (left instanceof RexInputRef && right instanceof RexLiteral) {
+            return estimateComparison(comparison.getKind(), fieldNames.get(((RexInputRef) left).getIndex()), (RexLiteral) right, tableStatistics);
+        }
+        if (right instanceof RexInputRef && left instanceof RexLiteral) {
+            return estimateComparison(comparison.getKind().reverse(), fieldNames.get(((RexInputRef) right).getIndex()), (RexLiteral) left, tableStatistics);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Double> estimateComparison(final SqlKind kind, final String columnName, final RexLiteral value, final TableStatistics tableStatistics) {
+        Optional<ColumnStatistics> columnStatistics = tableStatistics.findColumnStatistics(columnName);
+        if (!columnStatistics.isPresent()) {
+            return Optional.empty();
+        }
+        if (SqlKind.EQUALS == kind) {
+            Double distinctCount = columnStatistics.get().getDistinctCount();
+            return null == distinctCount || distinctCount < 1D ? Optional.empty() : Optional.of(1D / distinctCount);
+        }
+        return estimateRange(kind, columnStatistics.get(), value);
+    }
+    
+    private Optional<Double> estimateRange(final SqlKind kind, final ColumnStatistics columnStatistics, final RexLiteral value) {
+        if (!(columnStatistics.getMinValue() instanceof Number) || !(columnStatistics.getMaxValue() instanceof Number) || !(value.getValue() instanceof BigDecimal)) {
+            return Optional.empty();
+        }
+        double min = ((Number) columnStatistics.getMinValue()).doubleValue();
+        double max = ((Number) columnStatistics.getMaxValue()).doubleValue();
+        if (max <= min) {
+            return Optional.empty();
+        }
+        double lessThanFraction = (((BigDecimal) value.getValue()).doubleValue() - min) / (max - min);
+        double result = SqlKind.LESS_THAN == kind || SqlKind.LESS_THAN_OR_EQUAL == kind ? lessThanFraction : 1D - lessThanFraction;
+        return Optional.of(Math.max(0D, Math.min(1D, result)));
+    }
+}
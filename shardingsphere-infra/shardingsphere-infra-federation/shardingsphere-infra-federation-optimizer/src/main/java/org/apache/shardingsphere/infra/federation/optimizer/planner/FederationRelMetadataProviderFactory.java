@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.planner;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+
+import java.util.Arrays;
+
+/**
+ * Federation relational meta data provider factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationRelMetadataProviderFactory {
+    
+    private static final RelMetadataProvider INSTANCE = ChainedRelMetadataProvider.of(Arrays.asList(FederationRelMdSelectivity.SOURCE, DefaultRelMetadataProvider.INSTANCE));
+    
+    /**
+     * Get instance of federation relational meta data provider, which uses collected table statistics before default providers.
+     *
+     * @return federation relational meta data provider
+     */
+    public static RelMetadataProvider getInstance() {
+        return INSTANCE;
+    }
+}
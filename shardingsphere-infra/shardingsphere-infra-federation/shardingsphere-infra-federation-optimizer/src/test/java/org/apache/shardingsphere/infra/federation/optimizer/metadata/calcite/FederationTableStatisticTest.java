@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.ColumnStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationTableStatisticTest {
+    
+    private FederationSchemaMetaData schemaMetaData;
+    
+    private FederationTableStatistic statistic;
+    
+    @Before
+    public void setUp() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("order_no", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        schemaMetaData = new FederationSchemaMetaData("logic_db", Collections.singletonMap("t_order", tableMetaData));
+        statistic = new FederationTableStatistic(schemaMetaData, new FederationTableMetaData("t_order", tableMetaData));
+    }
+    
+    @Test
+    public void assertGetRowCountAndKeysWithoutStatistics() {
+        assertNull(statistic.getRowCount());
+        assertTrue(statistic.getKeys().isEmpty());
+    }
+    
+    @Test
+    public void assertGetRowCountAndKeysWithStatistics() {
+        Map<String, ColumnStatistics> columns = new HashMap<>(3, 1);
+        columns.put("order_id", new ColumnStatistics("order_id", 1000D, 1L, 1000L));
+        columns.put("user_id", new ColumnStatistics("user_id", 10D, null, null));
+        columns.put("order_no", new ColumnStatistics("order_no", 1000D, null, null));
+        schemaMetaData.putStatistics("t_order", new TableStatistics(1000D, columns, System.currentTimeMillis()));
+        assertThat(statistic.getRowCount(), is(1000D));
+        assertThat(statistic.getKeys(), is(Arrays.asList(ImmutableBitSet.of(0), ImmutableBitSet.of(2))));
+        assertTrue(statistic.isKey(ImmutableBitSet.of(1, 2)));
+        assertFalse(statistic.isKey(ImmutableBitSet.of(1)));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class TableStatisticsCollectorTest {
+    
+    @Test
+    public void assertCollectWithLogicDataSource() throws SQLException {
+        DataNodeContainedRule dataNodeContainedRule = mock(DataNodeContainedRule.class);
+        when(dataNodeContainedRule.getAllDataNodes()).thenReturn(Collections.singletonMap("t_order", Arrays.asList(new DataNode("pr_ds", "t_order_0"), new DataNode("missing_ds", "t_order_1"))));
+        DataSourceContainedRule dataSourceContainedRule = mock(DataSourceContainedRule.class);
+        when(dataSourceContainedRule.getDataSourceMapper()).thenReturn(Collections.singletonMap("pr_ds", Arrays.asList("write_ds", "read_ds")));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getRuleMetaData()).thenReturn(new ShardingSphereRuleMetaData(Collections.emptyList(), Arrays.asList(dataNodeContainedRule, dataSourceContainedRule)));
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getName()).thenReturn("H2");
+        when(databaseType.getQuoteCharacter()).thenReturn(QuoteCharacter.NONE);
+        when(metaData.getResource().getDatabaseType()).thenReturn(databaseType);
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = dataSource.getConnection().createStatement().executeQuery("SELECT COUNT(*) FROM t_order_0");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(10D);
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("write_ds", dataSource));
+        TableMetaData tableMetaData = new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        TableStatistics actual = new TableStatisticsCollector(metaData, tableMetaData).collect();
+        assertThat(actual.getRowCount(), is(10D));
+        assertThat(actual.getColumns().keySet(), is(Collections.singleton("status")));
+        Connection connection = dataSource.getConnection();
+        verify(connection).close();
+    }
+}
@@ -19,12 +19,15 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
@@ -34,6 +37,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -71,6 +75,44 @@ public final class SQLRewriteEntry {
      */
     public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
+        sqlRewriteContext.generateSQLTokens();
+        return rewrite(sqlRewriteContext, routeContext);
+    }
+    
+    /**
+     * Rewrite with SQL rewrite template cache.
+     * 
+     * <p>SQL tokens are reused from template cache if SQL tokens are reusable and SQL is routed to same route units,
+     * parameters are always rewritten.</p>
+     *
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @param sqlStatementContext SQL statement context
+     * @param routeContext route context
+     * @param templateCache SQL rewrite template cache of SQL
+     * @return route unit and SQL rewrite result map
+     */
+    public SQLRewriteResult rewrite(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext,
+                                    final SQLRewriteTemplateCache templateCache) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SQL_REWRITE_TEMPLATE_CACHE_ENABLED) || routeContext.isFederated()) {
+            return rewrite(sql, parameters, sqlStatementContext, routeContext);
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, sqlStatementContext, routeContext);
+        if (!sqlRewriteContext.isSQLTokensReusable()) {
+            sqlRewriteContext.generateSQLTokens();
+            return rewrite(sqlRewriteContext, routeContext);
+        }
+        Optional<List<SQLToken>> cachedSQLTokens = templateCache.findSQLTokens(routeContext);
+        if (cachedSQLTokens.isPresent()) {
+            sqlRewriteContext.getSqlTokens().addAll(cachedSQLTokens.get());
+        } else {
+            sqlRewriteContext.generateSQLTokens();
+            templateCache.cacheSQLTokens(routeContext, sqlRewriteContext.getSqlTokens());
+        }
+        return rewrite(sqlRewriteContext, routeContext);
+    }
+    
+    private SQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         return routeContext.getRouteUnits().isEmpty()
                 ? new GenericSQLRewriteEngine().rewrite(sqlRewriteContext) : new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext);
     }
@@ -78,7 +120,6 @@ public final class SQLRewriteEntry {
     private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final SQLStatementContext<?> sqlStatementContext, final RouteContext routeContext) {
         SQLRewriteContext result = new SQLRewriteContext(schemaName, schema, sqlStatementContext, sql, parameters);
         decorate(decorators, result, routeContext);
-        result.generateSQLTokens();
         return result;
     }
     
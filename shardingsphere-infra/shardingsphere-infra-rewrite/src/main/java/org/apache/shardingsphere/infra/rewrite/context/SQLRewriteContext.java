@@ -85,4 +85,15 @@ public final class SQLRewriteContext {
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, schema));
     }
+    
+    /**
+     * Judge whether SQL tokens are reusable for other parameters of same SQL.
+     * 
+     * <p>SQL tokens of insert statement depend on generated keys and grouped parameters, so they can not be reused.</p>
+     *
+     * @return SQL tokens are reusable or not
+     */
+    public boolean isSQLTokensReusable() {
+        return !(sqlStatementContext instanceof InsertStatementContext) && !sqlTokenGenerators.containsParametersAware();
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.context;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL rewrite template cache of same SQL, which caches SQL tokens by route units.
+ */
+public final class SQLRewriteTemplateCache {
+    
+    private static final int MAXIMUM_SIZE = 1024;
+    
+    private final Cache<List<RouteUnit>, List<SQLToken>> sqlTokens = CacheBuilder.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Find cached SQL tokens.
+     *
+     * @param routeContext route context
+     * @return cached SQL tokens
+     */
+    public Optional<List<SQLToken>> findSQLTokens(final RouteContext routeContext) {
+        return Optional.ofNullable(sqlTokens.getIfPresent(new ArrayList<>(routeContext.getRouteUnits())));
+    }
+    
+    /**
+     * Cache SQL tokens.
+     *
+     * @param routeContext route context
+     * @param sqlTokens SQL tokens to be cached
+     */
+    public void cacheSQLTokens(final RouteContext routeContext, final List<SQLToken> sqlTokens) {
+        this.sqlTokens.put(new ArrayList<>(routeContext.getRouteUnits()), new ArrayList<>(sqlTokens));
+    }
+}
@@ -75,6 +75,15 @@ public final class SQLTokenGenerators {
         return result;
     }
     
+    /**
+     * Judge whether contains parameters aware SQL token generator.
+     *
+     * @return contains parameters aware SQL token generator or not
+     */
+    public boolean containsParametersAware() {
+        return sqlTokenGenerators.values().stream().anyMatch(each -> each instanceof ParametersAware);
+    }
+    
     private void setUpSQLTokenGenerator(final SQLTokenGenerator sqlTokenGenerator, final List<Object> parameters, final ShardingSphereSchema schema, final List<SQLToken> previousSQLTokens) {
         if (sqlTokenGenerator instanceof ParametersAware) {
             ((ParametersAware) sqlTokenGenerator).setParameters(parameters);
@@ -19,8 +19,10 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -36,6 +38,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -69,4 +72,20 @@ public final class SQLRewriteEntryTest {
         RouteSQLRewriteResult sqlRewriteResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite("SELECT ?", Collections.singletonList(1), mock(SQLStatementContext.class), routeContext);
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
+    
+    @Test
+    public void assertRewriteWithTemplateCache() {
+        when(props.getValue(ConfigurationPropertyKey.SQL_REWRITE_TEMPLATE_CACHE_ENABLED)).thenReturn(true);
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(DefaultSchema.LOGIC_NAME, schema, props, Collections.emptyList());
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList()));
+        SQLRewriteTemplateCache templateCache = new SQLRewriteTemplateCache();
+        RouteSQLRewriteResult sqlRewriteResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(
+                "SELECT ?", Collections.singletonList(1), mock(SQLStatementContext.class), routeContext, templateCache);
+        assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(1));
+        assertTrue(templateCache.findSQLTokens(routeContext).isPresent());
+        sqlRewriteResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite("SELECT ?", Collections.singletonList(2), mock(SQLStatementContext.class), routeContext, templateCache);
+        assertThat(sqlRewriteResult.getSqlRewriteUnits().values().iterator().next().getSql(), is("SELECT ?"));
+        assertThat(sqlRewriteResult.getSqlRewriteUnits().values().iterator().next().getParameters(), is(Collections.singletonList(2)));
+    }
 }
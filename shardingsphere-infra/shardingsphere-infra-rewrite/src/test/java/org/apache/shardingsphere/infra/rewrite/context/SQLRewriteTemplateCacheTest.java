@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.context;
+
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLRewriteTemplateCacheTest {
+    
+    @Test
+    public void assertFindSQLTokensWithSameRouteUnits() {
+        SQLRewriteTemplateCache templateCache = new SQLRewriteTemplateCache();
+        SQLToken sqlToken = mock(SQLToken.class);
+        templateCache.cacheSQLTokens(createRouteContext("ds_0"), Collections.singletonList(sqlToken));
+        Optional<?> actual = templateCache.findSQLTokens(createRouteContext("ds_0"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(Collections.singletonList(sqlToken)));
+    }
+    
+    @Test
+    public void assertFindSQLTokensWithDifferentRouteUnits() {
+        SQLRewriteTemplateCache templateCache = new SQLRewriteTemplateCache();
+        templateCache.cacheSQLTokens(createRouteContext("ds_0"), Collections.singletonList(mock(SQLToken.class)));
+        assertFalse(templateCache.findSQLTokens(createRouteContext("ds_1")).isPresent());
+    }
+    
+    private RouteContext createRouteContext(final String actualDataSourceName) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", actualDataSourceName), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        return result;
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.base.Preconditions;
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -35,9 +34,9 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,8 +55,7 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<BatchExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
@@ -68,7 +66,16 @@ public final class BatchPreparedStatementExecutor {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
+    }
+    
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
     /**
@@ -86,31 +93,17 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
-        for (ExecutionUnit executionUnit : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(executionUnit);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
+            BatchExecutionUnit oldBatchExecutionUnit = batchExecutionUnits.get(batchExecutionUnit);
+            if (null == oldBatchExecutionUnit) {
+                batchExecutionUnit.mapAddBatchCount(batchCount);
+                batchExecutionUnits.put(batchExecutionUnit, batchExecutionUnit);
+            } else {
+                reviseBatchExecutionUnit(oldBatchExecutionUnit, batchExecutionUnit);
             }
         }
+        batchCount++;
     }
     
     private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
@@ -118,14 +111,6 @@ public final class BatchPreparedStatementExecutor {
         oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
-    }
-    
     /**
      * Execute batch.
      *
@@ -167,13 +152,8 @@ public final class BatchPreparedStatementExecutor {
         int count = 0;
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
-                }
+                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = findBatchExecutionUnit(eachUnit)
+                        .map(BatchExecutionUnit::getJdbcAndActualAddBatchCallTimesMap).orElse(Collections.emptyMap());
                 for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
                     int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
                     result[entry.getKey()] += value;
@@ -184,9 +164,8 @@ public final class BatchPreparedStatementExecutor {
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private Optional<BatchExecutionUnit> findBatchExecutionUnit(final JDBCExecutionUnit jdbcExecutionUnit) {
+        return Optional.ofNullable(batchExecutionUnits.get(new BatchExecutionUnit(jdbcExecutionUnit.getExecutionUnit())));
     }
     
     /**
@@ -221,7 +200,7 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        Optional<BatchExecutionUnit> batchExecutionUnit = batchExecutionUnits.stream().filter(each -> isSameDataSourceAndSQL(each, executionUnit)).findFirst();
+        Optional<BatchExecutionUnit> batchExecutionUnit = findBatchExecutionUnit(executionUnit);
         Preconditions.checkState(batchExecutionUnit.isPresent());
         return batchExecutionUnit.get().getParameterSets();
     }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Batch row router.
+ * 
+ * <p>Statement context bound by the first batched row is reused by later rows, which are only routed by their own sharding values.
+ * SQL rewritten for each route unit is reused as well, so later rows routed to known route units are neither bound nor rewritten again.
+ * It works only if rewriting does not change parameters, such as single values insert without generated key, update and delete.</p>
+ */
+@RequiredArgsConstructor
+public final class BatchRowRouter {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<RouteUnit, SQLUnit> sqlUnits = new HashMap<>();
+    
+    private SQLStatementContext<?> sqlStatementContext;
+    
+    private boolean unavailable;
+    
+    /**
+     * Route batched row to execution units with bound statement context and rewritten SQL of known route units.
+     *
+     * @param sql SQL
+     * @param parameters parameters of batched row
+     * @return execution units, empty if statement is not bound yet or row is routed to unknown route unit
+     */
+    public Optional<Collection<ExecutionUnit>> route(final String sql, final List<Object> parameters) {
+        if (unavailable || null == sqlStatementContext) {
+            return Optional.empty();
+        }
+        RouteContext routeContext = new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(new LogicSQL(sqlStatementContext, sql, parameters), metaData);
+        Collection<ExecutionUnit> result = new LinkedList<>();
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            SQLUnit sqlUnit = sqlUnits.get(each);
+            if (null == sqlUnit) {
+                return Optional.empty();
+            }
+            result.add(new ExecutionUnit(each.getDataSourceMapper().getActualName(), new SQLUnit(sqlUnit.getSql(), parameters, sqlUnit.getTableRouteMappers())));
+        }
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    /**
+     * Cache bound statement context and rewritten SQL of batched row which is routed and rewritten completely.
+     *
+     * @param executionContext execution context of batched row
+     */
+    public void cache(final ExecutionContext executionContext) {
+        if (unavailable) {
+            return;
+        }
+        if (!isAvailable(executionContext)) {
+            unavailable = true;
+            sqlUnits.clear();
+            return;
+        }
+        if (null == sqlStatementContext) {
+            sqlStatementContext = executionContext.getSqlStatementContext();
+        }
+        for (RouteUnit each : executionContext.getRouteContext().getRouteUnits()) {
+            sqlUnits.put(each, findSQLUnit(executionContext.getExecutionUnits(), each).orElseThrow(IllegalStateException::new));
+        }
+    }
+    
+    private boolean isAvailable(final ExecutionContext executionContext) {
+        if (!isAvailable(executionContext.getSqlStatementContext()) || executionContext.getRouteContext().getRouteUnits().size() != executionContext.getExecutionUnits().size()) {
+            return false;
+        }
+        List<Object> parameters = executionContext.getLogicSQL().getParameters();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            if (!parameters.equals(each.getSqlUnit().getParameters())) {
+                return false;
+            }
+        }
+        for (RouteUnit each : executionContext.getRouteContext().getRouteUnits()) {
+            if (!findSQLUnit(executionContext.getExecutionUnits(), each).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isAvailable(final SQLStatementContext<?> sqlStatementContext) {
+        if (sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext) {
+            return true;
+        }
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getValueListCount()
+                && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private Optional<SQLUnit> findSQLUnit(final Collection<ExecutionUnit> executionUnits, final RouteUnit routeUnit) {
+        List<Object> tableMappers = new ArrayList<>(routeUnit.getTableMappers());
+        for (ExecutionUnit each : executionUnits) {
+            if (each.getDataSourceName().equals(routeUnit.getDataSourceMapper().getActualName()) && tableMappers.equals(each.getSqlUnit().getTableRouteMappers())) {
+                return Optional.of(each.getSqlUnit());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Clear cached statement context and rewritten SQL.
+     */
+    public void clear() {
+        sqlUnits.clear();
+        sqlStatementContext = null;
+        unavailable = false;
+    }
+}
@@ -23,6 +23,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.driver.executor.batch.BatchRowRouter;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
@@ -68,6 +70,7 @@ import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteTemplateCache;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.RawExecutionRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -123,10 +126,14 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final BatchPreparedStatementExecutor batchPreparedStatementExecutor;
     
+    private final BatchRowRouter batchRowRouter;
+    
     private final Collection<Comparable<?>> generatedValues = new LinkedList<>();
     
     private final KernelProcessor kernelProcessor;
     
+    private final SQLRewriteTemplateCache rewriteTemplateCache;
+    
     private final boolean statementsCacheable;
     
     private ExecutionContext executionContext;
@@ -172,10 +179,17 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         executor = new DriverExecutor(connection);
         JDBCExecutor jdbcExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), connection.isHoldTransaction());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getSchema());
+        batchRowRouter = isBatchSingleBindEnabled() ? new BatchRowRouter(metaDataContexts.getMetaData(connection.getSchema()), metaDataContexts.getProps()) : null;
         kernelProcessor = new KernelProcessor();
+        rewriteTemplateCache = new SQLRewriteTemplateCache();
         statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getConfigurations());
     }
     
+    private boolean isBatchSingleBindEnabled() {
+        ConfigurationProperties props = metaDataContexts.getProps();
+        return props.<Boolean>getValue(ConfigurationPropertyKey.SQL_BATCH_SINGLE_BIND_ENABLED) && !props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW);
+    }
+    
     private boolean isStatementsCacheable(final Collection<RuleConfiguration> configurations) {
         // TODO Consider cache statements with more case
         return 1 == configurations.size() && configurations.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated();
@@ -255,16 +269,20 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         cacheStatements(executionGroupContext.getInputGroups());
         return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getLogicSQL(),
                 new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(), sqlStatement,
-                        SQLExecutorExceptionHandler.isExceptionThrown()));
+                        SQLExecutorExceptionHandler.isExceptionThrown(), isColumnarMemoryQueryResult()));
     }
     
     private ResultSet executeFederationQuery(final LogicSQL logicSQL) throws SQLException {
         PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType(),
-                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
+                 sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown(), isColumnarMemoryQueryResult());
         FederationContext context = new FederationContext(false, logicSQL, metaDataContexts.getMetaDataMap());
         return executor.getFederationExecutor().executeQuery(createDriverExecutionPrepareEngine(), callback, context);
     }
     
+    private boolean isColumnarMemoryQueryResult() {
+        return metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_COLUMNAR_MEMORY_QUERY_RESULT_ENABLED);
+    }
+    
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection.getConnectionManager(), 
@@ -431,7 +449,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL) {
         SQLCheckEngine.check(logicSQL.getSqlStatementContext().getSqlStatement(), logicSQL.getParameters(), 
                 metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules(), connection.getSchema(), metaDataContexts.getMetaDataMap(), null);
-        ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getMetaData(connection.getSchema()), metaDataContexts.getProps());
+        ExecutionContext result = kernelProcessor.generateExecutionContext(logicSQL, metaDataContexts.getMetaData(connection.getSchema()), metaDataContexts.getProps(), rewriteTemplateCache);
         findGeneratedKey(result).ifPresent(generatedKey -> generatedValues.addAll(generatedKey.getGeneratedValues()));
         return result;
     }
@@ -501,7 +519,15 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
+            Optional<Collection<ExecutionUnit>> routedExecutionUnits = null == batchRowRouter ? Optional.empty() : batchRowRouter.route(sql, new ArrayList<>(getParameters()));
+            if (routedExecutionUnits.isPresent()) {
+                batchPreparedStatementExecutor.addBatchForExecutionUnits(routedExecutionUnits.get());
+                return;
+            }
             executionContext = createExecutionContext(createLogicSQL());
+            if (null != batchRowRouter) {
+                batchRowRouter.cache(executionContext);
+            }
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -547,6 +573,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() throws SQLException {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        if (null != batchRowRouter) {
+            batchRowRouter.clear();
+        }
         clearParameters();
     }
     
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchRowRouterTest {
+    
+    private static final String SQL = "UPDATE t_order SET status = ? WHERE order_id = ?";
+    
+    private static final String ACTUAL_SQL = "UPDATE t_order_0 SET status = ? WHERE order_id = ?";
+    
+    private BatchRowRouter batchRowRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        when(metaData.getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", mock(DataSource.class)));
+        batchRowRouter = new BatchRowRouter(metaData, new ConfigurationProperties(new Properties()));
+    }
+    
+    @Test
+    public void assertRouteBeforeCache() {
+        assertFalse(batchRowRouter.route(SQL, Arrays.asList("OK", 1)).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithCachedSQL() {
+        batchRowRouter.cache(createExecutionContext(mockUpdateStatementContext(), Arrays.asList("OK", 1), Arrays.asList("OK", 1)));
+        Optional<Collection<ExecutionUnit>> actual = batchRowRouter.route(SQL, Arrays.asList("OK", 2));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(1));
+        ExecutionUnit executionUnit = actual.get().iterator().next();
+        assertThat(executionUnit.getDataSourceName(), is("ds_0"));
+        assertThat(executionUnit.getSqlUnit().getSql(), is(ACTUAL_SQL));
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(Arrays.<Object>asList("OK", 2)));
+    }
+    
+    @Test
+    public void assertRouteWithRewrittenParameters() {
+        batchRowRouter.cache(createExecutionContext(mockUpdateStatementContext(), Arrays.asList("OK", 1), Arrays.asList("encrypted", 1)));
+        assertFalse(batchRowRouter.route(SQL, Arrays.asList("OK", 2)).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithGeneratedKey() {
+        InsertStatementContext sqlStatementContext = mock(InsertStatementContext.class);
+        when(sqlStatementContext.getValueListCount()).thenReturn(1);
+        when(sqlStatementContext.getGeneratedKeyContext()).thenReturn(Optional.of(new GeneratedKeyContext("order_id", true)));
+        batchRowRouter.cache(createExecutionContext(sqlStatementContext, Arrays.asList("OK", 1), Arrays.asList("OK", 1)));
+        assertFalse(batchRowRouter.route(SQL, Arrays.asList("OK", 2)).isPresent());
+    }
+    
+    @Test
+    public void assertClear() {
+        batchRowRouter.cache(createExecutionContext(mockUpdateStatementContext(), Arrays.asList("OK", 1), Arrays.asList("OK", 1)));
+        batchRowRouter.clear();
+        assertFalse(batchRowRouter.route(SQL, Arrays.asList("OK", 2)).isPresent());
+    }
+    
+    private UpdateStatementContext mockUpdateStatementContext() {
+        UpdateStatementContext result = mock(UpdateStatementContext.class);
+        when(result.findHintDataSourceName()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final SQLStatementContext<?> sqlStatementContext, final List<Object> parameters, final List<Object> actualParameters) {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.emptyList()));
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit(ACTUAL_SQL, actualParameters, Collections.emptyList()));
+        return new ExecutionContext(new LogicSQL(sqlStatementContext, SQL, parameters), Collections.singletonList(executionUnit), routeContext);
+    }
+}
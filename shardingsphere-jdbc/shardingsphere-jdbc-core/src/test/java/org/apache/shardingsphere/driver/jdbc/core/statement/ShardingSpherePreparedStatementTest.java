@@ -19,6 +19,8 @@ package org.apache.shardingsphere.driver.jdbc.core.statement;
 
 import org.apache.shardingsphere.driver.fixture.ResetIncrementKeyGenerateAlgorithm;
 import org.apache.shardingsphere.driver.jdbc.base.AbstractShardingSphereDataSourceForShardingTest;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.junit.Test;
 
 import java.sql.Connection;
@@ -28,6 +30,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -435,6 +438,41 @@ public final class ShardingSpherePreparedStatementTest extends AbstractShardingS
         }
     }
     
+    @Test
+    public void assertAddBatchWithSingleBind() throws SQLException {
+        ContextManager contextManager = getShardingSphereDataSource().getContextManager();
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_BATCH_SINGLE_BIND_ENABLED.getKey(), Boolean.TRUE.toString());
+        contextManager.alterProperties(props);
+        try (
+                Connection connection = getShardingSphereDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_WITH_GENERATE_KEY_SQL);
+                Statement queryStatement = connection.createStatement()) {
+            int[][] rows = {{1, 11, 11}, {2, 12, 12}, {3, 21, 21}, {4, 22, 22}, {5, 13, 11}, {6, 23, 21}};
+            for (int[] each : rows) {
+                preparedStatement.setInt(1, each[0]);
+                preparedStatement.setInt(2, each[1]);
+                preparedStatement.setInt(3, each[2]);
+                preparedStatement.setString(4, "BATCH");
+                preparedStatement.addBatch();
+            }
+            int[] result = preparedStatement.executeBatch();
+            assertThat(result.length, is(rows.length));
+            for (int each : result) {
+                assertThat(each, is(1));
+            }
+            for (int[] each : rows) {
+                try (ResultSet resultSet = queryStatement.executeQuery(String.format(SELECT_SQL_WITHOUT_PARAMETER_MARKER, each[2], each[1]))) {
+                    assertTrue(resultSet.next());
+                    assertThat(resultSet.getInt(1), is(each[0]));
+                    assertFalse(resultSet.next());
+                }
+            }
+        } finally {
+            contextManager.alterProperties(new Properties());
+        }
+    }
+    
     @Test
     public void assertUpdateBatch() throws SQLException {
         try (
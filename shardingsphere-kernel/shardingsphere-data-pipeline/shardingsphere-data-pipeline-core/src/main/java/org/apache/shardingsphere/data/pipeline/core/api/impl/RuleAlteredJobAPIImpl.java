@@ -67,6 +67,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -77,6 +78,8 @@ public final class RuleAlteredJobAPIImpl extends AbstractPipelineJobAPIImpl impl
     private static final Map<String, DataConsistencyCheckAlgorithm> DATA_CONSISTENCY_CHECK_ALGORITHM_MAP = new TreeMap<>(
             SingletonSPIRegistry.getTypedSingletonInstancesMap(DataConsistencyCheckAlgorithm.class));
     
+    private static final Map<String, DataConsistencyChecker> RUNNING_DATA_CONSISTENCY_CHECKERS = new ConcurrentHashMap<>();
+    
     @Override
     public boolean isDefault() {
         return false;
@@ -268,14 +271,25 @@ public final class RuleAlteredJobAPIImpl extends AbstractPipelineJobAPIImpl impl
         DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobConfig);
         Map<String, DataConsistencyCheckResult> result = dataConsistencyChecker.checkRecordsCount();
         if (result.values().stream().allMatch(DataConsistencyCheckResult::isRecordsCountMatched)) {
-            Map<String, Boolean> contentCheckResult = dataConsistencyChecker.checkRecordsContent(checkAlgorithm);
-            result.forEach((key, value) -> value.setRecordsContentMatched(contentCheckResult.getOrDefault(key, false)));
+            RUNNING_DATA_CONSISTENCY_CHECKERS.put(jobId, dataConsistencyChecker);
+            try {
+                Map<String, Boolean> contentCheckResult = dataConsistencyChecker.checkRecordsContent(checkAlgorithm);
+                result.forEach((key, value) -> value.setRecordsContentMatched(contentCheckResult.getOrDefault(key, false)));
+            } finally {
+                RUNNING_DATA_CONSISTENCY_CHECKERS.remove(jobId);
+            }
         }
         log.info("Scaling job {} with check algorithm '{}' data consistency checker result {}", jobId, checkAlgorithm.getClass().getName(), result);
         PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobCheckResult(jobId, aggregateDataConsistencyCheckResults(jobId, result));
         return result;
     }
     
+    @Override
+    public Map<String, Integer> getDataConsistencyCheckProgress(final String jobId) {
+        DataConsistencyChecker dataConsistencyChecker = RUNNING_DATA_CONSISTENCY_CHECKERS.get(jobId);
+        return null == dataConsistencyChecker ? Collections.emptyMap() : dataConsistencyChecker.getRecordsContentCheckProgress();
+    }
+    
     @Override
     public boolean aggregateDataConsistencyCheckResults(final String jobId, final Map<String, DataConsistencyCheckResult> checkResultMap) {
         if (checkResultMap.isEmpty()) {
@@ -41,4 +41,11 @@ public interface DataConsistencyChecker {
      * @return records content check result. key is logic table name, value is check result.
      */
     Map<String, Boolean> checkRecordsContent(DataConsistencyCheckAlgorithm checkAlgorithm);
+    
+    /**
+     * Get records content check progress.
+     *
+     * @return records content check progress. key is logic table name, value is checked percentage.
+     */
+    Map<String, Integer> getRecordsContentCheckProgress();
 }
@@ -18,15 +18,16 @@
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.JobConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfigurationFactory;
-import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceFactory;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
@@ -40,6 +41,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 
@@ -48,19 +50,24 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Data consistency checker implementation.
@@ -69,6 +76,12 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class DataConsistencyCheckerImpl implements DataConsistencyChecker {
     
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final int DEFAULT_CONCURRENCY = 2;
+    
+    private static final int RANGE_COUNT_PER_THREAD = 16;
+    
     private final PipelineDataSourceFactory dataSourceFactory = new PipelineDataSourceFactory();
     
     private final JobConfiguration jobConfig;
@@ -79,6 +92,12 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
     
     private final Collection<String> logicTableNames;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Integer> rangeCounts = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, AtomicInteger> checkedRangeCounts = new ConcurrentHashMap<>();
+    
     public DataConsistencyCheckerImpl(final JobConfiguration jobConfig) {
         this.jobConfig = jobConfig;
         ruleAlteredContext = RuleAlteredJobWorker.createRuleAlteredContext(jobConfig);
@@ -154,9 +173,10 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
         String targetDatabaseType = targetDataSourceConfig.getDatabaseType().getName();
         SingleTableDataCalculator sourceCalculator = checkAlgorithm.getSingleTableDataCalculator(sourceDatabaseType);
         SingleTableDataCalculator targetCalculator = checkAlgorithm.getSingleTableDataCalculator(targetDatabaseType);
-        Map<String, Boolean> result = new HashMap<>();
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        int concurrency = getConcurrency(checkAlgorithm.getProps());
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("job" + getJobIdPrefix(jobId) + "-dataCheck-%d");
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
         JobRateLimitAlgorithm inputRateLimitAlgorithm = ruleAlteredContext.getInputRateLimitAlgorithm();
         try (PipelineDataSourceWrapper sourceDataSource = dataSourceFactory.newInstance(sourceDataSourceConfig);
              PipelineDataSourceWrapper targetDataSource = dataSourceFactory.newInstance(targetDataSourceConfig)) {
@@ -167,31 +187,34 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
                     throw new PipelineDataConsistencyCheckFailedException(String.format("could not get metadata for table '%s'", each));
                 }
             });
+            Map<String, Collection<Future<Boolean>>> rangeCheckFutures = new LinkedHashMap<>();
             for (String each : logicTableNames) {
                 TableMetaData tableMetaData = tableMetaDataMap.get(each);
-                Collection<String> columnNames = tableMetaData.getColumns().keySet();
                 String uniqueKey = tableMetaData.getPrimaryKeyColumns().get(0);
-                DataCalculateParameter sourceCalculateParameter = DataCalculateParameter.builder().dataSource(sourceDataSource).databaseType(sourceDatabaseType).peerDatabaseType(targetDatabaseType)
-                    .logicTableName(each).columnNames(columnNames).uniqueKey(uniqueKey).build();
-                DataCalculateParameter targetCalculateParameter = DataCalculateParameter.builder().dataSource(targetDataSource).databaseType(targetDatabaseType).peerDatabaseType(sourceDatabaseType)
-                    .logicTableName(each).columnNames(columnNames).uniqueKey(uniqueKey).build();
-                Iterator<Object> sourceCalculatedResultIterator = sourceCalculator.calculate(sourceCalculateParameter).iterator();
-                Iterator<Object> targetCalculatedResultIterator = targetCalculator.calculate(targetCalculateParameter).iterator();
+                RangeDataConsistencyChecker rangeChecker = new RangeDataConsistencyChecker(sourceCalculator, targetCalculator, sourceDataSource, targetDataSource,
+                        sourceDatabaseType, targetDatabaseType, each, tableMetaData.getColumns().keySet(), uniqueKey, inputRateLimitAlgorithm);
+                Collection<Pair<Object, Object>> uniqueKeyValueRanges = isIntegerUniqueKey(tableMetaData, uniqueKey)
+                        ? splitUniqueKeyValueRanges(each, uniqueKey, concurrency * RANGE_COUNT_PER_THREAD, sourceDataSource, targetDataSource)
+                        : Collections.singletonList(null);
+                AtomicInteger checkedRangeCount = new AtomicInteger();
+                checkedRangeCounts.put(each, checkedRangeCount);
+                rangeCounts.put(each, uniqueKeyValueRanges.size());
+                Collection<Future<Boolean>> futures = new LinkedList<>();
+                for (Pair<Object, Object> range : uniqueKeyValueRanges) {
+                    futures.add(executor.submit(() -> {
+                        boolean matched = rangeChecker.check(range);
+                        checkedRangeCount.incrementAndGet();
+                        return matched;
+                    }));
+                }
+                rangeCheckFutures.put(each, futures);
+            }
+            for (Entry<String, Collection<Future<Boolean>>> entry : rangeCheckFutures.entrySet()) {
                 boolean calculateResultsEquals = true;
-                while (sourceCalculatedResultIterator.hasNext() && targetCalculatedResultIterator.hasNext()) {
-                    if (null != inputRateLimitAlgorithm) {
-                        inputRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
-                    }
-                    Future<Object> sourceFuture = executor.submit(sourceCalculatedResultIterator::next);
-                    Future<Object> targetFuture = executor.submit(targetCalculatedResultIterator::next);
-                    Object sourceCalculatedResult = sourceFuture.get();
-                    Object targetCalculatedResult = targetFuture.get();
-                    calculateResultsEquals = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
-                    if (!calculateResultsEquals) {
-                        break;
-                    }
+                for (Future<Boolean> each : entry.getValue()) {
+                    calculateResultsEquals &= each.get();
                 }
-                result.put(each, calculateResultsEquals);
+                result.put(entry.getKey(), calculateResultsEquals);
             }
         } catch (final ExecutionException | InterruptedException | SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException("data check failed", ex);
@@ -202,6 +225,66 @@ public final class DataConsistencyCheckerImpl implements DataConsistencyChecker
         return result;
     }
     
+    private int getConcurrency(final Properties algorithmProps) {
+        String concurrency = algorithmProps.getProperty(CONCURRENCY_KEY);
+        return Strings.isNullOrEmpty(concurrency) ? DEFAULT_CONCURRENCY : Math.max(1, Integer.parseInt(concurrency));
+    }
+    
+    private boolean isIntegerUniqueKey(final TableMetaData tableMetaData, final String uniqueKey) {
+        if (1 != tableMetaData.getPrimaryKeyColumns().size()) {
+            return false;
+        }
+        ColumnMetaData columnMetaData = tableMetaData.getColumns().get(uniqueKey);
+        if (null == columnMetaData) {
+            return false;
+        }
+        int dataType = columnMetaData.getDataType();
+        return Types.INTEGER == dataType || Types.BIGINT == dataType || Types.SMALLINT == dataType || Types.TINYINT == dataType;
+    }
+    
+    private Collection<Pair<Object, Object>> splitUniqueKeyValueRanges(final String table, final String uniqueKey, final int rangeCount,
+                                                                      final PipelineDataSourceWrapper sourceDataSource, final PipelineDataSourceWrapper targetDataSource) {
+        Optional<Pair<Long, Long>> sourceBound = queryUniqueKeyValueBound(sourceDataSource, table, uniqueKey);
+        Optional<Pair<Long, Long>> targetBound = queryUniqueKeyValueBound(targetDataSource, table, uniqueKey);
+        if (!sourceBound.isPresent() && !targetBound.isPresent()) {
+            return Collections.singletonList(null);
+        }
+        long minValue = Math.min(sourceBound.map(Pair::getLeft).orElse(Long.MAX_VALUE), targetBound.map(Pair::getLeft).orElse(Long.MAX_VALUE));
+        long maxValue = Math.max(sourceBound.map(Pair::getRight).orElse(Long.MIN_VALUE), targetBound.map(Pair::getRight).orElse(Long.MIN_VALUE));
+        long rangeWidth = Math.max(1L, maxValue / rangeCount - minValue / rangeCount + 1);
+        Collection<Pair<Object, Object>> result = new LinkedList<>();
+        long beginValue = minValue;
+        while (true) {
+            long endValue = beginValue + rangeWidth - 1;
+            if (endValue < beginValue || endValue >= maxValue) {
+                result.add(Pair.of(beginValue, maxValue));
+                return result;
+            }
+            result.add(Pair.of(beginValue, endValue));
+            beginValue = endValue + 1;
+        }
+    }
+    
+    private Optional<Pair<Long, Long>> queryUniqueKeyValueBound(final PipelineDataSourceWrapper dataSource, final String table, final String uniqueKey) {
+        String sql = PipelineSQLBuilderFactory.getSQLBuilder(dataSource.getDatabaseType().getName()).buildUniqueKeyMinMaxSQL(table, uniqueKey);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            long minValue = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(Pair.of(minValue, resultSet.getLong(2)));
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("query unique key bound for table '%s' failed", table), ex);
+        }
+    }
+    
+    @Override
+    public Map<String, Integer> getRecordsContentCheckProgress() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        rangeCounts.forEach((key, value) -> result.put(key, checkedRangeCounts.get(key).get() * 100 / value));
+        return result;
+    }
+    
     private void checkDatabaseTypeSupportedOrNot(final Collection<String> supportedDatabaseTypes, final String databaseType) {
         if (!supportedDatabaseTypes.contains(databaseType)) {
             throw new PipelineDataConsistencyCheckFailedException("database type " + databaseType + " is not supported in " + supportedDatabaseTypes);
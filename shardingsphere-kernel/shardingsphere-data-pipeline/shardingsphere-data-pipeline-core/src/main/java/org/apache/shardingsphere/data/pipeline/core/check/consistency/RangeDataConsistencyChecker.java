@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.SingleTableDataCalculator;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Range data consistency checker, check records content of one logic table within unique key value range.
+ * Mismatched range is narrowed recursively by halves, like comparing hash tree.
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class RangeDataConsistencyChecker {
+    
+    private static final int MAX_NARROWING_DEPTH = 10;
+    
+    private static final int MAX_NARROWED_RANGE_COUNT = 10;
+    
+    private final SingleTableDataCalculator sourceCalculator;
+    
+    private final SingleTableDataCalculator targetCalculator;
+    
+    private final PipelineDataSourceWrapper sourceDataSource;
+    
+    private final PipelineDataSourceWrapper targetDataSource;
+    
+    private final String sourceDatabaseType;
+    
+    private final String targetDatabaseType;
+    
+    private final String logicTableName;
+    
+    private final Collection<String> columnNames;
+    
+    private final String uniqueKey;
+    
+    private final JobRateLimitAlgorithm rateLimitAlgorithm;
+    
+    /**
+     * Check records content within unique key value range.
+     *
+     * @param uniqueKeyValueRange closed unique key value range, null means whole table
+     * @return matched or not
+     */
+    public boolean check(final Pair<Object, Object> uniqueKeyValueRange) {
+        if (isMatched(uniqueKeyValueRange)) {
+            return true;
+        }
+        if (null != uniqueKeyValueRange) {
+            narrow((Long) uniqueKeyValueRange.getLeft(), (Long) uniqueKeyValueRange.getRight(), 0, new AtomicInteger());
+        }
+        return false;
+    }
+    
+    private void narrow(final long beginValue, final long endValue, final int depth, final AtomicInteger narrowedRangeCount) {
+        if (narrowedRangeCount.get() >= MAX_NARROWED_RANGE_COUNT) {
+            return;
+        }
+        if (beginValue == endValue || depth >= MAX_NARROWING_DEPTH) {
+            narrowedRangeCount.incrementAndGet();
+            log.error("table {} records content mismatched, {} in [{}, {}]", logicTableName, uniqueKey, beginValue, endValue);
+            return;
+        }
+        long middleValue = (beginValue >> 1) + (endValue >> 1) + (beginValue & endValue & 1);
+        if (!isMatched(Pair.of(beginValue, middleValue))) {
+            narrow(beginValue, middleValue, depth + 1, narrowedRangeCount);
+        }
+        if (!isMatched(Pair.of(middleValue + 1, endValue))) {
+            narrow(middleValue + 1, endValue, depth + 1, narrowedRangeCount);
+        }
+    }
+    
+    private boolean isMatched(final Pair<Object, Object> uniqueKeyValueRange) {
+        DataCalculateParameter sourceCalculateParameter = createCalculateParameter(sourceDataSource, sourceDatabaseType, targetDatabaseType, uniqueKeyValueRange);
+        DataCalculateParameter targetCalculateParameter = createCalculateParameter(targetDataSource, targetDatabaseType, sourceDatabaseType, uniqueKeyValueRange);
+        Iterator<Object> sourceCalculatedResultIterator = sourceCalculator.calculate(sourceCalculateParameter).iterator();
+        Iterator<Object> targetCalculatedResultIterator = targetCalculator.calculate(targetCalculateParameter).iterator();
+        while (sourceCalculatedResultIterator.hasNext() && targetCalculatedResultIterator.hasNext()) {
+            if (null != rateLimitAlgorithm) {
+                rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+            }
+            if (!Objects.equals(sourceCalculatedResultIterator.next(), targetCalculatedResultIterator.next())) {
+                return false;
+            }
+        }
+        return null == uniqueKeyValueRange || sourceCalculatedResultIterator.hasNext() == targetCalculatedResultIterator.hasNext();
+    }
+    
+    private DataCalculateParameter createCalculateParameter(final PipelineDataSourceWrapper dataSource, final String databaseType, final String peerDatabaseType,
+                                                            final Pair<Object, Object> uniqueKeyValueRange) {
+        return DataCalculateParameter.builder().dataSource(dataSource).databaseType(databaseType).peerDatabaseType(peerDatabaseType)
+                .logicTableName(logicTableName).columnNames(columnNames).uniqueKey(uniqueKey).uniqueKeyValueRange(uniqueKeyValueRange).build();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
@@ -27,20 +28,26 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -52,6 +59,8 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final PipelineDataSourceManager dataSourceManager;
@@ -60,6 +69,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private final PipelineChannel channel;
     
+    @Getter
+    private volatile ImporterRoundMetrics lastRoundMetrics;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
@@ -91,12 +103,14 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             if (null != records && !records.isEmpty()) {
                 round++;
                 rowCount += records.size();
+                long startMillis = System.currentTimeMillis();
                 flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
                 channel.ack(records);
+                lastRoundMetrics = new ImporterRoundMetrics(round, records.size(), System.currentTimeMillis() - startMillis, rowCount);
                 if (log.isDebugEnabled()) {
-                    log.debug("importer write, round={}, rowCount={}", round, rowCount);
+                    log.debug("importer write, {}", lastRoundMetrics);
                 } else if (0 == round % 50) {
-                    log.info("importer write, round={}, rowCount={}", round, rowCount);
+                    log.info("importer write, round={}, rowCount={}, recordsPerSecond={}", round, rowCount, lastRoundMetrics.getRecordsPerSecond());
                 }
                 if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
                     log.info("write, get FinishedRecord, break");
@@ -127,6 +141,10 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
+        JobRateLimitAlgorithm rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.valueOf(buffer.get(0).getType()), buffer.size());
+        }
         boolean success = tryFlush(dataSource, buffer);
         if (isRunning() && !success) {
             throw new PipelineJobExecutionException("write failed.");
@@ -136,7 +154,9 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
+                long startMillis = System.currentTimeMillis();
                 doFlush(dataSource, buffer);
+                reportWriteLatency(System.currentTimeMillis() - startMillis);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -146,6 +166,13 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
         return false;
     }
     
+    private void reportWriteLatency(final long elapsedMillis) {
+        JobRateLimitAlgorithm rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.WRITE_LATENCY, elapsedMillis);
+        }
+    }
+    
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
@@ -181,25 +208,76 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (executeBatchUpsert(connection, dataRecords)) {
+            return;
+        }
+        Map<String, List<DataRecord>> updateSQLGroups = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            updateSQLGroups.computeIfAbsent(pipelineSqlBuilder.buildUpdateSQL(each, conditionColumns), key -> new LinkedList<>()).add(each);
+        }
+        for (Entry<String, List<DataRecord>> entry : updateSQLGroups.entrySet()) {
+            executeBatchUpdate(connection, entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String updateSQL, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSQL)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+                List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(each.getColumns(), each);
+                for (int i = 0; i < updatedColumns.size(); i++) {
+                    ps.setObject(i + 1, updatedColumns.get(i).getValue());
+                }
+                for (int i = 0; i < conditionColumns.size(); i++) {
+                    Column keyColumn = conditionColumns.get(i);
+                    ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+                }
+                ps.addBatch();
+            }
+            ps.executeBatch();
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record.getColumns(), record);
-        String updateSql = pipelineSqlBuilder.buildUpdateSQL(record, conditionColumns);
-        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
+    private boolean executeBatchUpsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord firstRecord = dataRecords.get(0);
+        if (dataRecords.stream().anyMatch(each -> each.getColumnCount() != firstRecord.getColumnCount() || RecordUtil.extractPrimaryColumns(each).stream().anyMatch(Column::isUpdated))) {
+            return false;
+        }
+        int rowCountPerStatement = Math.max(1, Math.min(importerConfig.getBatchSize(), MAX_PARAMETER_COUNT / firstRecord.getColumnCount()));
+        Optional<String> upsertSQL = pipelineSqlBuilder.buildMultiRowUpsertSQL(firstRecord, Math.min(rowCountPerStatement, dataRecords.size()));
+        if (!upsertSQL.isPresent()) {
+            return false;
+        }
+        int fullStatementCount = dataRecords.size() / rowCountPerStatement;
+        if (fullStatementCount > 0) {
+            try (PreparedStatement ps = connection.prepareStatement(upsertSQL.get())) {
+                ps.setQueryTimeout(30);
+                for (int i = 0; i < fullStatementCount; i++) {
+                    executeUpsert(ps, dataRecords.subList(i * rowCountPerStatement, (i + 1) * rowCountPerStatement));
+                }
+            }
+        }
+        int remainingRowCount = dataRecords.size() % rowCountPerStatement;
+        if (remainingRowCount > 0) {
+            List<DataRecord> remainingRecords = dataRecords.subList(dataRecords.size() - remainingRowCount, dataRecords.size());
+            try (PreparedStatement ps = connection.prepareStatement(0 == fullStatementCount ? upsertSQL.get() : pipelineSqlBuilder.buildMultiRowUpsertSQL(firstRecord, remainingRowCount).get())) {
+                ps.setQueryTimeout(30);
+                executeUpsert(ps, remainingRecords);
             }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+        return true;
+    }
+    
+    private void executeUpsert(final PreparedStatement ps, final List<DataRecord> dataRecords) throws SQLException {
+        int parameterIndex = 1;
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                ps.setObject(parameterIndex++, each.getColumn(i).getValue());
             }
-            ps.execute();
         }
+        ps.execute();
     }
     
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import com.google.common.base.Preconditions;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
@@ -26,9 +27,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderReco
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Multiplex memory pipeline channel.
@@ -42,7 +45,9 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannel[] channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, PipelineChannel> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -57,10 +62,14 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
+        this(channelNumber, () -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final int channelNumber, final Supplier<PipelineChannel> channelSupplier) {
         this.channelNumber = channelNumber;
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            channels[i] = channelSupplier.get();
         }
     }
     
@@ -95,28 +104,15 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
+        long threadId = Thread.currentThread().getId();
+        PipelineChannel result = channelAssignment.get(threadId);
+        return null == result ? channelAssignment.computeIfAbsent(threadId, unused -> assignChannel()) : result;
     }
     
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.length; i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
-            }
-        }
+    private PipelineChannel assignChannel() {
+        int channelIndex = assignedChannelCount.getAndIncrement();
+        Preconditions.checkState(channelIndex < channelNumber, "No more channel can be assigned, channel number is %s", channelNumber);
+        return channels[channelIndex];
     }
     
     @Override
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>Records are pushed by single producer thread and fetched by single consumer thread without lock.
+ * Waiting thread is parked and unparked by the other side, and fetching returns available records once they are kept more than max latency.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+    
+    private final Record[] buffer;
+    
+    private final int mask;
+    
+    private final long maxLatencyNanos;
+    
+    private final AckCallback ackCallback;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    private volatile long consumerWakeUpSequence;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final long maxLatencyMillis, final AckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        buffer = new Record[capacity];
+        mask = capacity - 1;
+        maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void pushRecord(final Record dataRecord) {
+        long sequence = writeSequence.get();
+        while (sequence - readSequence.get() >= buffer.length) {
+            waitingProducer = Thread.currentThread();
+            if (sequence - readSequence.get() >= buffer.length) {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+            waitingProducer = null;
+            if (Thread.currentThread().isInterrupted()) {
+                throw new RuntimeException("put " + dataRecord + " into ring buffer failed", new InterruptedException());
+            }
+        }
+        buffer[(int) sequence & mask] = dataRecord;
+        writeSequence.set(sequence + 1);
+        Thread consumer = waitingConsumer;
+        if (null != consumer && sequence + 1 >= consumerWakeUpSequence) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+        long readIndex = readSequence.get();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        long flushDeadline = deadline;
+        boolean available = false;
+        while (writeSequence.get() - readIndex < batchSize && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            if (!available && writeSequence.get() > readIndex) {
+                available = true;
+                flushDeadline = Math.min(deadline, now + maxLatencyNanos);
+            }
+            if (now - flushDeadline >= 0L) {
+                break;
+            }
+            consumerWakeUpSequence = readIndex + (available ? batchSize : 1);
+            waitingConsumer = Thread.currentThread();
+            if (writeSequence.get() < consumerWakeUpSequence) {
+                LockSupport.parkNanos(this, flushDeadline - now);
+            }
+            waitingConsumer = null;
+        }
+        int count = (int) Math.min(batchSize, writeSequence.get() - readIndex);
+        List<Record> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (readIndex + i) & mask;
+            result.add(buffer[index]);
+            buffer[index] = null;
+        }
+        readSequence.set(readIndex + count);
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        readSequence.set(writeSequence.get());
+        Arrays.fill(buffer, null);
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+    }
+}
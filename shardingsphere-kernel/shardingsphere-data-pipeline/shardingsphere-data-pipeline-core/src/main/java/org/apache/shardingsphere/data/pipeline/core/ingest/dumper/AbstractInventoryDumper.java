@@ -138,7 +138,11 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
             preparedStatement.setObject(1, startUniqueKeyValue);
             preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
             preparedStatement.setInt(3, batchSize);
+            long startMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.intercept(JobOperationType.READ_LATENCY, System.currentTimeMillis() - startMillis);
+                }
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int rowCount = 0;
                 Number maxUniqueKeyValue = null;
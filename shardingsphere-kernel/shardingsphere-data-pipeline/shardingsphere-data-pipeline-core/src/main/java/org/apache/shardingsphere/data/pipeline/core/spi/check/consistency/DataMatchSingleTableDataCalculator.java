@@ -25,6 +25,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
@@ -39,8 +40,10 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -85,20 +88,31 @@ public final class DataMatchSingleTableDataCalculator extends AbstractStreamingS
         PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getSQLBuilder(dataCalculateParameter.getDatabaseType());
         String uniqueKey = dataCalculateParameter.getUniqueKey();
         CalculatedResult previousCalculatedResult = (CalculatedResult) dataCalculateParameter.getPreviousCalculatedResult();
-        Number startUniqueKeyValue = null != previousCalculatedResult ? previousCalculatedResult.getMaxUniqueKeyValue() : -1;
-        String sql = sqlBuilder.buildChunkedQuerySQL(logicTableName, uniqueKey, startUniqueKeyValue);
+        Pair<Object, Object> uniqueKeyValueRange = dataCalculateParameter.getUniqueKeyValueRange();
         try {
-            return query(dataCalculateParameter.getDataSource(), sql, uniqueKey, startUniqueKeyValue, chunkSize);
+            if (null == uniqueKeyValueRange) {
+                Number startUniqueKeyValue = null != previousCalculatedResult ? previousCalculatedResult.getMaxUniqueKeyValue() : -1;
+                String sql = sqlBuilder.buildChunkedQuerySQL(logicTableName, uniqueKey, startUniqueKeyValue);
+                return query(dataCalculateParameter.getDataSource(), sql, uniqueKey, Arrays.asList(startUniqueKeyValue, chunkSize));
+            }
+            long endUniqueKeyValue = ((Number) uniqueKeyValueRange.getRight()).longValue();
+            if (null != previousCalculatedResult && previousCalculatedResult.getMaxUniqueKeyValue().longValue() >= endUniqueKeyValue) {
+                return Optional.empty();
+            }
+            long beginUniqueKeyValue = null != previousCalculatedResult ? previousCalculatedResult.getMaxUniqueKeyValue().longValue() + 1 : ((Number) uniqueKeyValueRange.getLeft()).longValue();
+            String sql = sqlBuilder.buildRangeChunkedQuerySQL(logicTableName, uniqueKey);
+            return query(dataCalculateParameter.getDataSource(), sql, uniqueKey, Arrays.asList(beginUniqueKeyValue, endUniqueKeyValue, chunkSize));
         } catch (final SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", logicTableName), ex);
         }
     }
     
-    private Optional<Object> query(final DataSource dataSource, final String sql, final String uniqueKey, final Number startUniqueKeyValue, final int chunkSize) throws SQLException {
+    private Optional<Object> query(final DataSource dataSource, final String sql, final String uniqueKey, final List<Object> parameters) throws SQLException {
         try (Connection connection = dataSource.getConnection();
              PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            preparedStatement.setObject(1, startUniqueKeyValue);
-            preparedStatement.setInt(2, chunkSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                preparedStatement.setObject(i + 1, parameters.get(i));
+            }
             Collection<Collection<Object>> records = new ArrayList<>(chunkSize);
             Number maxUniqueKeyValue = null;
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.spi.ingest.channel;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.RingBufferPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
+
+import java.util.Properties;
+
+/**
+ * Ring buffer implementation of pipeline channel factory.
+ */
+public final class RingBufferPipelineChannelFactory implements PipelineChannelFactory {
+    
+    public static final String TYPE = "RING_BUFFER";
+    
+    private static final String BUFFER_SIZE_KEY = "buffer-size";
+    
+    private static final String MAX_LATENCY_MILLISECONDS_KEY = "max-latency-milliseconds";
+    
+    private int bufferSize = 16384;
+    
+    private long maxLatencyMilliseconds = 10L;
+    
+    private Properties props = new Properties();
+    
+    @Override
+    public Properties getProps() {
+        return props;
+    }
+    
+    @Override
+    public void setProps(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public void init() {
+        String bufferSizeValue = props.getProperty(BUFFER_SIZE_KEY);
+        if (!Strings.isNullOrEmpty(bufferSizeValue)) {
+            bufferSize = Integer.parseInt(bufferSizeValue);
+        }
+        String maxLatencyMillisecondsValue = props.getProperty(MAX_LATENCY_MILLISECONDS_KEY);
+        if (!Strings.isNullOrEmpty(maxLatencyMillisecondsValue)) {
+            maxLatencyMilliseconds = Long.parseLong(maxLatencyMillisecondsValue);
+        }
+    }
+    
+    @Override
+    public PipelineChannel createPipelineChannel(final int outputConcurrency, final AckCallback ackCallback) {
+        if (1 == outputConcurrency) {
+            return new RingBufferPipelineChannel(bufferSize, maxLatencyMilliseconds, ackCallback);
+        }
+        return new MultiplexMemoryPipelineChannel(outputConcurrency, () -> new RingBufferPipelineChannel(bufferSize, maxLatencyMilliseconds, ackCallback));
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
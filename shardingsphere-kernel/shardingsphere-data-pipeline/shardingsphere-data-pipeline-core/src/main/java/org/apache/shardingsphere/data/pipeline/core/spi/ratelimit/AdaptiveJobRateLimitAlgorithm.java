@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.spi.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>Permits are source queries on input side and written records on output side.
+ * Rate is cut by backoff factor when observed read or write latency exceeds the threshold, and recovers additively otherwise.</p>
+ */
+@Slf4j
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    public static final String MAX_RATE_KEY = "max-rate";
+    
+    public static final String MIN_RATE_KEY = "min-rate";
+    
+    public static final String LATENCY_THRESHOLD_KEY = "latency-threshold-milliseconds";
+    
+    public static final String BACKOFF_FACTOR_KEY = "backoff-factor";
+    
+    private static final double DEFAULT_MAX_RATE = 10000D;
+    
+    private static final double DEFAULT_MIN_RATE = 10D;
+    
+    private static final long DEFAULT_LATENCY_THRESHOLD_MILLIS = 500L;
+    
+    private static final double DEFAULT_BACKOFF_FACTOR = 0.5D;
+    
+    private static final double RECOVER_RATIO = 0.05D;
+    
+    private final RateLimiter rateLimiter = RateLimiter.create(DEFAULT_MAX_RATE);
+    
+    private Properties props = new Properties();
+    
+    private volatile double maxRate = DEFAULT_MAX_RATE;
+    
+    private volatile double minRate = DEFAULT_MIN_RATE;
+    
+    private volatile long latencyThresholdMillis = DEFAULT_LATENCY_THRESHOLD_MILLIS;
+    
+    private volatile double backoffFactor = DEFAULT_BACKOFF_FACTOR;
+    
+    @Getter
+    private volatile double currentRate = DEFAULT_MAX_RATE;
+    
+    @Override
+    public Properties getProps() {
+        return props;
+    }
+    
+    @Override
+    public void setProps(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public synchronized void init() {
+        maxRate = Double.parseDouble(props.getProperty(MAX_RATE_KEY, String.valueOf(DEFAULT_MAX_RATE)));
+        minRate = Double.parseDouble(props.getProperty(MIN_RATE_KEY, String.valueOf(Math.min(DEFAULT_MIN_RATE, maxRate))));
+        latencyThresholdMillis = Long.parseLong(props.getProperty(LATENCY_THRESHOLD_KEY, String.valueOf(DEFAULT_LATENCY_THRESHOLD_MILLIS)));
+        backoffFactor = Double.parseDouble(props.getProperty(BACKOFF_FACTOR_KEY, String.valueOf(DEFAULT_BACKOFF_FACTOR)));
+        Preconditions.checkArgument(minRate > 0, "%s value must be positive.", MIN_RATE_KEY);
+        Preconditions.checkArgument(maxRate >= minRate, "%s value must not be less than %s.", MAX_RATE_KEY, MIN_RATE_KEY);
+        Preconditions.checkArgument(latencyThresholdMillis > 0, "%s value must be positive.", LATENCY_THRESHOLD_KEY);
+        Preconditions.checkArgument(backoffFactor > 0 && backoffFactor < 1, "%s value must be between 0 and 1.", BACKOFF_FACTOR_KEY);
+        updateRate(Math.max(minRate, Math.min(maxRate, currentRate)));
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        switch (type) {
+            case INSERT:
+            case UPDATE:
+            case DELETE:
+            case SELECT:
+                rateLimiter.acquire(null != data && data.intValue() > 0 ? data.intValue() : 1);
+                break;
+            case READ_LATENCY:
+            case WRITE_LATENCY:
+                if (null != data) {
+                    adjustRate(type, data.longValue());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private synchronized void adjustRate(final JobOperationType type, final long latencyMillis) {
+        if (latencyMillis > latencyThresholdMillis) {
+            double newRate = Math.max(minRate, currentRate * backoffFactor);
+            if (newRate < currentRate) {
+                log.info("back off rate, type={}, latencyMillis={}, rate={}->{}", type, latencyMillis, currentRate, newRate);
+                updateRate(newRate);
+            }
+            return;
+        }
+        if (currentRate < maxRate) {
+            updateRate(Math.min(maxRate, currentRate + maxRate * RECOVER_RATIO));
+        }
+    }
+    
+    private void updateRate(final double rate) {
+        currentRate = rate;
+        rateLimiter.setRate(rate);
+    }
+    
+    @Override
+    public String toString() {
+        return "AdaptiveJobRateLimitAlgorithm{" + "props=" + props + ", currentRate=" + currentRate + '}';
+    }
+}
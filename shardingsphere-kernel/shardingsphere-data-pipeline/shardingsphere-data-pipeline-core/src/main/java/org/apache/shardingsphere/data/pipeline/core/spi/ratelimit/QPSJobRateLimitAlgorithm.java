@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.spi.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Properties;
+
+/**
+ * QPS job rate limit algorithm, limit source queries per second.
+ */
+public final class QPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    public static final String QPS_KEY = "qps";
+    
+    private static final int DEFAULT_QPS = 50;
+    
+    private final RateLimiter rateLimiter = RateLimiter.create(DEFAULT_QPS);
+    
+    private Properties props = new Properties();
+    
+    @Getter
+    private volatile int qps = DEFAULT_QPS;
+    
+    @Override
+    public Properties getProps() {
+        return props;
+    }
+    
+    @Override
+    public void setProps(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public void init() {
+        String qpsValue = props.getProperty(QPS_KEY);
+        qps = null == qpsValue ? DEFAULT_QPS : Integer.parseInt(qpsValue);
+        Preconditions.checkArgument(qps > 0, "%s value must be positive.", QPS_KEY);
+        rateLimiter.setRate(qps);
+    }
+    
+    @Override
+    public String getType() {
+        return "QPS";
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        if (JobOperationType.SELECT == type) {
+            rateLimiter.acquire(null != data && data.intValue() > 0 ? data.intValue() : 1);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "QPSJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -117,6 +118,28 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format(sqlCacheMap.get(sqlCacheKey), updatedColumnString);
     }
     
+    @Override
+    public Optional<String> buildMultiRowUpsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param dataRecord data record, used as template of every row
+     * @param rowCount row count
+     * @return multi-row insert SQL
+     */
+    protected final String buildMultiRowInsertSQL(final DataRecord dataRecord, final int rowCount) {
+        StringBuilder result = new StringBuilder(buildInsertSQLInternal(dataRecord.getTableName(), dataRecord.getColumns()));
+        int rowLength = dataRecord.getColumnCount() * 2 + 1;
+        String row = result.substring(result.length() - rowLength);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(row);
+        }
+        return result.toString();
+    }
+    
     private String buildUpdateSQLInternal(final String tableName, final Collection<Column> conditionColumns) {
         return String.format("UPDATE %s SET %%s WHERE %s", quote(tableName), buildWhereSQL(conditionColumns));
     }
@@ -165,6 +188,17 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return "SELECT * FROM " + quote(tableName) + " WHERE " + quote(uniqueKey) + " > ? ORDER BY " + quote(uniqueKey) + " ASC LIMIT ?";
     }
     
+    @Override
+    public String buildRangeChunkedQuerySQL(final String tableName, final String uniqueKey) {
+        Preconditions.checkNotNull(uniqueKey, "uniqueKey is null");
+        return "SELECT * FROM " + quote(tableName) + " WHERE " + quote(uniqueKey) + " >= ? AND " + quote(uniqueKey) + " <= ? ORDER BY " + quote(uniqueKey) + " ASC LIMIT ?";
+    }
+    
+    @Override
+    public String buildUniqueKeyMinMaxSQL(final String tableName, final String uniqueKey) {
+        return String.format("SELECT MIN(%s), MAX(%s) FROM %s", quote(uniqueKey), quote(uniqueKey), quote(tableName));
+    }
+    
     @Override
     public String buildCheckEmptySQL(final String tableName) {
         return String.format("SELECT * FROM %s LIMIT 1", quote(tableName));
@@ -105,6 +105,32 @@ public final class RuleAlteredContext {
         importerExecuteEngine = ExecuteEngine.newFixedThreadInstance(outputConfig.getWorkerThread());
     }
     
+    /**
+     * Refresh properties of rate limit algorithms, take effect on running tasks.
+     *
+     * @param actionConfig action configuration
+     */
+    public void refreshRateLimitAlgorithms(final OnRuleAlteredActionConfiguration actionConfig) {
+        OnRuleAlteredActionConfiguration newActionConfig = convertActionConfig(actionConfig);
+        refreshRateLimitAlgorithm(inputRateLimitAlgorithm, newActionConfig.getInput().getRateLimiter());
+        refreshRateLimitAlgorithm(outputRateLimitAlgorithm, newActionConfig.getOutput().getRateLimiter());
+    }
+    
+    private void refreshRateLimitAlgorithm(final JobRateLimitAlgorithm rateLimitAlgorithm, final ShardingSphereAlgorithmConfiguration rateLimiter) {
+        if (null == rateLimitAlgorithm || null == rateLimiter) {
+            return;
+        }
+        if (!rateLimitAlgorithm.getType().equalsIgnoreCase(rateLimiter.getType())) {
+            log.warn("rate limiter type could not be changed on running job, ignored, current={}, new={}", rateLimitAlgorithm.getType(), rateLimiter.getType());
+            return;
+        }
+        Properties props = new Properties();
+        rateLimiter.getProps().forEach((key, value) -> props.setProperty(key.toString(), String.valueOf(value)));
+        rateLimitAlgorithm.setProps(props);
+        rateLimitAlgorithm.init();
+        log.info("rate limit algorithm refreshed, {}", rateLimitAlgorithm);
+    }
+    
     private OnRuleAlteredActionConfiguration convertActionConfig(final OnRuleAlteredActionConfiguration actionConfig) {
         YamlOnRuleAlteredActionConfiguration yamlActionConfig = ACTION_CONFIG_YAML_SWAPPER.swapToYamlConfiguration(actionConfig);
         if (null == yamlActionConfig.getInput()) {
@@ -128,6 +128,10 @@ public final class RuleAlteredJobPreparer {
         TaskConfiguration taskConfig = jobContext.getTaskConfig();
         PipelineDataSourceManager dataSourceManager = jobContext.getDataSourceManager();
         taskConfig.getDumperConfig().setPosition(getIncrementalPosition(jobContext, taskConfig, dataSourceManager));
+        Integer decodeConcurrency = jobContext.getRuleAlteredContext().getOnRuleAlteredActionConfig().getInput().getDecodeConcurrency();
+        if (null != decodeConcurrency) {
+            taskConfig.getDumperConfig().setDecodeConcurrency(decodeConcurrency);
+        }
         PipelineTableMetaDataLoader sourceMetaDataLoader = jobContext.getSourceMetaDataLoader();
         IncrementalTask incrementalTask = new IncrementalTask(taskConfig.getHandleConfig().getConcurrency(), taskConfig.getDumperConfig(), taskConfig.getImporterConfig(),
             pipelineChannelFactory, dataSourceManager, sourceMetaDataLoader, incrementalDumperExecuteEngine);
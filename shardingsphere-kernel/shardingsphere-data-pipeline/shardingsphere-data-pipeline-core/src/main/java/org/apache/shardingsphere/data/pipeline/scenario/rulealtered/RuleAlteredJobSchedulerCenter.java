@@ -101,6 +101,15 @@ public final class RuleAlteredJobSchedulerCenter {
         return Optional.of(schedulerMap.values().stream().map(RuleAlteredJobScheduler::getJobContext).collect(Collectors.toList()));
     }
     
+    /**
+     * Get all job contexts.
+     *
+     * @return job contexts
+     */
+    public static Collection<RuleAlteredJobContext> getAllJobContexts() {
+        return JOB_SCHEDULER_MAP.values().stream().flatMap(each -> each.values().stream()).map(RuleAlteredJobScheduler::getJobContext).collect(Collectors.toList());
+    }
+    
     /**
      * Persist job progress.
      *
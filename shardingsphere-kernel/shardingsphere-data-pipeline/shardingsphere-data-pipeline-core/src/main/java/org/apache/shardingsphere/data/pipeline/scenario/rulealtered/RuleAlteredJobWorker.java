@@ -50,6 +50,7 @@ import org.apache.shardingsphere.infra.yaml.config.pojo.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.YamlRuleConfigurationSwapperEngine;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.cache.event.StartScalingEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.RuleConfigurationsChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.ScalingReleaseSchemaNameLockEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.rule.ScalingTaskFinishedEvent;
 import org.apache.shardingsphere.spi.required.RequiredSPIRegistry;
@@ -319,6 +320,31 @@ public final class RuleAlteredJobWorker {
         return currentSchema.equals(workflowConfig.getSchemaName());
     }
     
+    /**
+     * Refresh rate limit algorithms of running jobs.
+     *
+     * @param event rule configurations changed event
+     */
+    @Subscribe
+    public void refreshRateLimitAlgorithms(final RuleConfigurationsChangedEvent event) {
+        for (RuleConfiguration each : event.getRuleConfigurations()) {
+            RuleAlteredDetector detector = RULE_CLASS_NAME_DETECTOR_MAP.get(each.getClass().getName());
+            Optional<OnRuleAlteredActionConfiguration> onRuleAlteredActionConfig = null != detector ? detector.getOnRuleAlteredActionConfig(each) : Optional.empty();
+            if (onRuleAlteredActionConfig.isPresent()) {
+                refreshJobRateLimitAlgorithms(event.getSchemaName(), detector.getYamlRuleConfigClassName(), onRuleAlteredActionConfig.get());
+            }
+        }
+    }
+    
+    private void refreshJobRateLimitAlgorithms(final String schemaName, final String yamlRuleConfigClassName, final OnRuleAlteredActionConfiguration onRuleAlteredActionConfig) {
+        for (RuleAlteredJobContext each : RuleAlteredJobSchedulerCenter.getAllJobContexts()) {
+            WorkflowConfiguration workflowConfig = each.getJobConfig().getWorkflowConfig();
+            if (schemaName.equals(workflowConfig.getSchemaName()) && workflowConfig.getAlteredRuleYamlClassNames().contains(yamlRuleConfigClassName)) {
+                each.getRuleAlteredContext().refreshRateLimitAlgorithms(onRuleAlteredActionConfig);
+            }
+        }
+    }
+    
     /**
      * scaling release schema name lock.
      *
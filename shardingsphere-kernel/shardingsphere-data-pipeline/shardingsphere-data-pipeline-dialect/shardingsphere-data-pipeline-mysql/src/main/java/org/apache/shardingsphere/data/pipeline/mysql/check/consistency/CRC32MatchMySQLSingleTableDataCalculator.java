@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.mysql.check.consistency;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
 import org.apache.shardingsphere.data.pipeline.core.spi.check.consistency.AbstractSingleTableDataCalculator;
@@ -57,10 +58,14 @@ public final class CRC32MatchMySQLSingleTableDataCalculator extends AbstractSing
     @Override
     public Iterable<Object> calculate(final DataCalculateParameter dataCalculateParameter) {
         String logicTableName = dataCalculateParameter.getLogicTableName();
+        Pair<Object, Object> uniqueKeyValueRange = dataCalculateParameter.getUniqueKeyValueRange();
         List<Long> result = dataCalculateParameter.getColumnNames().stream().map(each -> {
-            String sql = SQL_BUILDER.buildSumCrc32SQL(logicTableName, each);
             try {
-                return sumCrc32(dataCalculateParameter.getDataSource(), sql);
+                if (null == uniqueKeyValueRange) {
+                    return sumCrc32(dataCalculateParameter.getDataSource(), SQL_BUILDER.buildSumCrc32SQL(logicTableName, each));
+                }
+                String sql = SQL_BUILDER.buildRangeSumCrc32SQL(logicTableName, each, dataCalculateParameter.getUniqueKey());
+                return sumCrc32(dataCalculateParameter.getDataSource(), sql, uniqueKeyValueRange.getLeft(), uniqueKeyValueRange.getRight());
             } catch (final SQLException ex) {
                 throw new PipelineDataConsistencyCheckFailedException(String.format("table %s data check failed.", logicTableName), ex);
             }
@@ -68,12 +73,16 @@ public final class CRC32MatchMySQLSingleTableDataCalculator extends AbstractSing
         return Collections.unmodifiableList(result);
     }
     
-    private long sumCrc32(final DataSource dataSource, final String sql) throws SQLException {
+    private long sumCrc32(final DataSource dataSource, final String sql, final Object... parameters) throws SQLException {
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(sql);
-             ResultSet resultSet = preparedStatement.executeQuery()) {
-            resultSet.next();
-            return resultSet.getLong(1);
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
         }
     }
 }
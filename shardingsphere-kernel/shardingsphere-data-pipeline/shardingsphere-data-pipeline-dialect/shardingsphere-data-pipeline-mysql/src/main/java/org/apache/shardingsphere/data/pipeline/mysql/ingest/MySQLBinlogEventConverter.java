@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest;
+
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.ValueHandler;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.spi.singleton.SingletonSPIRegistry;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * MySQL binlog event converter.
+ * 
+ * <p>Rows of rows events are decoded and converted to data records by decode threads in batches if concurrency is greater than 1,
+ * converted records are still pushed to channel in binlog order, so records of the same primary key keep their order.
+ * Buffered events are submitted once batch is full or the oldest of them has waited too long, so low rate events are not held back.</p>
+ */
+public final class MySQLBinlogEventConverter implements AutoCloseable {
+    
+    private static final Map<String, ValueHandler> VALUE_HANDLER_MAP;
+    
+    private static final int EVENT_COUNT_PER_DECODE_TASK = 32;
+    
+    private static final int MAX_PENDING_TASK_COUNT_PER_THREAD = 16;
+    
+    private static final long MAX_BUFFERED_MILLIS = 10L;
+    
+    private final DumperConfiguration dumperConfig;
+    
+    private final String catalog;
+    
+    private final PipelineTableMetaDataLoader metaDataLoader;
+    
+    private final PipelineChannel channel;
+    
+    private final int maxPendingTaskCount;
+    
+    private final ExecutorService decodeExecutor;
+    
+    private final Queue<Future<List<Record>>> pendingRecords = new LinkedList<>();
+    
+    private List<AbstractBinlogEvent> bufferedEvents = new ArrayList<>(EVENT_COUNT_PER_DECODE_TASK);
+    
+    private long firstBufferedMillis;
+    
+    static {
+        VALUE_HANDLER_MAP = SingletonSPIRegistry.getSingletonInstancesMap(ValueHandler.class, ValueHandler::getTypeName);
+    }
+    
+    public MySQLBinlogEventConverter(final DumperConfiguration dumperConfig, final String catalog, final PipelineTableMetaDataLoader metaDataLoader, final PipelineChannel channel) {
+        this.dumperConfig = dumperConfig;
+        this.catalog = catalog;
+        this.metaDataLoader = metaDataLoader;
+        this.channel = channel;
+        int concurrency = dumperConfig.getDecodeConcurrency();
+        maxPendingTaskCount = concurrency * MAX_PENDING_TASK_COUNT_PER_THREAD;
+        decodeExecutor = concurrency > 1 ? Executors.newFixedThreadPool(concurrency, ExecutorThreadFactoryBuilder.build("binlog-decode-%d")) : null;
+    }
+    
+    /**
+     * Convert binlog event to records and push them to channel.
+     * 
+     * <p>Records might be pushed later if event is converted by decode threads, call {@linkplain #flush()} to push all of them.</p>
+     *
+     * @param event binlog event
+     */
+    public void convert(final AbstractBinlogEvent event) {
+        if (null == decodeExecutor) {
+            pushRecords(convertEvent(event));
+            return;
+        }
+        long currentMillis = System.currentTimeMillis();
+        if (bufferedEvents.isEmpty()) {
+            firstBufferedMillis = currentMillis;
+        }
+        bufferedEvents.add(event);
+        if (bufferedEvents.size() >= EVENT_COUNT_PER_DECODE_TASK || currentMillis - firstBufferedMillis >= MAX_BUFFERED_MILLIS) {
+            submitBufferedEvents();
+        }
+        pushConvertedRecords(maxPendingTaskCount);
+    }
+    
+    /**
+     * Wait for all converting events and push their records to channel.
+     */
+    public void flush() {
+        if (!bufferedEvents.isEmpty()) {
+            submitBufferedEvents();
+        }
+        pushConvertedRecords(0);
+    }
+    
+    private void submitBufferedEvents() {
+        List<AbstractBinlogEvent> events = bufferedEvents;
+        bufferedEvents = new ArrayList<>(EVENT_COUNT_PER_DECODE_TASK);
+        pendingRecords.add(decodeExecutor.submit(() -> convertEvents(events)));
+    }
+    
+    private void pushConvertedRecords(final int maxPendingCount) {
+        while (!pendingRecords.isEmpty() && (pendingRecords.size() > maxPendingCount || pendingRecords.peek().isDone())) {
+            pushRecords(getConvertedRecords(pendingRecords.poll()));
+        }
+    }
+    
+    private List<Record> getConvertedRecords(final Future<List<Record>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineJobExecutionException("Convert binlog event interrupted", ex);
+        } catch (final ExecutionException ex) {
+            throw new PipelineJobExecutionException("Convert binlog event failed", ex.getCause());
+        }
+    }
+    
+    private void pushRecords(final List<Record> records) {
+        for (Record each : records) {
+            channel.pushRecord(each);
+        }
+    }
+    
+    private List<Record> convertEvents(final List<AbstractBinlogEvent> events) {
+        List<Record> result = new ArrayList<>(events.size());
+        for (AbstractBinlogEvent each : events) {
+            result.addAll(convertEvent(each));
+        }
+        return result;
+    }
+    
+    private List<Record> convertEvent(final AbstractBinlogEvent event) {
+        if (event instanceof PlaceholderEvent || filter((AbstractRowsEvent) event)) {
+            return Collections.singletonList(createPlaceholderRecord(event));
+        }
+        ((AbstractRowsEvent) event).decodeRows();
+        if (event instanceof WriteRowsEvent) {
+            return handleWriteRowsEvent((WriteRowsEvent) event);
+        }
+        if (event instanceof UpdateRowsEvent) {
+            return handleUpdateRowsEvent((UpdateRowsEvent) event);
+        }
+        if (event instanceof DeleteRowsEvent) {
+            return handleDeleteRowsEvent((DeleteRowsEvent) event);
+        }
+        return Collections.emptyList();
+    }
+    
+    private boolean filter(final AbstractRowsEvent event) {
+        return !event.getSchemaName().equals(catalog) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
+    }
+    
+    private List<Record> handleWriteRowsEvent(final WriteRowsEvent event) {
+        PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getAfterRows().size());
+        for (Serializable[] each : event.getAfterRows()) {
+            DataRecord record = createDataRecord(event, each.length);
+            record.setType(IngestDataChangeType.INSERT);
+            for (int i = 0; i < each.length; i++) {
+                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isPrimaryKey()));
+            }
+            result.add(record);
+        }
+        return result;
+    }
+    
+    private List<Record> handleUpdateRowsEvent(final UpdateRowsEvent event) {
+        PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
+        for (int i = 0; i < event.getBeforeRows().size(); i++) {
+            Serializable[] beforeValues = event.getBeforeRows().get(i);
+            Serializable[] afterValues = event.getAfterRows().get(i);
+            DataRecord record = createDataRecord(event, beforeValues.length);
+            record.setType(IngestDataChangeType.UPDATE);
+            for (int j = 0; j < beforeValues.length; j++) {
+                Serializable oldValue = beforeValues[j];
+                Serializable newValue = afterValues[j];
+                boolean updated = !Objects.equals(newValue, oldValue);
+                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j);
+                record.addColumn(new Column(columnMetaData.getName(),
+                        (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
+                        handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
+            }
+            result.add(record);
+        }
+        return result;
+    }
+    
+    private List<Record> handleDeleteRowsEvent(final DeleteRowsEvent event) {
+        PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(event.getTableName());
+        List<Record> result = new ArrayList<>(event.getBeforeRows().size());
+        for (Serializable[] each : event.getBeforeRows()) {
+            DataRecord record = createDataRecord(event, each.length);
+            record.setType(IngestDataChangeType.DELETE);
+            for (int i = 0, length = each.length; i < length; i++) {
+                PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i);
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isPrimaryKey()));
+            }
+            result.add(record);
+        }
+        return result;
+    }
+    
+    private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
+        ValueHandler valueHandler = VALUE_HANDLER_MAP.get(columnMetaData.getDataTypeName());
+        if (null != valueHandler) {
+            return valueHandler.handle(value);
+        }
+        return value;
+    }
+    
+    private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
+        DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
+        result.setTableName(dumperConfig.getTableNameMap().get(rowsEvent.getTableName()));
+        result.setCommitTime(rowsEvent.getTimestamp() * 1000);
+        return result;
+    }
+    
+    private PlaceholderRecord createPlaceholderRecord(final AbstractBinlogEvent event) {
+        PlaceholderRecord result = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        result.setCommitTime(event.getTimestamp() * 1000);
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        if (null != decodeExecutor) {
+            decodeExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog;
+
+import io.netty.buffer.Unpooled;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogTableMapEventPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+import java.nio.charset.Charset;
+
+/**
+ * Binlog rows image, which keeps undecoded rows of ROWS_EVENT with the TABLE_MAP_EVENT captured when ROWS_EVENT is received.
+ */
+@RequiredArgsConstructor
+public final class BinlogRowsImage {
+    
+    private final MySQLBinlogRowsEventPacket rowsEventPacket;
+    
+    private final MySQLBinlogTableMapEventPacket tableMapEventPacket;
+    
+    private final byte[] rows;
+    
+    private final Charset charset;
+    
+    /**
+     * Decode rows.
+     *
+     * @return ROWS_EVENT packet with decoded rows
+     */
+    public MySQLBinlogRowsEventPacket decode() {
+        rowsEventPacket.readRows(tableMapEventPacket, new MySQLPacketPayload(Unpooled.wrappedBuffer(rows), charset));
+        return rowsEventPacket;
+    }
+}
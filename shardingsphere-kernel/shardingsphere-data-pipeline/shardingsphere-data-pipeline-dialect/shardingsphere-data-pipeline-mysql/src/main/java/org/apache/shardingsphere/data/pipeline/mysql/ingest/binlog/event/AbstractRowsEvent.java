@@ -19,6 +19,11 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogRowsImage;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlogRowsEventPacket;
+
+import java.io.Serializable;
+import java.util.List;
 
 /**
  * Abstract rows event.
@@ -30,4 +35,20 @@ public abstract class AbstractRowsEvent extends AbstractBinlogEvent {
     private String schemaName;
     
     private String tableName;
+    
+    private BinlogRowsImage rowsImage;
+    
+    /**
+     * Decode rows from rows image, do nothing if rows are decoded already.
+     */
+    public final void decodeRows() {
+        if (null == rowsImage) {
+            return;
+        }
+        MySQLBinlogRowsEventPacket rowsEventPacket = rowsImage.decode();
+        rowsImage = null;
+        setDecodedRows(rowsEventPacket.getRows(), rowsEventPacket.getRows2());
+    }
+    
+    protected abstract void setDecodedRows(List<Serializable[]> rows, List<Serializable[]> rows2);
 }
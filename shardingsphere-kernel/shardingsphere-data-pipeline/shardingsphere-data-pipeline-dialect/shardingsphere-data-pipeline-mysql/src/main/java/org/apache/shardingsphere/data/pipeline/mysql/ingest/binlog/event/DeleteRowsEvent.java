@@ -31,4 +31,9 @@ import java.util.List;
 public final class DeleteRowsEvent extends AbstractRowsEvent {
     
     private List<Serializable[]> beforeRows;
+    
+    @Override
+    protected void setDecodedRows(final List<Serializable[]> rows, final List<Serializable[]> rows2) {
+        beforeRows = rows;
+    }
 }
@@ -33,4 +33,10 @@ public final class UpdateRowsEvent extends AbstractRowsEvent {
     private List<Serializable[]> beforeRows;
     
     private List<Serializable[]> afterRows;
+    
+    @Override
+    protected void setDecodedRows(final List<Serializable[]> rows, final List<Serializable[]> rows2) {
+        beforeRows = rows;
+        afterRows = rows2;
+    }
 }
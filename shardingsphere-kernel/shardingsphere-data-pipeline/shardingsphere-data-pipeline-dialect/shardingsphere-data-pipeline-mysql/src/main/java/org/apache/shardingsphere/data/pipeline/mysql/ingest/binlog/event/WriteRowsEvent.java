@@ -31,4 +31,9 @@ import java.util.List;
 public final class WriteRowsEvent extends AbstractRowsEvent {
     
     private List<Serializable[]> afterRows;
+    
+    @Override
+    protected void setDecodedRows(final List<Serializable[]> rows, final List<Serializable[]> rows2) {
+        afterRows = rows;
+    }
 }
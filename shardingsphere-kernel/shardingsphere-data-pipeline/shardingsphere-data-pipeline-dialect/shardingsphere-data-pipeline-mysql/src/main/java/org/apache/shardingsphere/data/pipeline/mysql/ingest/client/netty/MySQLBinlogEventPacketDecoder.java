@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogRowsImage;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
@@ -41,6 +42,8 @@ import java.util.List;
 
 /**
  * MySQL binlog event packet decoder.
+ * 
+ * <p>Rows of ROWS_EVENT are not decoded here, they are kept in rows image with the TABLE_MAP_EVENT of current binlog position, and decoded out of network thread.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
@@ -129,34 +132,27 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     }
     
     private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         DeleteRowsEvent result = new DeleteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
+        initRowsEvent(result, binlogEventHeader, payload);
         return result;
     }
     
     private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         UpdateRowsEvent result = new UpdateRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
+        initRowsEvent(result, binlogEventHeader, payload);
         return result;
     }
     
     private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
         WriteRowsEvent result = new WriteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
+        initRowsEvent(result, binlogEventHeader, payload);
         return result;
     }
     
-    private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
+    private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
+        long tableId = rowsEventPacket.getTableId();
+        rowsEvent.setRowsImage(new BinlogRowsImage(rowsEventPacket, binlogContext.getTableMapEvent(tableId), payload.readStringEOFByBytes(), payload.getCharset()));
         rowsEvent.setSchemaName(binlogContext.getSchemaName(tableId));
         rowsEvent.setTableName(binlogContext.getTableName(tableId));
         rowsEvent.setFileName(binlogContext.getFileName());
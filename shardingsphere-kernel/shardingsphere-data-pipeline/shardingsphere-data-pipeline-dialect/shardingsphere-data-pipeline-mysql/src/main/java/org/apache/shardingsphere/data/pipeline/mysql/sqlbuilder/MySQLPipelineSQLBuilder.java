@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -51,6 +52,11 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return super.buildInsertSQL(dataRecord) + buildDuplicateUpdateSQL(dataRecord);
     }
     
+    @Override
+    public Optional<String> buildMultiRowUpsertSQL(final DataRecord dataRecord, final int rowCount) {
+        return Optional.of(buildMultiRowInsertSQL(dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord));
+    }
+    
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
         StringBuilder result = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
         for (int i = 0; i < dataRecord.getColumnCount(); i++) {
@@ -81,6 +87,19 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return String.format("SELECT SUM(CRC32(%s)) AS checksum FROM %s", quote(column), quote(tableName));
     }
     
+    /**
+     * Build select sum crc32 SQL within unique key range.
+     * Parameters are begin unique value (inclusive) and end unique value (inclusive).
+     *
+     * @param tableName table Name
+     * @param column column
+     * @param uniqueKey unique key
+     * @return select sum crc32 SQL
+     */
+    public String buildRangeSumCrc32SQL(final String tableName, final String column, final String uniqueKey) {
+        return String.format("SELECT SUM(CRC32(%s)) AS checksum FROM %s WHERE %s >= ? AND %s <= ?", quote(column), quote(tableName), quote(uniqueKey), quote(uniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
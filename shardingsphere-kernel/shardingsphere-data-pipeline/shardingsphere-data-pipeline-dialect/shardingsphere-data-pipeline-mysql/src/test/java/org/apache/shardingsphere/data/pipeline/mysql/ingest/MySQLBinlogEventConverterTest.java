@@ -28,7 +28,6 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory.MultiplexMemoryPipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
-import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
@@ -45,6 +44,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -52,9 +52,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
-public final class MySQLIncrementalDumperTest {
+public final class MySQLBinlogEventConverterTest {
     
-    private MySQLIncrementalDumper incrementalDumper;
+    private DumperConfiguration dumperConfig;
+    
+    private PipelineTableMetaDataLoader metaDataLoader;
     
     private MultiplexMemoryPipelineChannel channel;
     
@@ -62,11 +64,10 @@ public final class MySQLIncrementalDumperTest {
     
     @Before
     public void setUp() {
-        DumperConfiguration dumperConfig = mockDumperConfiguration();
+        dumperConfig = mockDumperConfiguration();
         initTableData(dumperConfig);
         channel = new MultiplexMemoryPipelineChannel();
-        PipelineTableMetaDataLoader metaDataLoader = new PipelineTableMetaDataLoader(dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()));
-        incrementalDumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L), channel, metaDataLoader);
+        metaDataLoader = new PipelineTableMetaDataLoader(dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()));
     }
     
     @After
@@ -102,7 +103,7 @@ public final class MySQLIncrementalDumperTest {
         List<Serializable[]> rows = new ArrayList<>(1);
         rows.add(new String[]{"1", "order"});
         rowsEvent.setAfterRows(rows);
-        invokeHandleEvent(rowsEvent);
+        convertEvent(rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof DataRecord);
@@ -120,7 +121,7 @@ public final class MySQLIncrementalDumperTest {
         afterRows.add(new String[]{"1", "order_new"});
         rowsEvent.setBeforeRows(beforeRows);
         rowsEvent.setAfterRows(afterRows);
-        invokeHandleEvent(rowsEvent);
+        convertEvent(rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof DataRecord);
@@ -135,7 +136,7 @@ public final class MySQLIncrementalDumperTest {
         List<Serializable[]> rows = new ArrayList<>(1);
         rows.add(new String[]{"1", "order"});
         rowsEvent.setBeforeRows(rows);
-        invokeHandleEvent(rowsEvent);
+        convertEvent(rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof DataRecord);
@@ -144,7 +145,7 @@ public final class MySQLIncrementalDumperTest {
     
     @Test
     public void assertPlaceholderEvent() {
-        invokeHandleEvent(new PlaceholderEvent());
+        convertEvent(new PlaceholderEvent());
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof PlaceholderRecord);
@@ -154,14 +155,61 @@ public final class MySQLIncrementalDumperTest {
     public void assertRowsEventFiltered() {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
         rowsEvent.setSchemaName("unknown_schema");
-        invokeHandleEvent(rowsEvent);
+        convertEvent(rowsEvent);
         List<Record> records = channel.fetchRecords(1, 0);
         assertThat(records.size(), is(1));
         assertTrue(records.get(0) instanceof PlaceholderRecord);
     }
     
-    @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
-    private void invokeHandleEvent(final AbstractBinlogEvent event) {
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{String.class, AbstractBinlogEvent.class}, new Object[]{"", event});
+    @Test
+    public void assertConvertInBinlogOrderWithDecodeConcurrency() {
+        dumperConfig.setDecodeConcurrency(4);
+        List<AbstractBinlogEvent> events = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            UpdateRowsEvent rowsEvent = new UpdateRowsEvent();
+            rowsEvent.setSchemaName("");
+            rowsEvent.setTableName("t_order");
+            rowsEvent.setPosition(i);
+            rowsEvent.setBeforeRows(Collections.singletonList(new Serializable[]{1, "order_" + i}));
+            rowsEvent.setAfterRows(Collections.singletonList(new Serializable[]{1, "order_" + (i + 1)}));
+            events.add(rowsEvent);
+        }
+        try (MySQLBinlogEventConverter converter = new MySQLBinlogEventConverter(dumperConfig, "", metaDataLoader, channel)) {
+            for (AbstractBinlogEvent each : events) {
+                converter.convert(each);
+            }
+            converter.flush();
+        }
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(records.size(), is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(((BinlogPosition) records.get(i).getPosition()).getPosition(), is((long) i));
+            assertThat(((DataRecord) records.get(i)).getColumn(1).getValue(), is("order_" + (i + 1)));
+        }
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertConvertLowRateEventsWithDecodeConcurrency() {
+        dumperConfig.setDecodeConcurrency(4);
+        try (MySQLBinlogEventConverter converter = new MySQLBinlogEventConverter(dumperConfig, "", metaDataLoader, channel)) {
+            for (int i = 0; i < 3; i++) {
+                PlaceholderEvent event = new PlaceholderEvent();
+                event.setPosition(i);
+                converter.convert(event);
+                Thread.sleep(50L);
+            }
+            List<Record> records = channel.fetchRecords(3, 0);
+            assertThat(records.size(), is(2));
+            assertThat(((BinlogPosition) records.get(0).getPosition()).getPosition(), is(0L));
+            assertThat(((BinlogPosition) records.get(1).getPosition()).getPosition(), is(1L));
+        }
+    }
+    
+    private void convertEvent(final AbstractBinlogEvent event) {
+        try (MySQLBinlogEventConverter converter = new MySQLBinlogEventConverter(dumperConfig, "", metaDataLoader, channel)) {
+            converter.convert(event);
+            converter.flush();
+        }
     }
 }
@@ -41,6 +41,8 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -119,6 +121,11 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(WriteRowsEvent.class));
+        WriteRowsEvent actual = (WriteRowsEvent) decodedEvents.get(0);
+        assertNotNull(actual.getRowsImage());
+        actual.decodeRows();
+        assertNull(actual.getRowsImage());
+        assertTrue(actual.getAfterRows().isEmpty());
     }
     
     @Test
@@ -131,6 +138,12 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(UpdateRowsEvent.class));
+        UpdateRowsEvent actual = (UpdateRowsEvent) decodedEvents.get(0);
+        assertNotNull(actual.getRowsImage());
+        actual.decodeRows();
+        assertNull(actual.getRowsImage());
+        assertTrue(actual.getBeforeRows().isEmpty());
+        assertTrue(actual.getAfterRows().isEmpty());
     }
     
     @Test
@@ -143,5 +156,10 @@ public final class MySQLBinlogEventPacketDecoderTest {
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
+        DeleteRowsEvent actual = (DeleteRowsEvent) decodedEvents.get(0);
+        assertNotNull(actual.getRowsImage());
+        actual.decodeRows();
+        assertNull(actual.getRowsImage());
+        assertTrue(actual.getBeforeRows().isEmpty());
     }
 }
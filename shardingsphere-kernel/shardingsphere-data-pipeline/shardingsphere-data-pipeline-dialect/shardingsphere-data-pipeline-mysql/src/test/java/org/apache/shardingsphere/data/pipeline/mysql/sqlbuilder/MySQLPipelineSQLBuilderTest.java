@@ -45,12 +45,24 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
     }
     
+    @Test
+    public void assertBuildMultiRowUpsertSQL() {
+        String actual = sqlBuilder.buildMultiRowUpsertSQL(mockDataRecord("t2"), 2).orElse(null);
+        assertThat(actual, is("INSERT INTO `t2`(`id`,`sc`,`c1`,`c2`,`c3`) VALUES(?,?,?,?,?),(?,?,?,?,?) ON DUPLICATE KEY UPDATE `c1`=VALUES(`c1`),`c2`=VALUES(`c2`),`c3`=VALUES(`c3`)"));
+    }
+    
     @Test
     public void assertBuildSumCrc32SQL() {
         String actual = sqlBuilder.buildSumCrc32SQL("t2", "id");
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) AS checksum FROM `t2`"));
     }
     
+    @Test
+    public void assertBuildRangeSumCrc32SQL() {
+        String actual = sqlBuilder.buildRangeSumCrc32SQL("t2", "c1", "id");
+        assertThat(actual, is("SELECT SUM(CRC32(`c1`)) AS checksum FROM `t2` WHERE `id` >= ? AND `id` <= ?"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -62,6 +63,30 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildMultiRowUpsertSQL(final DataRecord dataRecord, final int rowCount) {
+        StringBuilder updateSetSQL = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            if (!each.isPrimaryKey() && !isShardingColumn(getShardingColumnsMap(), dataRecord.getTableName(), each.getName())) {
+                updateSetSQL.append(quote(each.getName())).append("=EXCLUDED.").append(quote(each.getName())).append(",");
+            }
+        }
+        if (0 == updateSetSQL.length()) {
+            return Optional.empty();
+        }
+        updateSetSQL.setLength(updateSetSQL.length() - 1);
+        StringBuilder result = new StringBuilder(buildMultiRowInsertSQL(dataRecord, rowCount)).append(" ON CONFLICT (");
+        for (Column each : RecordUtil.extractPrimaryColumns(dataRecord)) {
+            result.append(quote(each.getName())).append(",");
+        }
+        result.setLength(result.length() - 1);
+        return Optional.of(result.append(") DO UPDATE SET ").append(updateSetSQL).toString());
+    }
+    
+    private boolean isShardingColumn(final Map<String, Set<String>> shardingColumnsMap, final String tableName, final String columnName) {
+        return shardingColumnsMap.containsKey(tableName) && shardingColumnsMap.get(tableName).contains(columnName);
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -36,6 +36,12 @@ public final class PostgreSQLPipelineSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildMultiRowUpsertSQL() {
+        String actual = PipelineSQLBuilderFactory.getSQLBuilder("PostgreSQL").buildMultiRowUpsertSQL(mockDataRecord(), 2).orElse(null);
+        assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?),(?,?) ON CONFLICT (\"id\") DO UPDATE SET \"name\"=EXCLUDED.\"name\""));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
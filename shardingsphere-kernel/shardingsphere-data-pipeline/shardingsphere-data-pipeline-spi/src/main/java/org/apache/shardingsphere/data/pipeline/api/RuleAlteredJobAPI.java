@@ -143,6 +143,14 @@ public interface RuleAlteredJobAPI extends PipelineJobAPI, RequiredSPI, Singleto
      */
     Map<String, DataConsistencyCheckResult> dataConsistencyCheck(String jobId, String algorithmType);
     
+    /**
+     * Get running data consistency check progress.
+     *
+     * @param jobId job id
+     * @return each logic table checked percentage, empty if there is no running data consistency check
+     */
+    Map<String, Integer> getDataConsistencyCheckProgress(String jobId);
+    
     /**
      * Aggregate data consistency check results.
      *
@@ -43,4 +43,9 @@ public class DumperConfiguration {
      * Table name map. Key is actual table name, value is logic table name.
      */
     private Map<String, String> tableNameMap;
+    
+    /**
+     * Concurrency of decoding incremental events, only used by dumpers which support parallel decoding.
+     */
+    private int decodeConcurrency = 1;
 }
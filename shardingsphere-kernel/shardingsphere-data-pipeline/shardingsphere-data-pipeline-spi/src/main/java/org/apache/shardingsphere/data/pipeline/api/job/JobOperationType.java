@@ -29,4 +29,5 @@ public enum JobOperationType {
     
     INSERT, DELETE, UPDATE, SELECT,
     SYSTEM_LOAD, CPU_USAGE,
+    READ_LATENCY, WRITE_LATENCY,
 }
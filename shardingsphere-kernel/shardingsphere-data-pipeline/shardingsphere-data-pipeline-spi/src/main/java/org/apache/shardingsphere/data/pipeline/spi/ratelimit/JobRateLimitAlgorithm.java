@@ -31,7 +31,8 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm, Sharding
      * Intercept.
      *
      * @param type job operation type
-     * @param data it's delta that means how much changed if type is INSERT, DELETE, UPDATE, SELECT; it's null if type is SYSTEM_LOAD, CPU_USAGE
+     * @param data it's delta that means how much changed if type is INSERT, DELETE, UPDATE, SELECT; it's null if type is SYSTEM_LOAD, CPU_USAGE;
+     *             it's elapsed milliseconds of one source query or target write if type is READ_LATENCY, WRITE_LATENCY
      */
     void intercept(JobOperationType type, Number data);
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.spi.typed.TypedSPI;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Pipeline SQL builder.
@@ -49,6 +50,16 @@ public interface PipelineSQLBuilder extends TypedSPI, SingletonSPI {
      */
     String buildUpdateSQL(DataRecord dataRecord, Collection<Column> conditionColumns);
     
+    /**
+     * Build multi-row upsert SQL.
+     * Used in {@linkplain org.apache.shardingsphere.data.pipeline.spi.importer.Importer}.
+     *
+     * @param dataRecord data record, used as template of every row
+     * @param rowCount row count
+     * @return multi-row upsert SQL, empty if dialect does not support upsert
+     */
+    Optional<String> buildMultiRowUpsertSQL(DataRecord dataRecord, int rowCount);
+    
     /**
      * Extract updated columns.
      * Used in {@linkplain org.apache.shardingsphere.data.pipeline.spi.importer.Importer}.
@@ -94,6 +105,25 @@ public interface PipelineSQLBuilder extends TypedSPI, SingletonSPI {
      */
     String buildChunkedQuerySQL(String tableName, String uniqueKey, Number startUniqueValue);
     
+    /**
+     * Build query SQL within unique key range.
+     * Parameters are begin unique value (inclusive), end unique value (inclusive) and limit.
+     *
+     * @param tableName table name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @return query SQL
+     */
+    String buildRangeChunkedQuerySQL(String tableName, String uniqueKey);
+    
+    /**
+     * Build query minimum and maximum unique key value SQL.
+     *
+     * @param tableName table name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @return query SQL
+     */
+    String buildUniqueKeyMinMaxSQL(String tableName, String uniqueKey);
+    
     /**
      * Build check empty SQL.
      *
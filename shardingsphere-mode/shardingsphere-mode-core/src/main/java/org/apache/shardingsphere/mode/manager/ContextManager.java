@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.manager;
 
 import com.google.common.collect.Maps;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
@@ -59,6 +60,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -74,6 +76,9 @@ public final class ContextManager implements AutoCloseable {
     
     private volatile InstanceContext instanceContext;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong metaDataVersion = new AtomicLong();
+    
     /**
      * Initialize context manager.
      *
@@ -85,6 +90,16 @@ public final class ContextManager implements AutoCloseable {
         this.metaDataContexts = metaDataContexts;
         this.transactionContexts = transactionContexts;
         this.instanceContext = instanceContext;
+        metaDataVersion.incrementAndGet();
+    }
+    
+    /**
+     * Get meta data version, which is increased whenever meta data or rules are changed.
+     *
+     * @return meta data version
+     */
+    public long getMetaDataVersion() {
+        return metaDataVersion.get();
     }
     
     /**
@@ -104,6 +119,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public synchronized void renewMetaDataContexts(final MetaDataContexts metaDataContexts) {
         this.metaDataContexts = metaDataContexts;
+        metaDataVersion.incrementAndGet();
     }
     
     /**
@@ -130,6 +146,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
         metaDataContexts.getMetaDataMap().put(schemaName, newMetaDataContexts.getMetaData(schemaName));
+        metaDataVersion.incrementAndGet();
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName));
     }
     
@@ -169,6 +186,7 @@ public final class ContextManager implements AutoCloseable {
         metaData.getSchema().put(changedTableMetaData.getName(), changedTableMetaData);
         schemaMetaData.put(changedTableMetaData);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        metaDataVersion.incrementAndGet();
     }
     
     private void alterSingleTableDataNodes(final String schemaName, final ShardingSphereMetaData metaData, final TableMetaData changedTableMetaData) {
@@ -190,6 +208,7 @@ public final class ContextManager implements AutoCloseable {
         metaData.getSchema().remove(deletedTable);
         schemaMetaData.remove(deletedTable);
         metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        metaDataVersion.incrementAndGet();
     }
     
     private boolean containsInDataNodeContainedRule(final String tableName, final ShardingSphereMetaData schemaMetaData) {
@@ -207,6 +226,7 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getParserContexts().remove(schemaName);
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(schemaName);
             ShardingSphereMetaData removeMetaData = metaDataContexts.getMetaDataMap().remove(schemaName);
+            metaDataVersion.incrementAndGet();
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(schemaName);
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().delete(schemaName));
@@ -245,6 +265,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void dropResource(final String schemaName, final Collection<String> toBeDroppedResourceNames) {
         toBeDroppedResourceNames.forEach(metaDataContexts.getMetaData(schemaName).getResource().getDataSources()::remove);
+        metaDataVersion.incrementAndGet();
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getDataSourceService().drop(schemaName, toBeDroppedResourceNames));
     }
     
@@ -258,6 +279,7 @@ public final class ContextManager implements AutoCloseable {
         try {
             MetaDataContexts changedMetaDataContexts = buildChangedMetaDataContext(metaDataContexts.getMetaDataMap().get(schemaName), ruleConfigs);
             metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().putAll(changedMetaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas());
+            metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContexts.getOptimizerContext().getPlannerContexts());
             Map<String, ShardingSphereMetaData> metaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
             metaDataMap.putAll(changedMetaDataContexts.getMetaDataMap());
             renewMetaDataContexts(rebuildMetaDataContexts(metaDataMap));
@@ -364,6 +386,7 @@ public final class ContextManager implements AutoCloseable {
         TableMetaData tableMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(tableName, new TableMetaData());
         if (!tableMetaData.getColumns().isEmpty()) {
             metaDataContexts.getMetaData(schemaName).getSchema().put(tableName, tableMetaData);
+            metaDataVersion.incrementAndGet();
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, metaDataContexts.getMetaData(schemaName).getSchema()));
         }
     }
@@ -425,6 +448,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().putAll(changedMetaDataContext.getOptimizerContext().getFederationMetaData().getSchemas());
         metaDataContexts.getOptimizerContext().getParserContexts().putAll(changedMetaDataContext.getOptimizerContext().getParserContexts());
         metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
+        metaDataVersion.incrementAndGet();
         renewTransactionContext(schemaName, metaDataContexts.getMetaData(schemaName).getResource());
     }
     
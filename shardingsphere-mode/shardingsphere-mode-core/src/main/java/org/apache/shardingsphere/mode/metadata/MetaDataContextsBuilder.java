@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.schema.SchemaConfiguration;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProviderFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
@@ -62,7 +63,10 @@ public final class MetaDataContextsBuilder {
     public MetaDataContextsBuilder(final Collection<RuleConfiguration> globalRuleConfigs, final Properties props) {
         this.globalRuleConfigs = globalRuleConfigs;
         this.props = new ConfigurationProperties(props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                ExecutorServiceProviderFactory.getInstance(this.props.getValue(ConfigurationPropertyKey.PROXY_EXECUTOR_THREAD_TYPE)),
+                this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE),
+                this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE));
     }
     
     /**
@@ -101,6 +101,13 @@ public final class ContextManagerTest {
         assertThat(contextManager.getMetaDataContexts(), is(contexts));
     }
     
+    @Test
+    public void assertMetaDataVersionIncreasedAfterRenewMetaDataContexts() {
+        long originalVersion = contextManager.getMetaDataVersion();
+        contextManager.renewMetaDataContexts(mock(MetaDataContexts.class));
+        assertThat(contextManager.getMetaDataVersion(), is(originalVersion + 1));
+    }
+    
     @Test
     public void assertRenewTransactionContexts() {
         TransactionContexts contexts = mock(TransactionContexts.class);
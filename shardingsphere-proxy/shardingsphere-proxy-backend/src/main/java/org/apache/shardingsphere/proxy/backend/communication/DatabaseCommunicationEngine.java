@@ -191,6 +191,19 @@ public abstract class DatabaseCommunicationEngine<T> {
         return new QueryResponseRow(cells);
     }
     
+    /**
+     * Load current row data into reusable row data.
+     *
+     * @param rowData row data to be reloaded
+     * @throws SQLException SQL exception
+     */
+    public void loadRowData(final List<Object> rowData) throws SQLException {
+        rowData.clear();
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            rowData.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+    }
+    
     protected boolean isBinary() {
         return !JDBCDriverType.STATEMENT.equals(driverType);
     }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Statemen
 import org.apache.shardingsphere.infra.federation.executor.FederationContext;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
@@ -168,6 +169,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -178,6 +180,20 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        MergedResult mergedResult = getMergedResult();
+        if (null == mergedResult) {
+            return Collections.emptyList();
+        }
+        setMergedResult(null);
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Collections.singletonList(ex);
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
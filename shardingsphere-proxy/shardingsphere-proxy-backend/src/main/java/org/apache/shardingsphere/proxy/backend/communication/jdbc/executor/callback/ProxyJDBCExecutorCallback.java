@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.sane.JDBCSaneQueryResultEngineFactory;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
@@ -81,7 +82,14 @@ public abstract class ProxyJDBCExecutorCallback extends JDBCExecutorCallback<Exe
     protected abstract boolean execute(String sql, Statement statement, boolean isReturnGeneratedKeys) throws SQLException;
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new JDBCStreamQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet);
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            return new JDBCStreamQueryResult(resultSet);
+        }
+        return isColumnarMemoryQueryResult() ? new JDBCColumnarMemoryQueryResult(resultSet) : new JDBCMemoryQueryResult(resultSet);
+    }
+    
+    private boolean isColumnarMemoryQueryResult() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_COLUMNAR_MEMORY_QUERY_RESULT_ENABLED);
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -20,8 +20,10 @@ package org.apache.shardingsphere.proxy.backend.context;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProviderFactory;
 
 /**
  * Backend executor context.
@@ -32,8 +34,7 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = 
-            new ExecutorEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = createExecutorEngine();
     
     /**
      * Get executor context instance.
@@ -43,4 +44,12 @@ public final class BackendExecutorContext {
     public static BackendExecutorContext getInstance() {
         return INSTANCE;
     }
+    
+    private static ExecutorEngine createExecutorEngine() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+        return new ExecutorEngine(props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+                ExecutorServiceProviderFactory.getInstance(props.getValue(ConfigurationPropertyKey.PROXY_EXECUTOR_THREAD_TYPE)),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_CONCURRENCY_PER_DATA_SOURCE),
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MAX_QUEUE_SIZE_PER_DATA_SOURCE));
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Text protocol backend handler.
@@ -70,6 +71,17 @@ public interface TextProtocolBackendHandler {
         return Collections.emptyList();
     }
     
+    /**
+     * Load row data into reusable row data.
+     *
+     * @param rowData row data to be reloaded
+     * @throws SQLException SQL exception
+     */
+    default void loadRowData(final List<Object> rowData) throws SQLException {
+        rowData.clear();
+        rowData.addAll(getRowData());
+    }
+    
     /**
      * Close handler.
      *
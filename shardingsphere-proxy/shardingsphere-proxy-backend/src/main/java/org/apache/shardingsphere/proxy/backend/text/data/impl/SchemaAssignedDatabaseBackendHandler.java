@@ -32,6 +32,7 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Database backend handler with assigned schema.
@@ -87,6 +88,11 @@ public final class SchemaAssignedDatabaseBackendHandler implements DatabaseBacke
         return databaseCommunicationEngine.getQueryResponseRow().getData();
     }
     
+    @Override
+    public void loadRowData(final List<Object> rowData) throws SQLException {
+        databaseCommunicationEngine.loadRowData(rowData);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.proxy.backend.text.data.DatabaseBackendHandler;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -103,6 +104,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseCommunicationEngine.getQueryResponseRow().getData();
     }
     
+    @Override
+    public void loadRowData(final List<Object> rowData) throws SQLException {
+        databaseCommunicationEngine.loadRowData(rowData);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (databaseCommunicationEngine instanceof JDBCDatabaseCommunicationEngine) {
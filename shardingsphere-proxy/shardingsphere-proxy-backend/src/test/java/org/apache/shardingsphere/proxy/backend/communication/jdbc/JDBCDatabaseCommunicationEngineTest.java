@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -188,14 +189,17 @@ public final class JDBCDatabaseCommunicationEngineTest {
     }
     
     @Test
-    public void assertCloseCorrectly() throws SQLException {
+    public void assertCloseCorrectly() throws SQLException, NoSuchFieldException {
         JDBCDatabaseCommunicationEngine engine =
                 DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(mock(SQLStatementContext.class), "schemaName", Collections.emptyList(), backendConnection);
+        MergedResult mergedResult = mock(MergedResult.class);
+        FieldSetter.setField(engine, DatabaseCommunicationEngine.class.getDeclaredField("mergedResult"), mergedResult);
         Collection<ResultSet> cachedResultSets = getField(engine, "cachedResultSets");
         cachedResultSets.add(resultSet);
         Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
         cachedStatements.add(statement);
         engine.close();
+        verify(mergedResult).close();
         verify(resultSet).close();
         verify(statement).close();
         assertTrue(cachedResultSets.isEmpty());
@@ -19,12 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProvider;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProviderFactory;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,6 +44,9 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final ExecutorServiceProvider executorServiceProvider = ExecutorServiceProviderFactory.getInstance(
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_EXECUTOR_THREAD_TYPE));
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +66,7 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return executorServiceProvider.newSingleThreadExecutorService(String.format("Connection-%d-ThreadExecutor", connectionId));
     }
     
     /**
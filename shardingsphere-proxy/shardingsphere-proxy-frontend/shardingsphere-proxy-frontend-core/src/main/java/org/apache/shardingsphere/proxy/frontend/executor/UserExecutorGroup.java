@@ -19,7 +19,10 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceProviderFactory;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 /**
  * User executor group.
@@ -34,7 +37,8 @@ public final class UserExecutorGroup {
     private final ListeningExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, ExecutorServiceProviderFactory.getInstance(
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_EXECUTOR_THREAD_TYPE)));
         executorService = executorServiceManager.getExecutorService();
     }
     
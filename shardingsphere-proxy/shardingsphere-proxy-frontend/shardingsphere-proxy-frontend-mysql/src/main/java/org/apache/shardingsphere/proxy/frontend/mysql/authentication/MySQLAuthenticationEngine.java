@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 import com.google.common.base.Strings;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLAuthenticationMethod;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
@@ -35,6 +36,8 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandsha
 import org.apache.shardingsphere.db.protocol.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
@@ -58,12 +61,16 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private byte[] authResponse;
     
+    private int clientCapabilityFlags;
+    
     private AuthenticationResult currentAuthResult;
     
     @Override
     public int handshake(final ChannelHandlerContext context) {
         int result = ConnectionIdGenerator.getInstance().nextId();
         connectionPhase = MySQLConnectionPhase.AUTH_PHASE_FAST_PATH;
+        context.channel().attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY).set(
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_MAX_ALLOWED_PACKET));
         context.writeAndFlush(new MySQLHandshakePacket(result, authenticationHandler.getAuthPluginData()));
         MySQLPreparedStatementRegistry.getInstance().registerConnection(result);
         return result;
@@ -81,6 +88,9 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         }
         Optional<MySQLServerErrorCode> errorCode = authenticationHandler.login(currentAuthResult.getUsername(), getHostAddress(context), authResponse, currentAuthResult.getDatabase());
         context.writeAndFlush(errorCode.isPresent() ? createErrorPacket(errorCode.get(), context) : new MySQLOKPacket(++sequenceId));
+        if (!errorCode.isPresent() && isClientCompress()) {
+            enableCompression(context);
+        }
         return AuthenticationResultBuilder.finished(currentAuthResult.getUsername(), getHostAddress(context), currentAuthResult.getDatabase());
     }
     
@@ -88,6 +98,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         MySQLHandshakeResponse41Packet packet = new MySQLHandshakeResponse41Packet((MySQLPacketPayload) payload);
         authResponse = packet.getAuthResponse();
         sequenceId = packet.getSequenceId();
+        clientCapabilityFlags = packet.getCapabilityFlags();
         MySQLCharacterSet mySQLCharacterSet = MySQLCharacterSet.findById(packet.getCharacterSet());
         context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(mySQLCharacterSet.getCharset());
         context.channel().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).set(mySQLCharacterSet);
@@ -107,6 +118,16 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
         return 0 != (packet.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue());
     }
     
+    private boolean isClientCompress() {
+        return 0 != (clientCapabilityFlags & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
+    }
+    
+    private void enableCompression(final ChannelHandlerContext context) {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps();
+        context.pipeline().addFirst(new MySQLCompressionCodec(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_THRESHOLD),
+                props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MYSQL_COMPRESSION_LEVEL)));
+    }
+    
     private void authenticationMethodMismatch(final MySQLPacketPayload payload) {
         MySQLAuthSwitchResponsePacket packet = new MySQLAuthSwitchResponsePacket(payload);
         sequenceId = packet.getSequenceId();
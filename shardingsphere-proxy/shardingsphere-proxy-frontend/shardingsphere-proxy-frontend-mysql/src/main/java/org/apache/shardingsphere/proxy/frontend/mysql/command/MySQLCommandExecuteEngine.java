@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.PayloadWritableQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrPacketFactory;
@@ -78,14 +80,23 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return true;
         }
-        int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
+        int currentSequenceId = queryCommandExecutor instanceof PayloadWritableQueryCommandExecutor
+                ? writeQueryRowsDirectly(context, (JDBCBackendConnection) backendConnection, (PayloadWritableQueryCommandExecutor) queryCommandExecutor, flushThreshold)
+                : writeQueryRowPackets(context, (JDBCBackendConnection) backendConnection, queryCommandExecutor, flushThreshold);
+        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+        return true;
+    }
+    
+    private int writeQueryRowPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                     final QueryCommandExecutor queryCommandExecutor, final int flushThreshold) throws SQLException {
+        int count = 0;
+        int result = 0;
         while (queryCommandExecutor.next()) {
             count++;
             while (!context.channel().isWritable() && context.channel().isActive()) {
                 context.flush();
-                ((JDBCBackendConnection) backendConnection).getResourceLock().doAwait();
+                backendConnection.getResourceLock().doAwait();
             }
             DatabasePacket<?> dataValue = queryCommandExecutor.getQueryRowPacket();
             context.write(dataValue);
@@ -93,9 +104,41 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
                 context.flush();
                 count = 0;
             }
-            currentSequenceId++;
+            result++;
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
-        return true;
+        return result;
+    }
+    
+    private int writeQueryRowsDirectly(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                       final PayloadWritableQueryCommandExecutor queryCommandExecutor, final int flushThreshold) throws SQLException {
+        int count = 0;
+        int result = 0;
+        MySQLPacketPayload payload = createPacketPayload(context);
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    context.flush();
+                    backendConnection.getResourceLock().doAwait();
+                }
+                result += queryCommandExecutor.writeQueryRow(payload);
+                if (flushThreshold == count) {
+                    context.writeAndFlush(payload.getByteBuf());
+                    payload = createPacketPayload(context);
+                    count = 0;
+                }
+            }
+            context.write(payload.getByteBuf());
+            payload = null;
+        } finally {
+            if (null != payload) {
+                payload.getByteBuf().release();
+            }
+        }
+        return result;
+    }
+    
+    private MySQLPacketPayload createPacketPayload(final ChannelHandlerContext context) {
+        return new MySQLPacketPayload(context.alloc().ioBuffer(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
     }
 }
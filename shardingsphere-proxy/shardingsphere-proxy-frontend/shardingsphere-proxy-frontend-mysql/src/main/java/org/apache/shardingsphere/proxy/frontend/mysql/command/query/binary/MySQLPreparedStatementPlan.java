@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+/**
+ * Plan of MySQL prepared statement, which holds the parameter and grantee independent parts of statement execution.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLPreparedStatementPlan {
+    
+    private final long metaDataVersion;
+    
+    private final SQLStatement sqlStatement;
+    
+    /**
+     * Judge whether SQL statement of plan is reusable.
+     *
+     * @param metaDataVersion current meta data version
+     * @return SQL statement is reusable or not
+     */
+    public boolean isSQLStatementReusable(final long metaDataVersion) {
+        return this.metaDataVersion == metaDataVersion;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+/**
+ * Plan cache of MySQL prepared statement.
+ * 
+ * <p>Plans are weakly bound to prepared statements, and will be discarded once prepared statements are closed.
+ * Plans are rebuilt when meta data version of context manager changed.
+ * Only parsed SQL statements are cached, authority is checked on every execution because it can change without meta data version changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLPreparedStatementPlanCache {
+    
+    private static final Cache<MySQLPreparedStatement, MySQLPreparedStatementPlan> PLANS = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Cache SQL statement which parsed by COM_STMT_PREPARE.
+     *
+     * @param preparedStatement prepared statement
+     * @param sqlStatement SQL statement
+     * @param metaDataVersion meta data version which SQL statement parsed with
+     */
+    public static void cacheSQLStatement(final MySQLPreparedStatement preparedStatement, final SQLStatement sqlStatement, final long metaDataVersion) {
+        PLANS.put(preparedStatement, new MySQLPreparedStatementPlan(metaDataVersion, sqlStatement));
+    }
+    
+    /**
+     * Get checked SQL statement, parse SQL again only if the cached plan is absent or outdated.
+     *
+     * @param preparedStatement prepared statement
+     * @param connectionSession connection session
+     * @return checked SQL statement
+     */
+    public static SQLStatement getCheckedSQLStatement(final MySQLPreparedStatement preparedStatement, final ConnectionSession connectionSession) {
+        ContextManager contextManager = ProxyContext.getInstance().getContextManager();
+        long metaDataVersion = contextManager.getMetaDataVersion();
+        String schemaName = connectionSession.getSchemaName();
+        MetaDataContexts metaDataContexts = contextManager.getMetaDataContexts();
+        MySQLPreparedStatementPlan cachedPlan = PLANS.getIfPresent(preparedStatement);
+        SQLStatement result;
+        if (null != cachedPlan && cachedPlan.isSQLStatementReusable(metaDataVersion)) {
+            result = cachedPlan.getSqlStatement();
+        } else {
+            result = parse(metaDataContexts, preparedStatement.getSql(), schemaName);
+            PLANS.put(preparedStatement, new MySQLPreparedStatementPlan(metaDataVersion, result));
+        }
+        SQLCheckEngine.check(result, Collections.emptyList(), getRules(metaDataContexts, schemaName), schemaName, metaDataContexts.getMetaDataMap(), connectionSession.getGrantee());
+        return result;
+    }
+    
+    private static SQLStatement parse(final MetaDataContexts metaDataContexts, final String sql, final String schemaName) {
+        ShardingSphereSQLParserEngine sqlStatementParserEngine = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(
+                metaDataContexts.getMetaData(schemaName).getResource().getDatabaseType()), metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class).orElse(null));
+        return sqlStatementParserEngine.parse(sql, true);
+    }
+    
+    private static Collection<ShardingSphereRule> getRules(final MetaDataContexts metaDataContexts, final String schemaName) {
+        Collection<ShardingSphereRule> result = new LinkedList<>(metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules());
+        result.addAll(metaDataContexts.getGlobalRuleMetaData().getRules());
+        return result;
+    }
+}
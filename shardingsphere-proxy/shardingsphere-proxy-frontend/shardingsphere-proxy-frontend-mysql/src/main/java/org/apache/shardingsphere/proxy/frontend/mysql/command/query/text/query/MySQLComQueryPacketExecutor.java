@@ -20,9 +20,12 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query;
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowEncoder;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -30,23 +33,29 @@ import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResp
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.PayloadWritableQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * COM_QUERY command packet executor for MySQL.
  */
-public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
+public final class MySQLComQueryPacketExecutor implements PayloadWritableQueryCommandExecutor {
+    
+    private static final MySQLTextResultSetRowEncoder ROW_ENCODER = new MySQLTextResultSetRowEncoder();
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
     private final int characterSet;
     
+    private final List<Object> rowData = new ArrayList<>();
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -85,6 +94,14 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
         return new MySQLTextResultSetRowPacket(++currentSequenceId, textProtocolBackendHandler.getRowData());
     }
     
+    @Override
+    public int writeQueryRow(final PacketPayload payload) throws SQLException {
+        textProtocolBackendHandler.loadRowData(rowData);
+        int result = ROW_ENCODER.encodePacket((MySQLPacketPayload) payload, currentSequenceId + 1, rowData);
+        currentSequenceId += result;
+        return result;
+    }
+    
     @Override
     public void close() throws SQLException {
         textProtocolBackendHandler.close();
@@ -107,6 +107,8 @@ public final class MySQLFrontendEngineTest {
     
     @Test
     public void assertHandshake() {
+        initProxyContext(new ShardingSphereUser("root", "", ""));
+        when(channel.attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY)).thenReturn(mock(Attribute.class));
         assertTrue(mysqlFrontendEngine.getAuthenticationEngine().handshake(context) > 0);
         verify(context).writeAndFlush(isA(MySQLHandshakePacket.class));
     }
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.proxy.frontend.mysql.authentication;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.util.Attribute;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -80,10 +82,15 @@ public final class MySQLAuthenticationEngineTest {
         field.set(authenticationEngine, authenticationHandler);
     }
     
+    @SuppressWarnings("unchecked")
     @Test
-    public void assertHandshake() {
+    public void assertHandshake() throws NoSuchFieldException, IllegalAccessException {
+        setMetaDataContexts();
         ChannelHandlerContext context = getContext();
+        Attribute<Integer> maxAllowedPacketAttribute = mock(Attribute.class);
+        when(context.channel().attr(MySQLConstants.MYSQL_MAX_ALLOWED_PACKET_ATTRIBUTE_KEY)).thenReturn(maxAllowedPacketAttribute);
         assertTrue(authenticationEngine.handshake(context) > 0);
+        verify(maxAllowedPacketAttribute).set(64 * 1024 * 1024);
         verify(context).writeAndFlush(any(MySQLHandshakePacket.class));
     }
     
@@ -154,6 +161,21 @@ public final class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    public void assertAuthWithClientCompress() throws NoSuchFieldException, IllegalAccessException {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        ChannelHandlerContext context = getContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        when(context.pipeline()).thenReturn(pipeline);
+        when(authenticationHandler.login(anyString(), any(), any(), anyString())).thenReturn(Optional.empty());
+        setMetaDataContexts();
+        MySQLPacketPayload payload = getPayload("root", "sharding_db", authResponse);
+        when(payload.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue() | MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
+        authenticationEngine.authenticate(context, payload);
+        verify(context).writeAndFlush(any(MySQLOKPacket.class));
+        verify(pipeline).addFirst(any(MySQLCompressionCodec.class));
+    }
+    
     private void setMetaDataContexts() throws NoSuchFieldException, IllegalAccessException {
         Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
         contextManagerField.setAccessible(true);
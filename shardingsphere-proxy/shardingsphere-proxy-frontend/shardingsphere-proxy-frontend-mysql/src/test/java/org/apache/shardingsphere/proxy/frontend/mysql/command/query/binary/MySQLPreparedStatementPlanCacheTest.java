@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary;
+
+import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
+import org.apache.shardingsphere.authority.provider.schema.SchemaPrivilegesPermittedAuthorityProviderAlgorithm;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatement;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckException;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MySQLPreparedStatementPlanCacheTest {
+    
+    @Mock
+    private ContextManager contextManager;
+    
+    @Mock
+    private ConnectionSession connectionSession;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereMetaData metaData;
+    
+    @Mock
+    private ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), Collections.singletonMap("logic_db", metaData),
+                globalRuleMetaData, mock(ExecutorEngine.class), mock(OptimizerContext.class, RETURNS_DEEP_STUBS), new ConfigurationProperties(new Properties()));
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+        when(connectionSession.getSchemaName()).thenReturn("logic_db");
+    }
+    
+    @Test
+    public void assertGetCheckedSQLStatementWithPreparedSQLStatement() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT 1", 0);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        MySQLPreparedStatementPlanCache.cacheSQLStatement(preparedStatement, sqlStatement, 1L);
+        when(contextManager.getMetaDataVersion()).thenReturn(1L);
+        assertThat(MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession), sameInstance(sqlStatement));
+        assertThat(MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession), sameInstance(sqlStatement));
+    }
+    
+    @Test
+    public void assertGetCheckedSQLStatementAfterMetaDataChanged() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT 1", 0);
+        SQLStatement sqlStatement = mock(SQLStatement.class);
+        MySQLPreparedStatementPlanCache.cacheSQLStatement(preparedStatement, sqlStatement, 1L);
+        when(contextManager.getMetaDataVersion()).thenReturn(2L);
+        when(metaData.getResource().getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(globalRuleMetaData.findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())));
+        SQLStatement actual = MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession);
+        assertThat(actual, not(sqlStatement));
+        assertThat(actual, instanceOf(SelectStatement.class));
+        assertThat(MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession), sameInstance(actual));
+    }
+    
+    @Test(expected = SQLCheckException.class)
+    public void assertGetCheckedSQLStatementAfterPrivilegeRevoked() {
+        MySQLPreparedStatement preparedStatement = new MySQLPreparedStatement("SELECT 1", 0);
+        MySQLPreparedStatementPlanCache.cacheSQLStatement(preparedStatement, mock(SelectStatement.class), 1L);
+        when(contextManager.getMetaDataVersion()).thenReturn(1L);
+        when(connectionSession.getGrantee()).thenReturn(new Grantee("root", "%"));
+        when(globalRuleMetaData.getRules()).thenReturn(Collections.singletonList(createAuthorityRule("root@%=logic_db")), Collections.singletonList(createAuthorityRule("root@%=other_db")));
+        MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession);
+        MySQLPreparedStatementPlanCache.getCheckedSQLStatement(preparedStatement, connectionSession);
+    }
+    
+    private AuthorityRule createAuthorityRule(final String userSchemaMappings) {
+        Properties props = new Properties();
+        props.setProperty(SchemaPrivilegesPermittedAuthorityProviderAlgorithm.PROP_USER_SCHEMA_MAPPINGS, userSchemaMappings);
+        AuthorityRuleConfiguration ruleConfig = new AuthorityRuleConfiguration(Collections.singletonList(new ShardingSphereUser("root", "", "%")),
+                new ShardingSphereAlgorithmConfiguration("SCHEMA_PRIVILEGES_PERMITTED", props));
+        return new AuthorityRule(ruleConfig, Collections.emptyMap());
+    }
+}
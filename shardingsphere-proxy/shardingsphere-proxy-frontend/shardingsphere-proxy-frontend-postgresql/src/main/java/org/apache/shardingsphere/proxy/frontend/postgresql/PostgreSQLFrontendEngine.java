@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLServerInfo;
@@ -29,13 +30,17 @@ import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.sql.SQLException;
+
 /**
  * Frontend engine for PostgreSQL.
  */
 @Getter
+@Slf4j
 public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendEngine {
     
     private final FrontendContext frontendContext = new FrontendContext(true, true);
@@ -54,7 +59,18 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPreparedStatementRegistry.getInstance().unregister(connectionSession.getConnectionId());
-        PostgreSQLConnectionContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        PostgreSQLConnectionContext connectionContext = PostgreSQLConnectionContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (null != connectionContext) {
+            cancelCopyIn(connectionContext);
+        }
+    }
+    
+    private void cancelCopyIn(final PostgreSQLConnectionContext connectionContext) {
+        try {
+            connectionContext.cancelCopyIn();
+        } catch (final SQLException ex) {
+            log.warn("Cancel copy in failed", ex);
+        }
     }
     
     @Override
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketTypeLoader;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -37,9 +39,11 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.PayloadWritableQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyOutExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.PostgreSQLComQueryExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrPacketFactory;
 
@@ -87,6 +91,9 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         if (queryCommandExecutor instanceof PostgreSQLComQueryExecutor) {
             return processSimpleQuery(context, (JDBCBackendConnection) backendConnection, (PostgreSQLComQueryExecutor) queryCommandExecutor);
         }
+        if (queryCommandExecutor instanceof PostgreSQLComCopyOutExecutor) {
+            return processCopyOut(context, (JDBCBackendConnection) backendConnection, (PostgreSQLComCopyOutExecutor) queryCommandExecutor);
+        }
         writeDataPackets(context, (JDBCBackendConnection) backendConnection, queryCommandExecutor);
         return false;
     }
@@ -106,10 +113,26 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         return true;
     }
     
+    private boolean processCopyOut(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection, final PostgreSQLComCopyOutExecutor copyOutExecutor) throws SQLException {
+        writeDataPackets(context, backendConnection, copyOutExecutor);
+        context.write(new PostgreSQLCopyDonePacket());
+        context.write(new PostgreSQLCommandCompletePacket("COPY", copyOutExecutor.getCopiedRows()));
+        context.write(backendConnection.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
+                : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
+        return true;
+    }
+    
     private long writeDataPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        int proxyFrontendFlushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        return queryCommandExecutor instanceof PayloadWritableQueryCommandExecutor
+                ? writeDataRowsDirectly(context, backendConnection, (PayloadWritableQueryCommandExecutor) queryCommandExecutor, proxyFrontendFlushThreshold)
+                : writeDataPackets(context, backendConnection, queryCommandExecutor, proxyFrontendFlushThreshold);
+    }
+    
+    private long writeDataPackets(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                  final QueryCommandExecutor queryCommandExecutor, final int proxyFrontendFlushThreshold) throws SQLException {
         long dataRows = 0;
         int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             flushCount++;
             while (!context.channel().isWritable() && context.channel().isActive()) {
@@ -128,4 +151,38 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         }
         return dataRows;
     }
+    
+    private long writeDataRowsDirectly(final ChannelHandlerContext context, final JDBCBackendConnection backendConnection,
+                                       final PayloadWritableQueryCommandExecutor queryCommandExecutor, final int proxyFrontendFlushThreshold) throws SQLException {
+        long dataRows = 0;
+        int flushCount = 0;
+        PostgreSQLPacketPayload payload = createPacketPayload(context);
+        try {
+            while (queryCommandExecutor.next()) {
+                flushCount++;
+                while (!context.channel().isWritable() && context.channel().isActive()) {
+                    context.flush();
+                    backendConnection.getResourceLock().doAwait();
+                }
+                queryCommandExecutor.writeQueryRow(payload);
+                if (proxyFrontendFlushThreshold == flushCount) {
+                    context.writeAndFlush(payload.getByteBuf());
+                    payload = createPacketPayload(context);
+                    flushCount = 0;
+                }
+                dataRows++;
+            }
+            context.write(payload.getByteBuf());
+            payload = null;
+        } finally {
+            if (null != payload) {
+                payload.getByteBuf().release();
+            }
+        }
+        return dataRows;
+    }
+    
+    private PostgreSQLPacketPayload createPacketPayload(final ChannelHandlerContext context) {
+        return new PostgreSQLPacketPayload(context.alloc().ioBuffer(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+    }
 }
@@ -22,6 +22,8 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -33,6 +35,10 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyExecutorFactory;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedInsertsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
@@ -46,6 +52,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -103,7 +110,7 @@ public final class PostgreSQLCommandExecutorFactory {
                                                       final PostgreSQLConnectionContext connectionContext) throws SQLException {
         switch (commandPacketType) {
             case SIMPLE_QUERY:
-                return new PostgreSQLComQueryExecutor(connectionContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, connectionSession, connectionContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
@@ -116,10 +123,22 @@ public final class PostgreSQLCommandExecutorFactory {
                 return new PostgreSQLComSyncExecutor(connectionSession);
             case CLOSE_COMMAND:
                 return new PostgreSQLComCloseExecutor(connectionContext, (PostgreSQLComClosePacket) commandPacket, connectionSession);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor(connectionContext, (PostgreSQLComCopyDataPacket) commandPacket);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionContext, connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor(connectionContext, (PostgreSQLComCopyFailPacket) commandPacket);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final PostgreSQLComQueryPacket commandPacket, final ConnectionSession connectionSession,
+                                                       final PostgreSQLConnectionContext connectionContext) throws SQLException {
+        Optional<CommandExecutor> copyExecutor = PostgreSQLCopyExecutorFactory.newInstance(connectionContext, commandPacket.getSql(), connectionSession);
+        return copyExecutor.isPresent() ? copyExecutor.get() : new PostgreSQLComQueryExecutor(connectionContext, commandPacket, connectionSession);
+    }
 }
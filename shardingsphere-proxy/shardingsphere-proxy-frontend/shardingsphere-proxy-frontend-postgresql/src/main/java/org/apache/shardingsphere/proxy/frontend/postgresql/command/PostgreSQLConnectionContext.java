@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInDispatcher;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.Portal;
 
+import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -29,6 +33,10 @@ public final class PostgreSQLConnectionContext {
     
     private final Map<String, Portal<?>> portals = new LinkedHashMap<>();
     
+    @Getter
+    @Setter
+    private PostgreSQLCopyInDispatcher copyInDispatcher;
+    
     /**
      * Create a portal.
      *
@@ -77,4 +85,18 @@ public final class PostgreSQLConnectionContext {
         }
         portals.clear();
     }
+    
+    /**
+     * Cancel copy in if exists.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void cancelCopyIn() throws SQLException {
+        if (null == copyInDispatcher) {
+            return;
+        }
+        PostgreSQLCopyInDispatcher copyInDispatcher = this.copyInDispatcher;
+        this.copyInDispatcher = null;
+        copyInDispatcher.cancel();
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy fail executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyFailExecutor implements CommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final PostgreSQLComCopyFailPacket packet;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        PostgreSQLCopyInDispatcher copyInDispatcher = connectionContext.getCopyInDispatcher();
+        if (null == copyInDispatcher) {
+            return Collections.emptyList();
+        }
+        connectionContext.cancelCopyIn();
+        copyInDispatcher.checkFailure();
+        throw new SQLException(String.format("COPY from stdin failed: %s", packet.getErrorMessage()), PostgreSQLErrorCode.QUERY_CANCELED.getErrorCode());
+    }
+}
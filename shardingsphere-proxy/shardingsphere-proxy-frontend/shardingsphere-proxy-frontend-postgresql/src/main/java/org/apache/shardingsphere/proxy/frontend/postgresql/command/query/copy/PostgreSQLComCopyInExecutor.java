@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Command copy in executor for PostgreSQL, which starts copy in and waits for copy data from client.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyInExecutor implements CommandExecutor {
+    
+    private final PostgreSQLConnectionContext connectionContext;
+    
+    private final PostgreSQLCopyInDispatcher copyInDispatcher;
+    
+    private final int columnCount;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        connectionContext.setCopyInDispatcher(copyInDispatcher);
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(PostgreSQLValueFormat.TEXT, columnCount));
+    }
+}
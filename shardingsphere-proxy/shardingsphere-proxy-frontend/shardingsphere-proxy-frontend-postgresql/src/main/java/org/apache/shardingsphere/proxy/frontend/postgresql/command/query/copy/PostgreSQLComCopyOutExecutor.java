@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLValueFormat;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Command copy out executor for PostgreSQL, which streams copy out of data nodes one by one.
+ */
+public final class PostgreSQLComCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final String schemaName;
+    
+    private final Function<DataNode, String> copySQLGenerator;
+    
+    private final Iterator<DataNode> dataNodes;
+    
+    private final int columnCount;
+    
+    private final boolean header;
+    
+    @Getter
+    private volatile ResponseType responseType;
+    
+    @Getter
+    private long copiedRows;
+    
+    private Connection connection;
+    
+    private CopyOut copyOut;
+    
+    private boolean headerPending;
+    
+    private boolean headerWritten;
+    
+    private byte[] currentRow;
+    
+    public PostgreSQLComCopyOutExecutor(final String schemaName, final Function<DataNode, String> copySQLGenerator, final List<DataNode> dataNodes, final int columnCount, final boolean header) {
+        this.schemaName = schemaName;
+        this.copySQLGenerator = copySQLGenerator;
+        this.dataNodes = dataNodes.iterator();
+        this.columnCount = columnCount;
+        this.header = header;
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        responseType = ResponseType.QUERY;
+        return Collections.singletonList(new PostgreSQLCopyOutResponsePacket(PostgreSQLValueFormat.TEXT, columnCount));
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null != copyOut || dataNodes.hasNext()) {
+            if (null == copyOut) {
+                openCopyOut(dataNodes.next());
+            }
+            currentRow = copyOut.readFromCopy();
+            if (null == currentRow) {
+                closeCopyOut();
+            } else if (isRowToWrite()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isRowToWrite() {
+        if (!headerPending) {
+            copiedRows++;
+            return true;
+        }
+        headerPending = false;
+        boolean result = !headerWritten;
+        headerWritten = true;
+        return result;
+    }
+    
+    private void openCopyOut(final DataNode dataNode) throws SQLException {
+        connection = ProxyContext.getInstance().getBackendDataSource().getConnections(schemaName, dataNode.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        copyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copySQLGenerator.apply(dataNode));
+        headerPending = header;
+    }
+    
+    private void closeCopyOut() throws SQLException {
+        copyOut = null;
+        Connection currentConnection = connection;
+        connection = null;
+        currentConnection.close();
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentRow);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null == connection) {
+            return;
+        }
+        try {
+            if (null != copyOut && copyOut.isActive()) {
+                copyOut.cancelCopy();
+            }
+        } finally {
+            closeCopyOut();
+        }
+    }
+}
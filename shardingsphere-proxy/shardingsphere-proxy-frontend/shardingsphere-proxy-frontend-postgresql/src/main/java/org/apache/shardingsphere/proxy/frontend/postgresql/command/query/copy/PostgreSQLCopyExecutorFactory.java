@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.constant.PostgreSQLErrorCode;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Copy executor factory for PostgreSQL, which creates executors of COPY FROM STDIN and COPY TO STDOUT for sharding and broadcast tables.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLCopyExecutorFactory {
+    
+    private static final String COPY = "COPY";
+    
+    private static final Collection<String> TRUE_VALUES = Arrays.asList("true", "on", "1");
+    
+    /**
+     * Create new instance of copy executor.
+     *
+     * @param connectionContext PostgreSQL connection context
+     * @param sql SQL
+     * @param connectionSession connection session
+     * @return copy executor, empty if SQL is not a copy which should be routed
+     * @throws SQLException SQL exception
+     */
+    public static Optional<CommandExecutor> newInstance(final PostgreSQLConnectionContext connectionContext, final String sql, final ConnectionSession connectionSession) throws SQLException {
+        String schemaName = connectionSession.getSchemaName();
+        if (null == schemaName || !sql.trim().regionMatches(true, 0, COPY, 0, COPY.length())) {
+            return Optional.empty();
+        }
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(schemaName);
+        SQLStatement sqlStatement = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType()),
+                metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class).orElse(null)).parse(sql, false);
+        if (!(sqlStatement instanceof PostgreSQLCopyStatement) || !((PostgreSQLCopyStatement) sqlStatement).isStandardIO()) {
+            return Optional.empty();
+        }
+        SQLCheckEngine.check(sqlStatement, Collections.emptyList(), getRules(metaDataContexts, schemaName), schemaName, metaDataContexts.getMetaDataMap(), connectionSession.getGrantee());
+        PostgreSQLCopyStatement copyStatement = (PostgreSQLCopyStatement) sqlStatement;
+        Optional<SimpleTableSegment> table = copyStatement.getTable();
+        Optional<ShardingRule> shardingRule = metaData.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!table.isPresent() || !shardingRule.isPresent() || !isShardingOrBroadcastTable(shardingRule.get(), table.get().getTableName().getIdentifier().getValue())) {
+            return Optional.empty();
+        }
+        checkCopy(copyStatement, connectionSession);
+        String logicTableName = table.get().getTableName().getIdentifier().getValue();
+        List<String> columnNames = getColumnNames(copyStatement, metaData, logicTableName);
+        Map<String, String> options = copyStatement.getOptions();
+        Function<DataNode, String> copySQLGenerator = createCopySQLGenerator(sql, table.get().getTableName());
+        PostgreSQLCopyRouter router = new PostgreSQLCopyRouter(shardingRule.get(), logicTableName, columnNames, metaData.getSchema().get(logicTableName), metaDataContexts.getProps());
+        boolean header = options.containsKey("header") && TRUE_VALUES.contains(options.get("header"));
+        if (copyStatement.isFrom()) {
+            PostgreSQLCopyRowReader rowReader = new PostgreSQLCopyRowReader(options, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+            return Optional.of(new PostgreSQLComCopyInExecutor(connectionContext, new PostgreSQLCopyInDispatcher(schemaName, copySQLGenerator, router, rowReader, header), columnNames.size()));
+        }
+        return Optional.of(new PostgreSQLComCopyOutExecutor(schemaName, copySQLGenerator, router.getCopyOutDataNodes(), columnNames.size(), header));
+    }
+    
+    private static Collection<ShardingSphereRule> getRules(final MetaDataContexts metaDataContexts, final String schemaName) {
+        Collection<ShardingSphereRule> result = new LinkedList<>(metaDataContexts.getMetaData(schemaName).getRuleMetaData().getRules());
+        result.addAll(metaDataContexts.getGlobalRuleMetaData().getRules());
+        return result;
+    }
+    
+    private static boolean isShardingOrBroadcastTable(final ShardingRule shardingRule, final String logicTableName) {
+        return shardingRule.findTableRule(logicTableName).isPresent() || shardingRule.isBroadcastTable(logicTableName);
+    }
+    
+    private static void checkCopy(final PostgreSQLCopyStatement copyStatement, final ConnectionSession connectionSession) throws SQLException {
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            throw new SQLException("COPY of sharding table is not supported in transaction", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+        if ("binary".equals(copyStatement.getOptions().get("format"))) {
+            throw new SQLException("COPY of sharding table does not support binary format", PostgreSQLErrorCode.FEATURE_NOT_SUPPORTED.getErrorCode());
+        }
+    }
+    
+    private static List<String> getColumnNames(final PostgreSQLCopyStatement copyStatement, final ShardingSphereMetaData metaData, final String logicTableName) {
+        Collection<String> columnNames = copyStatement.getColumns().isEmpty() ? metaData.getSchema().getAllColumnNames(logicTableName) : getColumnNames(copyStatement.getColumns());
+        List<String> result = new ArrayList<>(columnNames.size());
+        for (String each : columnNames) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
+    private static Collection<String> getColumnNames(final Collection<ColumnSegment> columns) {
+        Collection<String> result = new ArrayList<>(columns.size());
+        for (ColumnSegment each : columns) {
+            result.add(each.getIdentifier().getValue());
+        }
+        return result;
+    }
+    
+    private static Function<DataNode, String> createCopySQLGenerator(final String sql, final TableNameSegment tableName) {
+        String prefix = sql.substring(0, tableName.getStartIndex());
+        String suffix = sql.substring(tableName.getStopIndex() + 1);
+        return dataNode -> prefix + dataNode.getTableName() + suffix;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dispatcher for PostgreSQL copy in, which routes rows of copy data and streams them to copy in of each data node.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInDispatcher {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final String schemaName;
+    
+    private final Function<DataNode, String> copySQLGenerator;
+    
+    private final PostgreSQLCopyRouter router;
+    
+    private final PostgreSQLCopyRowReader rowReader;
+    
+    private final boolean header;
+    
+    private final Map<DataNode, CopyInTarget> targets = new LinkedHashMap<>();
+    
+    private byte[] headerRow;
+    
+    private boolean endOfData;
+    
+    private Exception failure;
+    
+    /**
+     * Dispatch copy data.
+     * 
+     * <p>Once dispatching failed, copy in of all data nodes is cancelled and following copy data is discarded.
+     * The failure is thrown when copy in is completed or failed by client.</p>
+     *
+     * @param data copy data
+     */
+    public void dispatch(final byte[] data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            dispatchRows(data);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException | SQLException ex) {
+            // CHECKSTYLE:ON
+            failure = ex;
+            cancelAfterFailure();
+        }
+    }
+    
+    private void cancelAfterFailure() {
+        try {
+            cancel();
+        } catch (final SQLException ex) {
+            failure.addSuppressed(ex);
+        }
+    }
+    
+    private void dispatchRows(final byte[] data) throws SQLException {
+        for (byte[] each : rowReader.read(data)) {
+            if (endOfData) {
+                continue;
+            }
+            if (rowReader.isEndOfData(each)) {
+                endOfData = true;
+            } else if (header && null == headerRow) {
+                headerRow = each;
+            } else {
+                dispatchRow(each);
+            }
+        }
+    }
+    
+    private void dispatchRow(final byte[] row) throws SQLException {
+        for (DataNode each : router.route(rowReader.parseFields(row))) {
+            getTarget(each).write(row);
+        }
+    }
+    
+    private CopyInTarget getTarget(final DataNode dataNode) throws SQLException {
+        CopyInTarget result = targets.get(dataNode);
+        if (null == result) {
+            Connection connection = ProxyContext.getInstance().getBackendDataSource().getConnections(schemaName, dataNode.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+            result = new CopyInTarget(connection);
+            targets.put(dataNode, result);
+            result.open(copySQLGenerator.apply(dataNode));
+            if (null != headerRow) {
+                result.write(headerRow);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Complete copy in of all data nodes.
+     *
+     * @return count of copied rows
+     * @throws SQLException SQL exception
+     */
+    public long complete() throws SQLException {
+        checkFailure();
+        try {
+            long result = 0;
+            for (CopyInTarget each : targets.values()) {
+                result += each.complete();
+            }
+            return result;
+        } finally {
+            close();
+        }
+    }
+    
+    /**
+     * Cancel copy in of all data nodes.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void cancel() throws SQLException {
+        try {
+            for (CopyInTarget each : targets.values()) {
+                each.cancel();
+            }
+        } finally {
+            close();
+        }
+    }
+    
+    /**
+     * Throw failure of dispatching if exists.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void checkFailure() throws SQLException {
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (null != failure) {
+            throw (RuntimeException) failure;
+        }
+    }
+    
+    private void close() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        for (CopyInTarget each : targets.values()) {
+            try {
+                each.connection.close();
+            } catch (final SQLException ex) {
+                exceptions.add(ex);
+            }
+        }
+        targets.clear();
+        if (!exceptions.isEmpty()) {
+            throw exceptions.iterator().next();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CopyInTarget {
+        
+        private final Connection connection;
+        
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        
+        private CopyIn copyIn;
+        
+        private void open(final String sql) throws SQLException {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+        
+        private void write(final byte[] row) throws SQLException {
+            buffer.write(row, 0, row.length);
+            if (buffer.size() >= BUFFER_SIZE) {
+                flush();
+            }
+        }
+        
+        private void flush() throws SQLException {
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                buffer.reset();
+            }
+        }
+        
+        private long complete() throws SQLException {
+            flush();
+            return copyIn.endCopy();
+        }
+        
+        private void cancel() throws SQLException {
+            if (null != copyIn && copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Router for PostgreSQL copy, which routes each row of copy data with sharding strategies of table.
+ */
+public final class PostgreSQLCopyRouter {
+    
+    private final String logicTableName;
+    
+    private final TableRule tableRule;
+    
+    private final boolean broadcastTable;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final List<String> columnNames;
+    
+    private final TableMetaData tableMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    public PostgreSQLCopyRouter(final ShardingRule shardingRule, final String logicTableName, final List<String> columnNames,
+                                final TableMetaData tableMetaData, final ConfigurationProperties props) {
+        this.logicTableName = logicTableName;
+        tableRule = shardingRule.getTableRule(logicTableName);
+        broadcastTable = shardingRule.isBroadcastTable(logicTableName);
+        databaseShardingStrategy = broadcastTable ? new NoneShardingStrategy() : createShardingStrategy(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(tableRule));
+        tableShardingStrategy = broadcastTable ? new NoneShardingStrategy() : createShardingStrategy(shardingRule, shardingRule.getTableShardingStrategyConfiguration(tableRule));
+        this.columnNames = columnNames;
+        this.tableMetaData = tableMetaData;
+        this.props = props;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        ShardingStrategy result = null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+        if (result instanceof HintShardingStrategy) {
+            throw new ShardingSphereException("COPY does not support hint sharding strategy of table `%s`", logicTableName);
+        }
+        return result;
+    }
+    
+    /**
+     * Get data nodes to copy out from.
+     *
+     * @return data nodes to copy out from
+     */
+    public List<DataNode> getCopyOutDataNodes() {
+        List<DataNode> result = tableRule.getActualDataNodes();
+        return broadcastTable ? result.subList(0, 1) : result;
+    }
+    
+    /**
+     * Route row.
+     *
+     * @param fields field values of row
+     * @return routed data nodes
+     */
+    public Collection<DataNode> route(final List<String> fields) {
+        if (broadcastTable) {
+            return tableRule.getActualDataNodes();
+        }
+        Collection<String> dataSourceNames = routeTargets(databaseShardingStrategy, tableRule.getActualDatasourceNames(), fields);
+        Preconditions.checkState(1 == dataSourceNames.size(), "COPY row of table `%s` must be routed to only one data source.", logicTableName);
+        String dataSourceName = dataSourceNames.iterator().next();
+        Collection<String> tableNames = routeTargets(tableShardingStrategy, tableRule.getActualTableNames(dataSourceName), fields);
+        Preconditions.checkState(1 == tableNames.size(), "COPY row of table `%s` must be routed to only one table.", logicTableName);
+        return Collections.singleton(new DataNode(dataSourceName, tableNames.iterator().next()));
+    }
+    
+    private Collection<String> routeTargets(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final List<String> fields) {
+        if (shardingStrategy.getShardingColumns().isEmpty()) {
+            return availableTargetNames;
+        }
+        List<ShardingConditionValue> shardingConditionValues = new ArrayList<>(shardingStrategy.getShardingColumns().size());
+        for (String each : shardingStrategy.getShardingColumns()) {
+            shardingConditionValues.add(new ListShardingConditionValue<>(each, logicTableName, Collections.singletonList(getShardingValue(each, fields))));
+        }
+        return shardingStrategy.doSharding(availableTargetNames, shardingConditionValues, props);
+    }
+    
+    private Comparable<?> getShardingValue(final String shardingColumn, final List<String> fields) {
+        int index = columnNames.indexOf(shardingColumn.toLowerCase());
+        Preconditions.checkState(index >= 0 && index < fields.size(), "Can not find sharding column `%s` in COPY data of table `%s`.", shardingColumn, logicTableName);
+        String value = fields.get(index);
+        Preconditions.checkState(null != value, "Sharding column `%s` of table `%s` can not be null.", shardingColumn, logicTableName);
+        ColumnMetaData columnMetaData = null == tableMetaData ? null : tableMetaData.getColumns().get(shardingColumn.toLowerCase());
+        return null == columnMetaData ? value : convert(value, columnMetaData.getDataType());
+    }
+    
+    private Comparable<?> convert(final String value, final int dataType) {
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                long longValue = Long.parseLong(value);
+                return longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE ? (Comparable<?>) (int) longValue : (Comparable<?>) longValue;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.parseDouble(value);
+            case Types.DATE:
+                return Date.valueOf(value);
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value);
+            default:
+                return value;
+        }
+    }
+}
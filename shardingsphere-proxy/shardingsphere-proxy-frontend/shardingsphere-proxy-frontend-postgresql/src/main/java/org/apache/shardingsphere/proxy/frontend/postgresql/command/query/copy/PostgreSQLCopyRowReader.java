@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row reader for PostgreSQL copy data, which splits copy data frames into rows and parses fields of text or CSV format.
+ *
+ * @see <a href="https://www.postgresql.org/docs/13/sql-copy.html">COPY</a>
+ */
+public final class PostgreSQLCopyRowReader {
+    
+    private static final byte LINE_FEED = '\n';
+    
+    private static final byte CARRIAGE_RETURN = '\r';
+    
+    private static final byte BACKSLASH = '\\';
+    
+    private final boolean csv;
+    
+    private final byte delimiter;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private final Charset charset;
+    
+    private final ByteArrayOutputStream pendingRow = new ByteArrayOutputStream();
+    
+    private boolean inQuote;
+    
+    public PostgreSQLCopyRowReader(final Map<String, String> options, final Charset charset) {
+        csv = "csv".equals(options.get("format"));
+        delimiter = getOptionByte(options, "delimiter", csv ? ',' : '\t');
+        quote = getOptionByte(options, "quote", '"');
+        escape = getOptionByte(options, "escape", (char) quote);
+        this.charset = charset;
+    }
+    
+    private static byte getOptionByte(final Map<String, String> options, final String name, final char defaultValue) {
+        String value = options.get(name);
+        return (byte) (null == value || value.isEmpty() ? defaultValue : value.charAt(0));
+    }
+    
+    /**
+     * Read complete rows from copy data, incomplete row at the end of data is kept until next read.
+     *
+     * @param data copy data
+     * @return complete rows with line terminator
+     */
+    public List<byte[]> read(final byte[] data) {
+        List<byte[]> result = new LinkedList<>();
+        int rowStart = 0;
+        int index = 0;
+        while (index < data.length) {
+            byte each = data[index++];
+            if (csv && inQuote && escape != quote && escape == each) {
+                index++;
+            } else if (csv && quote == each) {
+                inQuote = !inQuote;
+            } else if (LINE_FEED == each && !inQuote) {
+                result.add(completeRow(data, rowStart, index));
+                rowStart = index;
+            }
+        }
+        pendingRow.write(data, rowStart, data.length - rowStart);
+        return result;
+    }
+    
+    private byte[] completeRow(final byte[] data, final int start, final int end) {
+        if (0 == pendingRow.size()) {
+            byte[] result = new byte[end - start];
+            System.arraycopy(data, start, result, 0, result.length);
+            return result;
+        }
+        pendingRow.write(data, start, end - start);
+        byte[] result = pendingRow.toByteArray();
+        pendingRow.reset();
+        return result;
+    }
+    
+    /**
+     * Judge whether row is end-of-data marker.
+     *
+     * @param row row
+     * @return is end-of-data marker or not
+     */
+    public boolean isEndOfData(final byte[] row) {
+        int length = getContentLength(row);
+        return !csv && 2 == length && BACKSLASH == row[0] && '.' == row[1];
+    }
+    
+    /**
+     * Parse fields of row.
+     *
+     * @param row row
+     * @return field values, null for SQL null
+     */
+    public List<String> parseFields(final byte[] row) {
+        return csv ? parseCSVFields(row, getContentLength(row)) : parseTextFields(row, getContentLength(row));
+    }
+    
+    private int getContentLength(final byte[] row) {
+        int result = row.length;
+        if (result > 0 && LINE_FEED == row[result - 1]) {
+            result--;
+        }
+        if (result > 0 && CARRIAGE_RETURN == row[result - 1]) {
+            result--;
+        }
+        return result;
+    }
+    
+    private List<String> parseTextFields(final byte[] row, final int length) {
+        List<String> result = new ArrayList<>();
+        ByteArrayOutputStream field = new ByteArrayOutputStream();
+        boolean nullField = false;
+        int index = 0;
+        while (index < length) {
+            byte each = row[index++];
+            if (delimiter == each) {
+                result.add(nullField ? null : new String(field.toByteArray(), charset));
+                field.reset();
+                nullField = false;
+            } else if (BACKSLASH == each && index < length) {
+                byte next = row[index++];
+                nullField = 'N' == next && 0 == field.size();
+                if (!nullField) {
+                    field.write(unescape(next));
+                }
+            } else {
+                field.write(each);
+            }
+        }
+        result.add(nullField ? null : new String(field.toByteArray(), charset));
+        return result;
+    }
+    
+    private byte unescape(final byte value) {
+        switch (value) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return LINE_FEED;
+            case 'r':
+                return CARRIAGE_RETURN;
+            case 't':
+                return '\t';
+            case 'v':
+                return 0x0B;
+            default:
+                return value;
+        }
+    }
+    
+    private List<String> parseCSVFields(final byte[] row, final int length) {
+        List<String> result = new ArrayList<>();
+        ByteArrayOutputStream field = new ByteArrayOutputStream();
+        boolean quoted = false;
+        boolean inQuotedField = false;
+        int index = 0;
+        while (index < length) {
+            byte each = row[index++];
+            if (inQuotedField && escape == each && index < length && quote == row[index]) {
+                field.write(quote);
+                index++;
+            } else if (quote == each) {
+                inQuotedField = !inQuotedField;
+                quoted = true;
+            } else if (delimiter == each && !inQuotedField) {
+                result.add(!quoted && 0 == field.size() ? null : new String(field.toByteArray(), charset));
+                field.reset();
+                quoted = false;
+            } else {
+                field.write(each);
+            }
+        }
+        result.add(!quoted && 0 == field.size() ? null : new String(field.toByteArray(), charset));
+        return result;
+    }
+}
@@ -19,13 +19,16 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple
 
 import lombok.Getter;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowEncoder;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLEmptyQueryResponsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
@@ -34,7 +37,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResp
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandlerFactory;
-import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.PayloadWritableQueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
@@ -44,20 +47,26 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.CommitState
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.RollbackStatement;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Command query executor for PostgreSQL.
  */
-public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
+public final class PostgreSQLComQueryExecutor implements PayloadWritableQueryCommandExecutor {
+    
+    private static final PostgreSQLDataRowEncoder ROW_ENCODER = new PostgreSQLDataRowEncoder();
     
     private final PostgreSQLConnectionContext connectionContext;
     
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
+    private final List<Object> rowData = new ArrayList<>();
+    
     @Getter
     private volatile ResponseType responseType;
     
@@ -112,6 +121,13 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
         return new PostgreSQLDataRowPacket(textProtocolBackendHandler.getRowData());
     }
     
+    @Override
+    public int writeQueryRow(final PacketPayload payload) throws SQLException {
+        textProtocolBackendHandler.loadRowData(rowData);
+        ROW_ENCODER.encodePacket((PostgreSQLPacketPayload) payload, rowData);
+        return 1;
+    }
+    
     @Override
     public void close() throws SQLException {
         textProtocolBackendHandler.close();
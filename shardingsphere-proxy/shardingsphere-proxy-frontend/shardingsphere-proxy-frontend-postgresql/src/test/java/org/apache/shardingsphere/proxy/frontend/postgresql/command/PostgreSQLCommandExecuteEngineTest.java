@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import io.netty.util.Attribute;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -36,6 +40,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 import static org.junit.Assert.assertFalse;
@@ -97,6 +103,7 @@ public final class PostgreSQLCommandExecuteEngineTest {
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
     }
     
+    @SuppressWarnings("unchecked")
     @Test
     public void assertWriteQueryDataWithHasNextResult() throws SQLException {
         PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
@@ -104,19 +111,45 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
+        Attribute<Charset> charsetAttribute = mock(Attribute.class);
+        when(charsetAttribute.get()).thenReturn(StandardCharsets.UTF_8);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(charsetAttribute);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
         ResourceLock resourceLock = mock(ResourceLock.class);
         JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
         when(backendConnection.getResourceLock()).thenReturn(resourceLock);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
-        PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
-        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
         PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
         boolean actual = commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
         assertTrue(actual);
         verify(resourceLock).doAwait();
-        verify(channelHandlerContext).write(packet);
+        verify(queryCommandExecutor).writeQueryRow(any(PostgreSQLPacketPayload.class));
+        verify(channelHandlerContext).write(isA(ByteBuf.class));
         verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
         verify(channelHandlerContext).flush();
         verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertWriteQueryDataDirectly() throws SQLException {
+        PostgreSQLComQueryExecutor queryCommandExecutor = mock(PostgreSQLComQueryExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.next()).thenReturn(true, false);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.isWritable()).thenReturn(true);
+        Attribute<Charset> charsetAttribute = mock(Attribute.class);
+        when(charsetAttribute.get()).thenReturn(StandardCharsets.UTF_8);
+        when(channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).thenReturn(charsetAttribute);
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
+        when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        boolean actual = commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
+        assertTrue(actual);
+        verify(queryCommandExecutor).writeQueryRow(any(PostgreSQLPacketPayload.class));
+        verify(channelHandlerContext).write(isA(ByteBuf.class));
+        verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
+        verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
+    }
 }
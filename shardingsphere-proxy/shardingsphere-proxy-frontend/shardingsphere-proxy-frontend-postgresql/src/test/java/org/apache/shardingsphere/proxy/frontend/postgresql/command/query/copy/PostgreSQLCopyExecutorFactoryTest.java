@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.authority.config.AuthorityRuleConfiguration;
+import org.apache.shardingsphere.authority.provider.schema.SchemaPrivilegesPermittedAuthorityProviderAlgorithm;
+import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckException;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.user.ShardingSphereUser;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLConnectionContext;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyExecutorFactoryTest {
+    
+    private static final String SQL = "COPY t_order (order_id, user_id, status) TO STDOUT";
+    
+    @Mock
+    private ContextManager contextManager;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereMetaData metaData;
+    
+    @Mock
+    private ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    @Before
+    public void setUp() throws ReflectiveOperationException {
+        Field contextManagerField = ProxyContext.getInstance().getClass().getDeclaredField("contextManager");
+        contextManagerField.setAccessible(true);
+        MetaDataContexts metaDataContexts = new MetaDataContexts(mock(MetaDataPersistService.class), Collections.singletonMap("logic_db", metaData),
+                globalRuleMetaData, mock(ExecutorEngine.class), mock(OptimizerContext.class, RETURNS_DEEP_STUBS), new ConfigurationProperties(new Properties()));
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        contextManagerField.set(ProxyContext.getInstance(), contextManager);
+        when(metaData.getResource().getDatabaseType()).thenReturn(new PostgreSQLDatabaseType());
+        when(globalRuleMetaData.findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())));
+        when(connectionSession.getSchemaName()).thenReturn("logic_db");
+        when(connectionSession.getGrantee()).thenReturn(new Grantee("root", "%"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithPrivileges() throws SQLException {
+        when(globalRuleMetaData.getRules()).thenReturn(Collections.singletonList(createAuthorityRule("root@%=logic_db")));
+        ShardingRule shardingRule = createShardingRule();
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(shardingRule));
+        when(metaData.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        Optional<CommandExecutor> actual = PostgreSQLCopyExecutorFactory.newInstance(mock(PostgreSQLConnectionContext.class), SQL, connectionSession);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(PostgreSQLComCopyOutExecutor.class));
+    }
+    
+    @Test(expected = SQLCheckException.class)
+    public void assertNewInstanceWithoutPrivileges() throws SQLException {
+        when(globalRuleMetaData.getRules()).thenReturn(Collections.singletonList(createAuthorityRule("root@%=other_db")));
+        when(metaData.getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        PostgreSQLCopyExecutorFactory.newInstance(mock(PostgreSQLConnectionContext.class), SQL, connectionSession);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        return new ShardingRule(result, Collections.singletonList("ds_0"));
+    }
+    
+    private AuthorityRule createAuthorityRule(final String userSchemaMappings) {
+        Properties props = new Properties();
+        props.setProperty(SchemaPrivilegesPermittedAuthorityProviderAlgorithm.PROP_USER_SCHEMA_MAPPINGS, userSchemaMappings);
+        AuthorityRuleConfiguration ruleConfig = new AuthorityRuleConfiguration(Collections.singletonList(new ShardingSphereUser("root", "", "%")),
+                new ShardingSphereAlgorithmConfiguration("SCHEMA_PRIVILEGES_PERMITTED", props));
+        return new AuthorityRule(ruleConfig, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInDispatcherTest {
+    
+    private static final DataNode DATA_NODE = new DataNode("ds_0", "t_order_0");
+    
+    @Mock
+    private PostgreSQLCopyRouter router;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private CopyIn copyIn;
+    
+    private ContextManager originalContextManager;
+    
+    @Before
+    public void setUp() throws SQLException {
+        originalContextManager = ProxyContext.getInstance().getContextManager();
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(contextManager.getMetaDataContexts().getMetaData("db").getResource().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        when(contextManager.getMetaDataContexts().getGlobalRuleMetaData().getRules()).thenReturn(Collections.emptyList());
+        when(contextManager.getTransactionContexts().getEngines()).thenReturn(Collections.singletonMap("db", new ShardingSphereTransactionManagerEngine()));
+        ProxyContext.getInstance().init(contextManager);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        CopyManager copyManager = mock(CopyManager.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn("COPY t_order_0 FROM STDIN")).thenReturn(copyIn);
+    }
+    
+    @After
+    public void tearDown() {
+        ProxyContext.getInstance().init(originalContextManager);
+    }
+    
+    private PostgreSQLCopyInDispatcher createDispatcher() {
+        return new PostgreSQLCopyInDispatcher("db", dataNode -> "COPY " + dataNode.getTableName() + " FROM STDIN", router,
+                new PostgreSQLCopyRowReader(Collections.emptyMap(), StandardCharsets.UTF_8), false);
+    }
+    
+    @Test
+    public void assertDispatchAndComplete() throws SQLException {
+        when(router.route(any())).thenReturn(Collections.singleton(DATA_NODE));
+        when(copyIn.endCopy()).thenReturn(2L);
+        PostgreSQLCopyInDispatcher dispatcher = createDispatcher();
+        dispatcher.dispatch(bytes("1\t10\n2\t1"));
+        dispatcher.dispatch(bytes("0\n\\.\n"));
+        assertThat(dispatcher.complete(), is(2L));
+        verify(router, times(2)).route(any());
+        verify(copyIn).writeToCopy(any(byte[].class), eq(0), eq(10));
+        verify(connection).close();
+    }
+    
+    @Test
+    public void assertDispatchAfterFailure() throws SQLException {
+        IllegalStateException ex = new IllegalStateException("Sharding column can not be null.");
+        when(router.route(any())).thenReturn(Collections.singleton(DATA_NODE)).thenThrow(ex);
+        when(copyIn.isActive()).thenReturn(true);
+        PostgreSQLCopyInDispatcher dispatcher = createDispatcher();
+        dispatcher.dispatch(bytes("1\t10\n\\N\t\\N\n"));
+        verify(copyIn).cancelCopy();
+        verify(connection).close();
+        dispatcher.dispatch(bytes("3\t12\n"));
+        verify(router, times(2)).route(any());
+        try {
+            dispatcher.complete();
+            fail("Expected failure of dispatching is not thrown.");
+        } catch (final IllegalStateException actual) {
+            assertThat(actual, is(ex));
+        }
+        verify(copyIn, never()).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        verify(copyIn, never()).endCopy();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCheckFailureWithSQLException() throws SQLException {
+        when(router.route(any())).thenReturn(Collections.singleton(DATA_NODE));
+        when(copyIn.isActive()).thenReturn(true);
+        PostgreSQLCopyInDispatcher dispatcher = createDispatcher();
+        dispatcher.dispatch(bytes("1\t10\n"));
+        when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException("Connection is closed."));
+        when(router.route(any())).thenReturn(Collections.singleton(new DataNode("ds_0", "t_order_1")));
+        dispatcher.dispatch(bytes("2\t11\n"));
+        dispatcher.checkFailure();
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        when(router.route(any())).thenReturn(Collections.singleton(DATA_NODE));
+        when(copyIn.isActive()).thenReturn(true);
+        PostgreSQLCopyInDispatcher dispatcher = createDispatcher();
+        dispatcher.dispatch(bytes("1\t10\n"));
+        dispatcher.cancel();
+        verify(copyIn).cancelCopy();
+        verify(connection).close();
+    }
+    
+    private static byte[] bytes(final String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PostgreSQLCopyRouterTest {
+    
+    private static final List<String> COLUMN_NAMES = Arrays.asList("order_id", "user_id", "status");
+    
+    private ShardingRule shardingRule;
+    
+    @Before
+    public void setUp() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        shardingRuleConfig.getTables().add(tableRuleConfig);
+        shardingRuleConfig.getBroadcastTables().add("t_config");
+        shardingRuleConfig.getShardingAlgorithms().put("ds_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 2}"));
+        shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    private PostgreSQLCopyRouter createRouter(final String logicTableName) {
+        TableMetaData tableMetaData = new TableMetaData(logicTableName, Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        return new PostgreSQLCopyRouter(shardingRule, logicTableName, COLUMN_NAMES, tableMetaData, new ConfigurationProperties(new Properties()));
+    }
+    
+    @Test
+    public void assertRoute() {
+        Collection<DataNode> actual = createRouter("t_order").route(Arrays.asList("1", "10", "OK"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(new DataNode("ds_0", "t_order_1")));
+    }
+    
+    @Test
+    public void assertRouteToAnotherDataNode() {
+        Collection<DataNode> actual = createRouter("t_order").route(Arrays.asList("2", "11", "OK"));
+        assertThat(actual.iterator().next(), is(new DataNode("ds_1", "t_order_0")));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRouteWithNullShardingValue() {
+        createRouter("t_order").route(Arrays.asList("1", null, "OK"));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertRouteWithMissingShardingColumn() {
+        createRouter("t_order").route(Collections.singletonList("1"));
+    }
+    
+    @Test
+    public void assertRouteBroadcastTable() {
+        assertThat(createRouter("t_config").route(Arrays.asList("1", "10", "OK")).size(), is(2));
+    }
+    
+    @Test
+    public void assertGetCopyOutDataNodes() {
+        assertThat(createRouter("t_order").getCopyOutDataNodes().size(), is(4));
+    }
+    
+    @Test
+    public void assertGetCopyOutDataNodesOfBroadcastTable() {
+        assertThat(createRouter("t_config").getCopyOutDataNodes().size(), is(1));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyRowReaderTest {
+    
+    @Test
+    public void assertReadRowsAcrossData() {
+        PostgreSQLCopyRowReader reader = new PostgreSQLCopyRowReader(Collections.emptyMap(), StandardCharsets.UTF_8);
+        List<byte[]> actual = reader.read(bytes("1\tfoo\n2\tb"));
+        assertThat(actual.size(), is(1));
+        assertThat(new String(actual.get(0), StandardCharsets.UTF_8), is("1\tfoo\n"));
+        actual = reader.read(bytes("ar\n\\.\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(new String(actual.get(0), StandardCharsets.UTF_8), is("2\tbar\n"));
+        assertFalse(reader.isEndOfData(actual.get(0)));
+        assertTrue(reader.isEndOfData(actual.get(1)));
+    }
+    
+    @Test
+    public void assertParseTextFields() {
+        PostgreSQLCopyRowReader reader = new PostgreSQLCopyRowReader(Collections.emptyMap(), StandardCharsets.UTF_8);
+        assertThat(reader.parseFields(bytes("1\ta\\tb\\\\c\t\\N\t\n")), is(Arrays.asList("1", "a\tb\\c", null, "")));
+    }
+    
+    @Test
+    public void assertParseTextFieldsWithDelimiter() {
+        Map<String, String> options = new HashMap<>(1, 1);
+        options.put("delimiter", "|");
+        PostgreSQLCopyRowReader reader = new PostgreSQLCopyRowReader(options, StandardCharsets.UTF_8);
+        assertThat(reader.parseFields(bytes("1|a\tb\r\n")), is(Arrays.asList("1", "a\tb")));
+    }
+    
+    @Test
+    public void assertReadCSVRowsWithQuotedLineFeed() {
+        PostgreSQLCopyRowReader reader = new PostgreSQLCopyRowReader(Collections.singletonMap("format", "csv"), StandardCharsets.UTF_8);
+        List<byte[]> actual = reader.read(bytes("1,\"a\nb\"\n2,c\n"));
+        assertThat(actual.size(), is(2));
+        assertThat(reader.parseFields(actual.get(0)), is(Arrays.asList("1", "a\nb")));
+        assertThat(reader.parseFields(actual.get(1)), is(Arrays.asList("2", "c")));
+    }
+    
+    @Test
+    public void assertParseCSVFields() {
+        PostgreSQLCopyRowReader reader = new PostgreSQLCopyRowReader(Collections.singletonMap("format", "csv"), StandardCharsets.UTF_8);
+        assertThat(reader.parseFields(bytes("1,\"x,\"\"y\"\"\",,\"\"\n")), is(Arrays.asList("1", "x,\"y\"", null, "")));
+    }
+    
+    private byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
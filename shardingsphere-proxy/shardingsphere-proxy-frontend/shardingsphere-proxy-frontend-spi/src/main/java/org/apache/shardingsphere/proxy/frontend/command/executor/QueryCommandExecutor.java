@@ -48,4 +48,5 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket<?> getQueryRowPacket() throws SQLException;
+
 }
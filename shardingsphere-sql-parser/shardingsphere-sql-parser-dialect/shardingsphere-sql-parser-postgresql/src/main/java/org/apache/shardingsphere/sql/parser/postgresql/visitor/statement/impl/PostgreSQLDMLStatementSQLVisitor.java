@@ -23,11 +23,18 @@ import org.apache.shardingsphere.sql.parser.api.visitor.operation.SQLStatementVi
 import org.apache.shardingsphere.sql.parser.api.visitor.type.DMLSQLVisitor;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CallContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.DoStatementContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.ColumnElemContext;
 import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyGenericOptElemContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptItemContext;
+import org.apache.shardingsphere.sql.parser.autogen.PostgreSQLStatementParser.CopyOptionsContext;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCallStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLCopyStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLDoStatement;
 
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -52,6 +59,51 @@ public final class PostgreSQLDMLStatementSQLVisitor extends PostgreSQLStatementS
     
     @Override
     public ASTNode visitCopy(final CopyContext ctx) {
-        return new PostgreSQLCopyStatement();
+        PostgreSQLCopyStatement result = new PostgreSQLCopyStatement();
+        if (null != ctx.qualifiedName()) {
+            result.setTable(createTableSegment(ctx.qualifiedName()));
+        }
+        if (null != ctx.columnList()) {
+            for (ColumnElemContext each : ctx.columnList().columnElem()) {
+                result.getColumns().add(new ColumnSegment(each.start.getStartIndex(), each.stop.getStopIndex(), new IdentifierValue(each.getText())));
+            }
+        }
+        result.setFrom(null != ctx.FROM());
+        result.setStandardIO(null != ctx.STDIN() || null != ctx.STDOUT());
+        if (null != ctx.BINARY()) {
+            result.getOptions().put("format", "binary");
+        }
+        if (null != ctx.copyDelimiter()) {
+            result.getOptions().put("delimiter", getStringValue(ctx.copyDelimiter().STRING_().getText()));
+        }
+        if (null != ctx.copyOptions()) {
+            putCopyOptions(ctx.copyOptions(), result.getOptions());
+        }
+        return result;
+    }
+    
+    private void putCopyOptions(final CopyOptionsContext ctx, final Map<String, String> options) {
+        if (null != ctx.copyGenericOptList()) {
+            for (CopyGenericOptElemContext each : ctx.copyGenericOptList().copyGenericOptElem()) {
+                options.put(each.colLabel().getText().toLowerCase(), getStringValue(each.copyGenericOptArg().getText()));
+            }
+            return;
+        }
+        for (CopyOptItemContext each : ctx.copyOptList().copyOptItem()) {
+            if (null != each.FORCE() || null != each.FREEZE()) {
+                continue;
+            }
+            if (null != each.BINARY() || null != each.CSV()) {
+                options.put("format", each.getText().toLowerCase());
+            } else if (null != each.HEADER()) {
+                options.put("header", "true");
+            } else {
+                options.put(each.getChild(0).getText().toLowerCase(), getStringValue(each.STRING_().getText()));
+            }
+        }
+    }
+    
+    private String getStringValue(final String text) {
+        return text.startsWith("'") && text.endsWith("'") && text.length() > 1 ? text.substring(1, text.length() - 1).replace("''", "'") : text.toLowerCase();
     }
 }
@@ -593,11 +593,19 @@ public abstract class PostgreSQLStatementSQLVisitor extends PostgreSQLStatementB
     
     @Override
     public ASTNode visitInsertTarget(final InsertTargetContext ctx) {
-        QualifiedNameContext qualifiedName = ctx.qualifiedName();
+        SimpleTableSegment result = createTableSegment(ctx.qualifiedName());
+        if (null != ctx.AS()) {
+            ColIdContext colId = ctx.colId();
+            result.setAlias(new AliasSegment(colId.start.getStartIndex(), colId.stop.getStopIndex(), new IdentifierValue(colId.getText())));
+        }
+        return result;
+    }
+    
+    protected final SimpleTableSegment createTableSegment(final QualifiedNameContext qualifiedName) {
         OwnerSegment owner = null;
         TableNameSegment tableName;
         if (null != qualifiedName.indirection()) {
-            ColIdContext colId = ctx.qualifiedName().colId();
+            ColIdContext colId = qualifiedName.colId();
             owner = new OwnerSegment(colId.start.getStartIndex(), colId.stop.getStopIndex(), new IdentifierValue(colId.getText()));
             AttrNameContext attrName = qualifiedName.indirection().indirectionEl().attrName();
             tableName = new TableNameSegment(attrName.start.getStartIndex(), attrName.stop.getStopIndex(), new IdentifierValue(attrName.getText()));
@@ -606,10 +614,6 @@ public abstract class PostgreSQLStatementSQLVisitor extends PostgreSQLStatementB
         }
         SimpleTableSegment result = new SimpleTableSegment(tableName);
         result.setOwner(owner);
-        if (null != ctx.AS()) {
-            ColIdContext colId = ctx.colId();
-            result.setAlias(new AliasSegment(colId.start.getStartIndex(), colId.stop.getStopIndex(), new IdentifierValue(colId.getText())));
-        }
         return result;
     }
     
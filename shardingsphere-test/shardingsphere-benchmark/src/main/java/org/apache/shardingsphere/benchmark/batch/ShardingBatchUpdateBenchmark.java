@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.batch;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for batch update of ShardingSphere prepared statement on H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingBatchUpdateBenchmark {
+    
+    private static final String SQL = "UPDATE t_order SET status = ? WHERE order_id = ? AND user_id = ?";
+    
+    private static final int USER_COUNT = 10;
+    
+    @Param({"100", "1000"})
+    private int batchSize;
+    
+    @Param({"false", "true"})
+    private boolean singleBind;
+    
+    private ShardingSphereDataSource dataSource;
+    
+    private Connection connection;
+    
+    private PreparedStatement preparedStatement;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(ShardingBenchmarkFixture.DATA_SOURCE_NAMES.size(), 1);
+        for (String each : ShardingBenchmarkFixture.DATA_SOURCE_NAMES) {
+            dataSourceMap.put(each, createDataSource(each));
+        }
+        dataSource = (ShardingSphereDataSource) ShardingSphereDataSourceFactory.createDataSource(
+                dataSourceMap, Collections.singletonList(ShardingBenchmarkFixture.createShardingRuleConfiguration()), createProperties());
+        connection = dataSource.getConnection();
+        preparedStatement = connection.prepareStatement(SQL);
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.SQL_BATCH_SINGLE_BIND_ENABLED.getKey(), String.valueOf(singleBind));
+        return result;
+    }
+    
+    private DataSource createDataSource(final String dataSourceName) throws SQLException {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName));
+        result.setUsername("sa");
+        result.setPassword("");
+        int dataSourceIndex = Integer.parseInt(dataSourceName.substring(dataSourceName.length() - 1));
+        try (
+                Connection actualConnection = result.getConnection();
+                Statement statement = actualConnection.createStatement()) {
+            for (int i = 0; i < 2; i++) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45))", i));
+            }
+            for (int orderId = 0; orderId < batchSize; orderId++) {
+                int userId = orderId % USER_COUNT;
+                if (dataSourceIndex == userId % 2) {
+                    statement.execute(String.format("MERGE INTO t_order_%d VALUES (%d, %d, 'INIT')", orderId % 2, orderId, userId));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        preparedStatement.close();
+        connection.close();
+        dataSource.close();
+    }
+    
+    /**
+     * Add batch and execute batch.
+     * 
+     * @return update counts
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int[] executeBatch() throws SQLException {
+        for (int orderId = 0; orderId < batchSize; orderId++) {
+            preparedStatement.setString(1, "OK");
+            preparedStatement.setLong(2, orderId);
+            preparedStatement.setInt(3, orderId % USER_COUNT);
+            preparedStatement.addBatch();
+        }
+        return preparedStatement.executeBatch();
+    }
+}
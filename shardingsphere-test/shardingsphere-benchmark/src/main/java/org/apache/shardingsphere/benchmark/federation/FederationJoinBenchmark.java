@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.federation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.driver.api.ShardingSphereDataSourceFactory;
+import org.apache.shardingsphere.driver.jdbc.core.datasource.ShardingSphereDataSource;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for federated join of sharding tables on same data sources on H2.
+ * 
+ * <p>Table scans of {@code t_order} and {@code t_user} are prefetched concurrently with separate connections in auto commit mode,
+ * and executed serially in transaction.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FederationJoinBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, u.user_name FROM t_order o INNER JOIN t_user u ON o.user_id = u.user_id";
+    
+    private static final int ORDER_COUNT = 10000;
+    
+    private static final int USER_COUNT = 1000;
+    
+    @Param({"true", "false"})
+    private boolean autoCommit;
+    
+    private ShardingSphereDataSource dataSource;
+    
+    private Connection connection;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(ShardingBenchmarkFixture.DATA_SOURCE_NAMES.size(), 1);
+        for (String each : ShardingBenchmarkFixture.DATA_SOURCE_NAMES) {
+            dataSourceMap.put(each, createDataSource(each));
+        }
+        dataSource = (ShardingSphereDataSource) ShardingSphereDataSourceFactory.createDataSource(
+                dataSourceMap, Collections.singletonList(ShardingBenchmarkFixture.createShardingRuleConfiguration()), createProperties());
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(autoCommit);
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_ENABLED.getKey(), Boolean.TRUE.toString());
+        return result;
+    }
+    
+    private DataSource createDataSource(final String dataSourceName) throws SQLException {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(String.format("jdbc:h2:mem:federation_benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName));
+        result.setUsername("sa");
+        result.setPassword("");
+        int dataSourceIndex = Integer.parseInt(dataSourceName.substring(dataSourceName.length() - 1));
+        try (
+                Connection actualConnection = result.getConnection();
+                Statement statement = actualConnection.createStatement()) {
+            for (int i = 0; i < 2; i++) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_order_%d (order_id BIGINT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45))", i));
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_user_%d (user_id BIGINT PRIMARY KEY, user_name VARCHAR(45))", i));
+            }
+            for (int orderId = 0; orderId < ORDER_COUNT; orderId++) {
+                int userId = orderId % USER_COUNT;
+                if (dataSourceIndex == userId % 2) {
+                    statement.execute(String.format("MERGE INTO t_order_%d VALUES (%d, %d, 'INIT')", orderId % 2, orderId, userId));
+                }
+            }
+            for (int userId = dataSourceIndex; userId < USER_COUNT; userId += 2) {
+                statement.execute(String.format("MERGE INTO t_user_%d VALUES (%d, 'user_%d')", userId % 2, userId, userId));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.close();
+        dataSource.close();
+    }
+    
+    /**
+     * Execute federated join and read all rows.
+     * 
+     * @return row count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int executeQuery() throws SQLException {
+        int result = 0;
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SQL)) {
+            while (resultSet.next()) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Sharding benchmark fixture.
+ * 
+ * <p>Tables {@code t_order} and {@code t_order_item} are binding tables sharded by {@code user_id} and {@code order_id},
+ * {@code t_user} is sharded by {@code user_id} only and {@code t_config} is a broadcast table.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingBenchmarkFixture {
+    
+    public static final Collection<String> DATA_SOURCE_NAMES = Arrays.asList("ds_0", "ds_1");
+    
+    /**
+     * Create sharding rule configuration.
+     * 
+     * @return sharding rule configuration
+     */
+    public static ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTables().add(createTableRuleConfiguration("t_order", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_order_item", "order_id"));
+        result.getTables().add(createTableRuleConfiguration("t_user", "user_id"));
+        result.getBindingTableGroups().add("t_order, t_order_item");
+        result.getBroadcastTables().add("t_config");
+        result.getShardingAlgorithms().put("database_inline", createInlineAlgorithm("ds_${user_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_inline", createInlineAlgorithm("t_order_${order_id % 2}"));
+        result.getShardingAlgorithms().put("t_order_item_inline", createInlineAlgorithm("t_order_item_${order_id % 2}"));
+        result.getShardingAlgorithms().put("t_user_inline", createInlineAlgorithm("t_user_${user_id % 2}"));
+        return result;
+    }
+    
+    private static ShardingTableRuleConfiguration createTableRuleConfiguration(final String logicTable, final String tableShardingColumn) {
+        ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration(logicTable, "ds_${0..1}." + logicTable + "_${0..1}");
+        result.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        result.setTableShardingStrategy(new StandardShardingStrategyConfiguration(tableShardingColumn, logicTable + "_inline"));
+        return result;
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createInlineAlgorithm(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule() {
+        return new ShardingRule(createShardingRuleConfiguration(), DATA_SOURCE_NAMES);
+    }
+    
+    /**
+     * Create schema.
+     * 
+     * @return schema
+     */
+    public static ShardingSphereSchema createSchema() {
+        Map<String, TableMetaData> tables = new LinkedHashMap<>(4, 1);
+        tables.put("t_order", createTableMetaData("t_order", "order_id", "user_id", "status"));
+        tables.put("t_order_item", createTableMetaData("t_order_item", "item_id", "order_id", "user_id", "status"));
+        tables.put("t_user", createTableMetaData("t_user", "user_id", "user_name"));
+        tables.put("t_config", createTableMetaData("t_config", "id", "value"));
+        return new ShardingSphereSchema(tables);
+    }
+    
+    private static TableMetaData createTableMetaData(final String tableName, final String primaryKeyColumn, final String... otherColumns) {
+        List<ColumnMetaData> columns = new ArrayList<>(otherColumns.length + 1);
+        columns.add(new ColumnMetaData(primaryKeyColumn, Types.BIGINT, true, false, false));
+        for (String each : otherColumns) {
+            columns.add(new ColumnMetaData(each, Types.VARCHAR, false, false, false));
+        }
+        return new TableMetaData(tableName, columns, Collections.emptyList());
+    }
+    
+    /**
+     * Create meta data.
+     * 
+     * @param databaseType database type
+     * @param rules rules
+     * @return meta data
+     */
+    public static ShardingSphereMetaData createMetaData(final DatabaseType databaseType, final Collection<ShardingSphereRule> rules) {
+        ShardingSphereResource resource = new ShardingSphereResource(Collections.emptyMap(), new DataSourcesMetaData(databaseType, Collections.emptyMap()), null, databaseType);
+        return new ShardingSphereMetaData(DefaultSchema.LOGIC_NAME, resource, new ShardingSphereRuleMetaData(Collections.emptyList(), rules), createSchema());
+    }
+    
+    /**
+     * Create SQL parser engine.
+     * 
+     * @param databaseType database type
+     * @return SQL parser engine
+     */
+    public static ShardingSphereSQLParserEngine createSQLParserEngine(final String databaseType) {
+        return new ShardingSphereSQLParserEngine(databaseType, new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()));
+    }
+    
+    /**
+     * Create SQL statement context.
+     * 
+     * @param metaData meta data
+     * @param sql SQL
+     * @param parameters SQL parameters
+     * @return SQL statement context
+     */
+    public static SQLStatementContext<?> createSQLStatementContext(final ShardingSphereMetaData metaData, final String sql, final List<Object> parameters) {
+        String databaseType = DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType());
+        return SQLStatementContextFactory.newInstance(
+                Collections.singletonMap(DefaultSchema.LOGIC_NAME, metaData), parameters, createSQLParserEngine(databaseType).parse(sql, false), DefaultSchema.LOGIC_NAME);
+    }
+}
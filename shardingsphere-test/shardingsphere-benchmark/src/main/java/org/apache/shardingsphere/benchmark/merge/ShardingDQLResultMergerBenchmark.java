@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingDQLResultMerger}.
+ * 
+ * <p>Query results are memory query results built from prepared rows, so that only the merge cost is measured.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    private static final String ORDER_BY_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id";
+    
+    private static final String GROUP_BY_SQL = "SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY order_count DESC";
+    
+    private static final String PAGINATION_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT ?, ?";
+    
+    private static final int USER_COUNT = 100;
+    
+    @Param({"4", "16"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ShardingDQLResultMerger merger;
+    
+    private SQLStatementContext<?> orderBySQLStatementContext;
+    
+    private SQLStatementContext<?> groupBySQLStatementContext;
+    
+    private SQLStatementContext<?> paginationSQLStatementContext;
+    
+    private RawQueryResultMetaData orderQueryResultMetaData;
+    
+    private RawQueryResultMetaData groupByQueryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> orderRows;
+    
+    private List<List<MemoryQueryResultDataRow>> groupByRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = DatabaseTypeRegistry.getActualDatabaseType("MySQL");
+        metaData = ShardingBenchmarkFixture.createMetaData(databaseType, Collections.singletonList(ShardingBenchmarkFixture.createShardingRule()));
+        merger = new ShardingDQLResultMerger(databaseType);
+        orderBySQLStatementContext = ShardingBenchmarkFixture.createSQLStatementContext(metaData, ORDER_BY_SQL, Collections.emptyList());
+        groupBySQLStatementContext = ShardingBenchmarkFixture.createSQLStatementContext(metaData, GROUP_BY_SQL, Collections.emptyList());
+        paginationSQLStatementContext = ShardingBenchmarkFixture.createSQLStatementContext(metaData, PAGINATION_SQL, Arrays.asList(rowCountPerShard, 20));
+        orderQueryResultMetaData = new RawQueryResultMetaData(Arrays.asList(createColumnMetaData("order_id", Types.BIGINT), 
+                createColumnMetaData("user_id", Types.INTEGER), createColumnMetaData("status", Types.VARCHAR)));
+        groupByQueryResultMetaData = new RawQueryResultMetaData(Arrays.asList(createColumnMetaData("user_id", Types.INTEGER), createColumnMetaData("order_count", Types.BIGINT)));
+        orderRows = new ArrayList<>(shardCount);
+        groupByRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            orderRows.add(createOrderRows(i));
+            groupByRows.add(createGroupByRows(i));
+        }
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String columnName, final int columnType) {
+        return new RawQueryResultColumnMetaData("t_order", columnName, columnName, columnType, "", 20, 0);
+    }
+    
+    private List<MemoryQueryResultDataRow> createOrderRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            long orderId = (long) i * shardCount + shardIndex;
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, (int) (orderId % USER_COUNT), "OK")));
+        }
+        return result;
+    }
+    
+    private List<MemoryQueryResultDataRow> createGroupByRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(i, (long) (i + shardIndex) % 10)));
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults(final RawQueryResultMetaData queryResultMetaData, final List<List<MemoryQueryResultDataRow>> rows) {
+        List<QueryResult> result = new ArrayList<>(rows.size());
+        for (List<MemoryQueryResultDataRow> each : rows) {
+            result.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        return result;
+    }
+    
+    private void consume(final MergedResult mergedResult, final int columnCount, final Blackhole blackhole) throws SQLException {
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+    
+    /**
+     * Merge with order by stream merged result.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeOrderByStream(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(orderQueryResultMetaData, orderRows), orderBySQLStatementContext, metaData.getSchema()), 3, blackhole);
+    }
+    
+    /**
+     * Merge with group by memory merged result.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeGroupByMemory(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(groupByQueryResultMetaData, groupByRows), groupBySQLStatementContext, metaData.getSchema()), 2, blackhole);
+    }
+    
+    /**
+     * Merge with pagination decorated merged result.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergePagination(final Blackhole blackhole) throws SQLException {
+        consume(merger.merge(createQueryResults(orderQueryResultMetaData, orderRows), paginationSQLStatementContext, metaData.getSchema()), 3, blackhole);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parser;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingSphereSQLParserEngine}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParserEngineBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.status, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "WHERE o.user_id = ? AND o.order_id IN (?, ?, ?) ORDER BY o.order_id DESC LIMIT ?, ?";
+    
+    @Param({"MySQL", "PostgreSQL"})
+    private String databaseType;
+    
+    private ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private String sql;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        sqlParserEngine = ShardingBenchmarkFixture.createSQLParserEngine(databaseType);
+        sql = "MySQL".equals(databaseType) ? SQL : SQL.replace("LIMIT ?, ?", "LIMIT ? OFFSET ?");
+    }
+    
+    /**
+     * Parse with SQL statement cache.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithCache() {
+        return sqlParserEngine.parse(sql, true);
+    }
+    
+    /**
+     * Parse without SQL statement cache.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseWithoutCache() {
+        return sqlParserEngine.parse(sql, false);
+    }
+}
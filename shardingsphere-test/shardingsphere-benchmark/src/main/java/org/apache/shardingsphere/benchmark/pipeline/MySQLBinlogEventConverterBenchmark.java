@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.pipeline;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.MySQLBinlogEventConverter;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogEventPacketDecoder;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for decoding MySQL binlog event packets and converting rows events to records.
+ * 
+ * <p>Each operation sends a TABLE_MAP_EVENT and a sequence of WRITE_ROWS_EVENT and UPDATE_ROWS_EVENT packets with 10 rows per event
+ * through binlog event packet decoder on benchmark thread, which stands for network thread, converts decoded events,
+ * and waits until all records are pushed to channel. Row images are decoded by converter, on decode threads if decode concurrency is greater than 1.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLBinlogEventConverterBenchmark {
+    
+    private static final String SCHEMA_NAME = "binlog_benchmark";
+    
+    private static final String TABLE_NAME = "t_order_0";
+    
+    private static final long TABLE_ID = 100L;
+    
+    private static final int EVENT_COUNT = 1000;
+    
+    private static final int ROWS_PER_EVENT = 10;
+    
+    @Param({"1", "4"})
+    private int decodeConcurrency;
+    
+    private final List<byte[]> packets = new ArrayList<>(EVENT_COUNT + 1);
+    
+    private PipelineDataSourceManager dataSourceManager;
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLBinlogEventConverter converter;
+    
+    private long pushedRecordCount;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        DumperConfiguration dumperConfig = new DumperConfiguration();
+        dumperConfig.setDataSourceConfig(new StandardPipelineDataSourceConfiguration("jdbc:h2:mem:binlog_benchmark;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", "root", "root"));
+        dumperConfig.setTableNameMap(Collections.singletonMap(TABLE_NAME, "t_order"));
+        dumperConfig.setDecodeConcurrency(decodeConcurrency);
+        dataSourceManager = new PipelineDataSourceManager();
+        try (
+                Connection connection = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            statement.execute("CREATE TABLE " + TABLE_NAME + " (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(32))");
+        }
+        PipelineTableMetaDataLoader metaDataLoader = new PipelineTableMetaDataLoader(dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig()));
+        converter = new MySQLBinlogEventConverter(dumperConfig, SCHEMA_NAME, metaDataLoader, new DiscardPipelineChannel());
+        channel = new EmbeddedChannel(new MySQLBinlogEventPacketDecoder(0));
+        channel.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        packets.add(createTableMapEventPacket());
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            packets.add(0 == i % 2 ? createWriteRowsEventPacket(i) : createUpdateRowsEventPacket(i));
+        }
+    }
+    
+    private byte[] createTableMapEventPacket() {
+        ByteBuf body = Unpooled.buffer();
+        writeTableId(body);
+        body.writeShortLE(0);
+        writeNulTerminatedString(body, SCHEMA_NAME);
+        writeNulTerminatedString(body, TABLE_NAME);
+        body.writeByte(3);
+        body.writeByte(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG.getValue());
+        body.writeByte(MySQLBinaryColumnType.MYSQL_TYPE_LONG.getValue());
+        body.writeByte(MySQLBinaryColumnType.MYSQL_TYPE_VARCHAR.getValue());
+        body.writeByte(2);
+        body.writeShortLE(32 * 4);
+        body.writeByte(0b110);
+        return createEventPacket(MySQLBinlogEventType.TABLE_MAP_EVENT, 0, body);
+    }
+    
+    private byte[] createWriteRowsEventPacket(final int eventIndex) {
+        ByteBuf body = createRowsEventBody(false);
+        for (int i = 0; i < ROWS_PER_EVENT; i++) {
+            writeRow(body, (long) eventIndex * ROWS_PER_EVENT + i, i, "INIT");
+        }
+        return createEventPacket(MySQLBinlogEventType.WRITE_ROWS_EVENTv2, eventIndex, body);
+    }
+    
+    private byte[] createUpdateRowsEventPacket(final int eventIndex) {
+        ByteBuf body = createRowsEventBody(true);
+        for (int i = 0; i < ROWS_PER_EVENT; i++) {
+            writeRow(body, (long) (eventIndex - 1) * ROWS_PER_EVENT + i, i, "INIT");
+            writeRow(body, (long) (eventIndex - 1) * ROWS_PER_EVENT + i, i, "PAID");
+        }
+        return createEventPacket(MySQLBinlogEventType.UPDATE_ROWS_EVENTv2, eventIndex, body);
+    }
+    
+    private ByteBuf createRowsEventBody(final boolean update) {
+        ByteBuf result = Unpooled.buffer();
+        writeTableId(result);
+        result.writeShortLE(0);
+        result.writeShortLE(2);
+        result.writeByte(3);
+        result.writeByte(0b111);
+        if (update) {
+            result.writeByte(0b111);
+        }
+        return result;
+    }
+    
+    private void writeRow(final ByteBuf body, final long orderId, final int userId, final String status) {
+        body.writeByte(0);
+        body.writeLongLE(orderId);
+        body.writeIntLE(userId);
+        byte[] statusBytes = status.getBytes(StandardCharsets.UTF_8);
+        body.writeByte(statusBytes.length);
+        body.writeBytes(statusBytes);
+    }
+    
+    private void writeTableId(final ByteBuf body) {
+        body.writeIntLE((int) TABLE_ID);
+        body.writeShortLE(0);
+    }
+    
+    private void writeNulTerminatedString(final ByteBuf body, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        body.writeByte(bytes.length);
+        body.writeBytes(bytes);
+        body.writeByte(0);
+    }
+    
+    private byte[] createEventPacket(final MySQLBinlogEventType eventType, final int eventIndex, final ByteBuf body) {
+        ByteBuf result = Unpooled.buffer();
+        result.writeByte(0);
+        result.writeByte(0);
+        result.writeIntLE((int) (System.currentTimeMillis() / 1000));
+        result.writeByte(eventType.getValue());
+        result.writeIntLE(1);
+        result.writeIntLE(MySQLBinlogEventHeader.MYSQL_BINLOG_EVENT_HEADER_LENGTH + body.readableBytes());
+        result.writeIntLE(eventIndex * 1024);
+        result.writeShortLE(0);
+        result.writeBytes(body);
+        body.release();
+        byte[] bytes = ByteBufUtil.getBytes(result);
+        result.release();
+        return bytes;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        converter.close();
+        dataSourceManager.close();
+    }
+    
+    /**
+     * Decode binlog event packets, convert rows events and push records to channel.
+     * 
+     * @return pushed record count
+     */
+    @Benchmark
+    public long decodeAndConvert() {
+        for (byte[] each : packets) {
+            channel.writeInbound(Unpooled.wrappedBuffer(each));
+            for (AbstractBinlogEvent event = channel.readInbound(); null != event; event = channel.readInbound()) {
+                converter.convert(event);
+            }
+        }
+        converter.flush();
+        return pushedRecordCount;
+    }
+    
+    private final class DiscardPipelineChannel implements PipelineChannel {
+        
+        @Override
+        public void pushRecord(final Record dataRecord) {
+            pushedRecordCount++;
+        }
+        
+        @Override
+        public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
+            return Collections.emptyList();
+        }
+        
+        @Override
+        public void ack(final List<Record> records) {
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.spi.ingest.channel.MemoryPipelineChannelFactory;
+import org.apache.shardingsphere.data.pipeline.core.spi.ingest.channel.RingBufferPipelineChannelFactory;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for incremental sync lag of {@link PipelineChannel}.
+ * 
+ * <p>Each operation pushes a burst of incremental records smaller than importer batch size, and waits until importer thread fetches them.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineChannelBenchmark {
+    
+    private static final int IMPORTER_BATCH_SIZE = 1000;
+    
+    @Param({MemoryPipelineChannelFactory.TYPE, RingBufferPipelineChannelFactory.TYPE})
+    private String channelType;
+    
+    @Param({"1", "100"})
+    private int recordCount;
+    
+    private final AtomicLong fetchedRecordCount = new AtomicLong();
+    
+    private PipelineChannel channel;
+    
+    private Thread importerThread;
+    
+    private volatile boolean running;
+    
+    private long pushedRecordCount;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        PipelineChannelFactory channelFactory = MemoryPipelineChannelFactory.TYPE.equals(channelType) ? new MemoryPipelineChannelFactory() : new RingBufferPipelineChannelFactory();
+        channelFactory.init();
+        channel = channelFactory.createPipelineChannel(1, new EmptyAckCallback());
+        running = true;
+        importerThread = new Thread(this::runImporter);
+        importerThread.start();
+    }
+    
+    private void runImporter() {
+        while (running) {
+            List<Record> records = channel.fetchRecords(IMPORTER_BATCH_SIZE, 3);
+            channel.ack(records);
+            fetchedRecordCount.addAndGet(records.size());
+        }
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws InterruptedException interrupted exception
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        importerThread.join();
+        channel.close();
+    }
+    
+    /**
+     * Push incremental records and wait until they are fetched by importer.
+     * 
+     * @return fetched record count
+     */
+    @Benchmark
+    public long incrementalSyncLag() {
+        for (int i = 0; i < recordCount; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        pushedRecordCount += recordCount;
+        while (fetchedRecordCount.get() < pushedRecordCount) {
+            Thread.yield();
+        }
+        return fetchedRecordCount.get();
+    }
+}
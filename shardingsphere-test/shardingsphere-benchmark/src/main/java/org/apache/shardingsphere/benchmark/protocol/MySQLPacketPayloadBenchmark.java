@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link MySQLPacketPayload}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLPacketPayloadBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.status FROM t_order o WHERE o.user_id = 10 AND o.order_id IN (1000, 1001, 1002) ORDER BY o.order_id";
+    
+    private final Collection<Object> rowData = Arrays.asList(1000L, 10, "OK", new BigDecimal("99.95"), new Timestamp(0L), null);
+    
+    private ByteBuf writeByteBuf;
+    
+    private ByteBuf readByteBuf;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        writeByteBuf = Unpooled.buffer(1024);
+        readByteBuf = Unpooled.buffer(1024);
+        new MySQLPacketPayload(readByteBuf, StandardCharsets.UTF_8).writeStringEOF(SQL);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        writeByteBuf.release();
+        readByteBuf.release();
+    }
+    
+    /**
+     * Write text result set row packet.
+     * 
+     * @return byte buffer
+     */
+    @Benchmark
+    public ByteBuf writeTextResultSetRow() {
+        writeByteBuf.clear();
+        new MySQLTextResultSetRowPacket(1, rowData).write(new MySQLPacketPayload(writeByteBuf, StandardCharsets.UTF_8));
+        return writeByteBuf;
+    }
+    
+    /**
+     * Write length encoded integers.
+     * 
+     * @return byte buffer
+     */
+    @Benchmark
+    public ByteBuf writeIntLenenc() {
+        writeByteBuf.clear();
+        MySQLPacketPayload payload = new MySQLPacketPayload(writeByteBuf, StandardCharsets.UTF_8);
+        payload.writeIntLenenc(250L);
+        payload.writeIntLenenc(65535L);
+        payload.writeIntLenenc(16777215L);
+        payload.writeIntLenenc(Long.MAX_VALUE);
+        return writeByteBuf;
+    }
+    
+    /**
+     * Read COM_QUERY packet.
+     * 
+     * @return COM_QUERY packet
+     */
+    @Benchmark
+    public MySQLComQueryPacket readComQuery() {
+        readByteBuf.readerIndex(0);
+        return new MySQLComQueryPacket(new MySQLPacketPayload(readByteBuf, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link PostgreSQLPacketPayload}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostgreSQLPacketPayloadBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.status FROM t_order o WHERE o.user_id = 10 AND o.order_id IN (1000, 1001, 1002) ORDER BY o.order_id";
+    
+    private final Collection<Object> rowData = Arrays.asList(1000L, 10, "OK", new BigDecimal("99.95"), new Timestamp(0L), null);
+    
+    private ByteBuf writeByteBuf;
+    
+    private ByteBuf readByteBuf;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        writeByteBuf = Unpooled.buffer(1024);
+        readByteBuf = Unpooled.buffer(1024);
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(readByteBuf, StandardCharsets.UTF_8);
+        payload.writeInt4(SQL.length() + 5);
+        payload.writeStringNul(SQL);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        writeByteBuf.release();
+        readByteBuf.release();
+    }
+    
+    /**
+     * Write data row packet.
+     * 
+     * @return byte buffer
+     */
+    @Benchmark
+    public ByteBuf writeDataRow() {
+        writeByteBuf.clear();
+        new PostgreSQLDataRowPacket(rowData).write(new PostgreSQLPacketPayload(writeByteBuf, StandardCharsets.UTF_8));
+        return writeByteBuf;
+    }
+    
+    /**
+     * Read simple query packet.
+     * 
+     * @return simple query packet
+     */
+    @Benchmark
+    public PostgreSQLComQueryPacket readComQuery() {
+        readByteBuf.readerIndex(0);
+        return new PostgreSQLComQueryPacket(new PostgreSQLPacketPayload(readByteBuf, StandardCharsets.UTF_8));
+    }
+}
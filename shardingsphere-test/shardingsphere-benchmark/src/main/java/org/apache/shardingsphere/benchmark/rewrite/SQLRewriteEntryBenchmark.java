@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteTemplateCache;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLRewriteEntry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteEntryBenchmark {
+    
+    private static final String SQL = "SELECT o.order_id, o.status FROM t_order o WHERE o.user_id IN (?, ?) AND o.status = ? ORDER BY o.order_id DESC LIMIT ?, ?";
+    
+    private final SQLRewriteTemplateCache rewriteTemplateCache = new SQLRewriteTemplateCache();
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private SQLRewriteEntry templateCachedSQLRewriteEntry;
+    
+    private LogicSQL logicSQL;
+    
+    private RouteContext routeContext;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        ShardingRule shardingRule = ShardingBenchmarkFixture.createShardingRule();
+        Collection<ShardingSphereRule> rules = Collections.singletonList(shardingRule);
+        ShardingSphereMetaData metaData = ShardingBenchmarkFixture.createMetaData(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), rules);
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        logicSQL = new LogicSQL(ShardingBenchmarkFixture.createSQLStatementContext(metaData, SQL, Arrays.asList(1, 2, "init", 10, 20)), SQL, Arrays.asList(1, 2, "init", 10, 20));
+        routeContext = new ShardingSQLRouter().createRouteContext(logicSQL, metaData, shardingRule, props);
+        sqlRewriteEntry = new SQLRewriteEntry(DefaultSchema.LOGIC_NAME, metaData.getSchema(), props, rules);
+        Properties templateCacheProps = new Properties();
+        templateCacheProps.setProperty(ConfigurationPropertyKey.SQL_REWRITE_TEMPLATE_CACHE_ENABLED.getKey(), Boolean.TRUE.toString());
+        templateCachedSQLRewriteEntry = new SQLRewriteEntry(DefaultSchema.LOGIC_NAME, metaData.getSchema(), new ConfigurationProperties(templateCacheProps), rules);
+    }
+    
+    /**
+     * Rewrite.
+     * 
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    }
+    
+    /**
+     * Rewrite with rewrite template cache.
+     * 
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewriteWithTemplateCache() {
+        return templateCachedSQLRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext, rewriteTemplateCache);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.fixture.ShardingBenchmarkFixture;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.sharding.route.engine.ShardingSQLRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingSQLRouter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingSQLRouterBenchmark {
+    
+    private static final String STANDARD_SQL = "SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?";
+    
+    private static final String COMPLEX_SQL = "SELECT o.order_id, u.user_name FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.order_id IN (?, ?)";
+    
+    private static final String BROADCAST_SQL = "UPDATE t_config SET value = ? WHERE id = ?";
+    
+    private final ShardingSQLRouter router = new ShardingSQLRouter();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private LogicSQL standardLogicSQL;
+    
+    private LogicSQL complexLogicSQL;
+    
+    private LogicSQL broadcastLogicSQL;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        shardingRule = ShardingBenchmarkFixture.createShardingRule();
+        metaData = ShardingBenchmarkFixture.createMetaData(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), Collections.singletonList(shardingRule));
+        standardLogicSQL = createLogicSQL(STANDARD_SQL, Arrays.asList(1, 2));
+        complexLogicSQL = createLogicSQL(COMPLEX_SQL, Arrays.asList(1, 2));
+        broadcastLogicSQL = createLogicSQL(BROADCAST_SQL, Arrays.asList("value", 1));
+    }
+    
+    private LogicSQL createLogicSQL(final String sql, final List<Object> parameters) {
+        return new LogicSQL(ShardingBenchmarkFixture.createSQLStatementContext(metaData, sql, parameters), sql, parameters);
+    }
+    
+    /**
+     * Route with standard routing engine.
+     * 
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeStandard() {
+        return router.createRouteContext(standardLogicSQL, metaData, shardingRule, props);
+    }
+    
+    /**
+     * Route with complex routing engine.
+     * 
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeComplex() {
+        return router.createRouteContext(complexLogicSQL, metaData, shardingRule, props);
+    }
+    
+    /**
+     * Route with database broadcast routing engine.
+     * 
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext routeBroadcast() {
+        return router.createRouteContext(broadcastLogicSQL, metaData, shardingRule, props);
+    }
+}
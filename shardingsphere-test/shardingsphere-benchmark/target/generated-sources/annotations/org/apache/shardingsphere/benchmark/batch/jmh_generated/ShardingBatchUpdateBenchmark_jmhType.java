@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.batch.jmh_generated;
+public class ShardingBatchUpdateBenchmark_jmhType extends ShardingBatchUpdateBenchmark_jmhType_B3 {
+}
+
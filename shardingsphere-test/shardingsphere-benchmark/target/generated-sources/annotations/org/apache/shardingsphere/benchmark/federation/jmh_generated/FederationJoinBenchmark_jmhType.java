@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.federation.jmh_generated;
+public class FederationJoinBenchmark_jmhType extends FederationJoinBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.merge.jmh_generated;
+public class ShardingDQLResultMergerBenchmark_jmhType extends ShardingDQLResultMergerBenchmark_jmhType_B3 {
+}
+
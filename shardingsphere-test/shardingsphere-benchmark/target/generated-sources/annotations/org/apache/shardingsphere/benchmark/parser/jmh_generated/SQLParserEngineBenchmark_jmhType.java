@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.parser.jmh_generated;
+public class SQLParserEngineBenchmark_jmhType extends SQLParserEngineBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.pipeline.jmh_generated;
+public class MySQLBinlogEventConverterBenchmark_jmhType extends MySQLBinlogEventConverterBenchmark_jmhType_B3 {
+}
+
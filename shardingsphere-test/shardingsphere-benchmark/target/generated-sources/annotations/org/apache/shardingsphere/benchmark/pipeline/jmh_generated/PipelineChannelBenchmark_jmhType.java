@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.pipeline.jmh_generated;
+public class PipelineChannelBenchmark_jmhType extends PipelineChannelBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.protocol.jmh_generated;
+public class MySQLPacketPayloadBenchmark_jmhType extends MySQLPacketPayloadBenchmark_jmhType_B3 {
+}
+
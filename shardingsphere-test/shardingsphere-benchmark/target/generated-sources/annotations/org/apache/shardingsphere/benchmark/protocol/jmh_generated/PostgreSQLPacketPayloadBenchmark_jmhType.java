@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.protocol.jmh_generated;
+public class PostgreSQLPacketPayloadBenchmark_jmhType extends PostgreSQLPacketPayloadBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.rewrite.jmh_generated;
+public class SQLRewriteEntryBenchmark_jmhType extends SQLRewriteEntryBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.benchmark.route.jmh_generated;
+public class ShardingSQLRouterBenchmark_jmhType extends ShardingSQLRouterBenchmark_jmhType_B3 {
+}
+
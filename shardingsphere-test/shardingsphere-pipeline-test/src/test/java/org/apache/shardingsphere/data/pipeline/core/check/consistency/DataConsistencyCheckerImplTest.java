@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsist
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.fixture.FixtureDataConsistencyCheckAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.spi.check.consistency.DataMatchDataConsistencyCheckAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineContextUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ResourceUtil;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
@@ -39,6 +40,7 @@ import java.util.Collection;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -56,6 +58,24 @@ public final class DataConsistencyCheckerImplTest {
         assertThat(resultMap.get("t_order").getSourceRecordsCount(), is(resultMap.get("t_order").getTargetRecordsCount()));
         Map<String, Boolean> dataCheckResultMap = dataConsistencyChecker.checkRecordsContent(new FixtureDataConsistencyCheckAlgorithm());
         assertTrue(dataCheckResultMap.get("t_order"));
+        assertThat(dataConsistencyChecker.getRecordsContentCheckProgress().get("t_order"), is(100));
+    }
+    
+    @Test
+    @SneakyThrows(SQLException.class)
+    public void assertDataCheckMismatchedInRange() {
+        RuleAlteredJobContext jobContext = new RuleAlteredJobContext(ResourceUtil.mockJobConfig());
+        initTableData(jobContext.getTaskConfig().getDumperConfig().getDataSourceConfig());
+        initTableData(jobContext.getTaskConfig().getImporterConfig().getDataSourceConfig());
+        DataSource targetDataSource = new PipelineDataSourceManager().getDataSource(jobContext.getTaskConfig().getImporterConfig().getDataSourceConfig());
+        try (Connection connection = targetDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET user_id = 'zzz' WHERE order_id = 999");
+        }
+        PipelineContextUtil.mockContextManager();
+        DataConsistencyChecker dataConsistencyChecker = EnvironmentCheckerFactory.newInstance(jobContext.getJobConfig());
+        Map<String, Boolean> dataCheckResultMap = dataConsistencyChecker.checkRecordsContent(new DataMatchDataConsistencyCheckAlgorithm());
+        assertFalse(dataCheckResultMap.get("t_order"));
     }
     
     @SneakyThrows(SQLException.class)
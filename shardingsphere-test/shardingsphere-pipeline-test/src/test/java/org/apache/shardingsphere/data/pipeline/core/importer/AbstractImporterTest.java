@@ -44,8 +44,11 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
@@ -63,6 +66,8 @@ public final class AbstractImporterTest {
     
     private static final String UPDATE_SQL = "UPDATE test_table SET user = ?,status = ? WHERE id = ? and user = ?";
     
+    private static final String UPSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?) ON DUPLICATE KEY UPDATE status=VALUES(status)";
+    
     @Mock
     private PipelineDataSourceManager dataSourceManager;
     
@@ -136,7 +141,22 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertUpsertDataRecord() throws SQLException {
+        DataRecord updateRecord = getDataRecord("UPDATE");
+        when(pipelineSqlBuilder.buildMultiRowUpsertSQL(updateRecord, 1)).thenReturn(Optional.of(UPSERT_SQL));
+        when(connection.prepareStatement(UPSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(updateRecord));
+        jdbcImporter.run();
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, 10);
+        verify(preparedStatement).setObject(3, "UPDATE");
         verify(preparedStatement).execute();
+        assertThat(jdbcImporter.getLastRoundMetrics().getRecordCount(), is(2));
     }
     
     @Test
@@ -153,7 +173,8 @@ public final class AbstractImporterTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 10);
-        inOrder.verify(preparedStatement).execute();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RingBufferPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsInPushedOrder() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 10L, new EmptyAckCallback());
+        List<Record> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Record record = new PlaceholderRecord(new PlaceholderPosition());
+            expected.add(record);
+            channel.pushRecord(record);
+        }
+        List<Record> actual = channel.fetchRecords(2, 1);
+        assertThat(actual, is(expected.subList(0, 2)));
+        assertThat(channel.fetchRecords(2, 1), is(expected.subList(2, 3)));
+    }
+    
+    @Test
+    public void assertFetchRecordsAfterMaxLatency() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 10L, new EmptyAckCallback());
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        long startNanos = System.nanoTime();
+        assertThat(channel.fetchRecords(10, 3).size(), is(1));
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(1L));
+    }
+    
+    @Test
+    public void assertFetchRecordsWakenUpByProducer() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, 3000L, new EmptyAckCallback());
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(2, 3));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(future.get(1L, TimeUnit.SECONDS).size(), is(2));
+    }
+    
+    @Test
+    public void assertPushRecordBlockedUntilFetched() throws InterruptedException, ExecutionException, TimeoutException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, 10L, new EmptyAckCallback());
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        assertThat(channel.fetchRecords(2, 1).size(), is(2));
+        future.get(1L, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(2, 1).size(), is(1));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.spi.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    private final AdaptiveJobRateLimitAlgorithm algorithm = new AdaptiveJobRateLimitAlgorithm();
+    
+    @Before
+    public void setUp() {
+        algorithm.setProps(createProps("1000"));
+        algorithm.init();
+    }
+    
+    @Test
+    public void assertBackOffOnSlowWrite() {
+        assertThat(algorithm.getCurrentRate(), is(1000D));
+        algorithm.intercept(JobOperationType.WRITE_LATENCY, 500);
+        assertThat(algorithm.getCurrentRate(), is(500D));
+        algorithm.intercept(JobOperationType.READ_LATENCY, 500);
+        assertThat(algorithm.getCurrentRate(), is(250D));
+    }
+    
+    @Test
+    public void assertBackOffNotBelowMinRate() {
+        for (int i = 0; i < 10; i++) {
+            algorithm.intercept(JobOperationType.WRITE_LATENCY, 1000);
+        }
+        assertThat(algorithm.getCurrentRate(), is(100D));
+    }
+    
+    @Test
+    public void assertRecoverOnFastWrite() {
+        algorithm.intercept(JobOperationType.WRITE_LATENCY, 500);
+        algorithm.intercept(JobOperationType.WRITE_LATENCY, 10);
+        assertThat(algorithm.getCurrentRate(), is(550D));
+        for (int i = 0; i < 20; i++) {
+            algorithm.intercept(JobOperationType.WRITE_LATENCY, 10);
+        }
+        assertThat(algorithm.getCurrentRate(), is(1000D));
+    }
+    
+    @Test
+    public void assertRefreshMaxRate() {
+        algorithm.intercept(JobOperationType.INSERT, 10);
+        algorithm.setProps(createProps("200"));
+        algorithm.init();
+        assertThat(algorithm.getCurrentRate(), is(200D));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithMaxRateLessThanMinRate() {
+        algorithm.setProps(createProps("50"));
+        algorithm.init();
+    }
+    
+    private Properties createProps(final String maxRate) {
+        Properties result = new Properties();
+        result.setProperty(AdaptiveJobRateLimitAlgorithm.MAX_RATE_KEY, maxRate);
+        result.setProperty(AdaptiveJobRateLimitAlgorithm.MIN_RATE_KEY, "100");
+        result.setProperty(AdaptiveJobRateLimitAlgorithm.LATENCY_THRESHOLD_KEY, "100");
+        return result;
+    }
+}
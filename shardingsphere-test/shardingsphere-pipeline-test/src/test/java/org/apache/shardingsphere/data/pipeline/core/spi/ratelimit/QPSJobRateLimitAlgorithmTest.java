@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.spi.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class QPSJobRateLimitAlgorithmTest {
+    
+    @Test
+    public void assertInitWithDefaultQPS() {
+        QPSJobRateLimitAlgorithm algorithm = new QPSJobRateLimitAlgorithm();
+        algorithm.init();
+        assertThat(algorithm.getQps(), is(50));
+    }
+    
+    @Test
+    public void assertRefreshQPS() {
+        QPSJobRateLimitAlgorithm algorithm = createAlgorithm("100");
+        assertThat(algorithm.getQps(), is(100));
+        algorithm.intercept(JobOperationType.SELECT, 1);
+        algorithm.setProps(createProps("200"));
+        algorithm.init();
+        assertThat(algorithm.getQps(), is(200));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitWithInvalidQPS() {
+        createAlgorithm("0");
+    }
+    
+    private QPSJobRateLimitAlgorithm createAlgorithm(final String qps) {
+        QPSJobRateLimitAlgorithm result = new QPSJobRateLimitAlgorithm();
+        result.setProps(createProps(qps));
+        result.init();
+        return result;
+    }
+    
+    private Properties createProps(final String qps) {
+        Properties result = new Properties();
+        result.setProperty(QPSJobRateLimitAlgorithm.QPS_KEY, qps);
+        return result;
+    }
+}